@@ -20,6 +20,10 @@ package eu.hansolo.jdktools;
 
 import eu.hansolo.jdktools.util.OutputFormat;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 
 public interface Api {
     String getUiString();
@@ -34,6 +38,21 @@ public interface Api {
 
     String toString(OutputFormat outputFormat);
 
+    /**
+     * Returns the JSON of this value in all output formats. The enum constants of this library
+     * return JSON that has been rendered once. By default a new ApiJson is returned that only
+     * renders the requested formats, implementations that want to cache their JSON create an
+     * ApiJson once and return it here.
+     * @return the JSON of this value in all output formats
+     */
+    default ApiJson getJson() { return ApiJson.lazy(this::toString); }
+
+    default void writeTo(final OutputStream outputStream, final OutputFormat outputFormat) throws IOException { getJson().writeTo(outputStream, outputFormat); }
+
+    default void writeTo(final ByteBuffer buffer, final OutputFormat outputFormat) { getJson().writeTo(buffer, outputFormat); }
+
+    default void writeTo(final Appendable appendable, final OutputFormat outputFormat) throws IOException { getJson().writeTo(appendable, outputFormat); }
+
     static Api fromText(String text) { return null; }
 }
 
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools;
+
+import eu.hansolo.jdktools.util.OutputFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+
+/**
+ * JSON of an Api value in every OutputFormat, rendered once and kept as String and as UTF-8 encoded bytes.
+ * The enum constants of this library render their JSON when they are created, so writing them to streams,
+ * buffers or appendables doesn't build the JSON again. Output formats with the same JSON share it.
+ * Implementations of Api that want the same should create their ApiJson once and return it in getJson().
+ */
+public final class ApiJson {
+    private static final OutputFormat[]                 OUTPUT_FORMATS = OutputFormat.values();
+    private        final Function<OutputFormat, String> renderer;
+    private        final String[]                       strings;
+    private        final byte[][]                       bytes;
+
+
+    /**
+     * Renders the JSON of all output formats with the given renderer
+     * @param renderer Function that returns the JSON of a value in the given output format
+     */
+    public ApiJson(final Function<OutputFormat, String> renderer) {
+        this(renderer, true);
+    }
+    private ApiJson(final Function<OutputFormat, String> renderer, final boolean eager) {
+        this.renderer = eager ? null : renderer;
+        this.strings  = new String[OUTPUT_FORMATS.length];
+        this.bytes    = new byte[OUTPUT_FORMATS.length][];
+        if (!eager) { return; }
+        for (int i = 0 ; i < OUTPUT_FORMATS.length ; i++) {
+            final String json = renderer.apply(OUTPUT_FORMATS[i]);
+            int same = i - 1;
+            while (same >= 0 && !strings[same].equals(json)) { same--; }
+            strings[i] = same < 0 ? json : strings[same];
+            bytes[i]   = same < 0 ? json.getBytes(StandardCharsets.UTF_8) : bytes[same];
+        }
+    }
+
+
+    // Renders each output format when it is requested for the first time, used for values that don't cache their ApiJson
+    static ApiJson lazy(final Function<OutputFormat, String> renderer) { return new ApiJson(renderer, false); }
+
+    public String toString(final OutputFormat outputFormat) { return string(outputFormat); }
+
+    /**
+     * Returns the number of bytes of the UTF-8 encoded JSON in the given output format e.g. to size a buffer
+     * @param outputFormat Output format of the JSON
+     * @return the number of bytes of the UTF-8 encoded JSON in the given output format
+     */
+    public int getByteLength(final OutputFormat outputFormat) { return bytes(outputFormat).length; }
+
+    public void writeTo(final OutputStream outputStream, final OutputFormat outputFormat) throws IOException { outputStream.write(bytes(outputFormat)); }
+
+    public void writeTo(final ByteBuffer buffer, final OutputFormat outputFormat) { buffer.put(bytes(outputFormat)); }
+
+    public void writeTo(final Appendable appendable, final OutputFormat outputFormat) throws IOException { appendable.append(string(outputFormat)); }
+
+    private String string(final OutputFormat outputFormat) {
+        final int index = outputFormat.ordinal();
+        if (null == strings[index]) { render(index); }
+        return strings[index];
+    }
+
+    private byte[] bytes(final OutputFormat outputFormat) {
+        final int index = outputFormat.ordinal();
+        if (null == bytes[index]) { render(index); }
+        return bytes[index];
+    }
+
+    private void render(final int index) {
+        final String json = renderer.apply(OUTPUT_FORMATS[index]);
+        bytes[index]   = json.getBytes(StandardCharsets.UTF_8);
+        strings[index] = json;
+    }
+}
@@ -120,6 +120,7 @@ public enum Architecture implements Api {
     private final String   apiString;
     private final Bitness  bitness;
     private final boolean standard;
+    private final ApiJson  json;
 
 
     Architecture(final String uiString, final String apiString, final Bitness bitness, final boolean standard) {
@@ -127,6 +128,7 @@ public enum Architecture implements Api {
         this.apiString = apiString;
         this.bitness   = bitness;
         this.standard  = standard;
+        this.json      = new ApiJson(this::render);
     }
 
 
@@ -140,7 +142,11 @@ public enum Architecture implements Api {
 
     @Override public Architecture[] getAll() { return Arrays.stream(values()).filter(Architecture::isStandard).toArray(Architecture[]::new); }
 
-    @Override public String toString(final OutputFormat outputFormat) {
+    @Override public String toString(final OutputFormat outputFormat) { return json.toString(outputFormat); }
+
+    @Override public ApiJson getJson() { return json; }
+
+    private String render(final OutputFormat outputFormat) {
         StringBuilder msgBuilder = new StringBuilder();
         switch(outputFormat) {
             case FULL, REDUCED, REDUCED_ENRICHED ->
@@ -56,12 +56,14 @@ public enum ArchiveType implements Api {
     private final String       uiString;
     private final String       apiString;
     private final List<String> fileEndings;
+    private final ApiJson      json;
 
 
     ArchiveType(final String uiString, final String apiString, final String... fileEndings) {
         this.uiString    = uiString;
         this.apiString   = apiString;
         this.fileEndings = List.of(fileEndings);
+        this.json        = new ApiJson(this::render);
     }
 
 
@@ -76,7 +78,11 @@ public enum ArchiveType implements Api {
 
     @Override public ArchiveType[] getAll() { return values(); }
 
-    @Override public String toString(final OutputFormat outputFormat) {
+    @Override public String toString(final OutputFormat outputFormat) { return json.toString(outputFormat); }
+
+    @Override public ApiJson getJson() { return json; }
+
+    private String render(final OutputFormat outputFormat) {
         StringBuilder msgBuilder = new StringBuilder();
         switch(outputFormat) {
             case FULL, REDUCED, REDUCED_ENRICHED ->
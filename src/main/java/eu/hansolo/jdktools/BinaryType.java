@@ -24,12 +24,14 @@ public enum BinaryType implements Api {
     private final String            uiString;
     private final String            apiString;
     private final List<ArchiveType> archiveTypes;
+    private final ApiJson           json;
 
 
     BinaryType(final String uiString, final String apiString, final ArchiveType... archiveTypes) {
         this.uiString     = uiString;
         this.apiString    = apiString;
         this.archiveTypes = List.of(archiveTypes);
+        this.json         = new ApiJson(this::render);
     }
 
 
@@ -43,7 +45,11 @@ public enum BinaryType implements Api {
 
     @Override public BinaryType[] getAll() { return values(); }
 
-    @Override public String toString(final OutputFormat outputFormat) {
+    @Override public String toString(final OutputFormat outputFormat) { return json.toString(outputFormat); }
+
+    @Override public ApiJson getJson() { return json; }
+
+    private String render(final OutputFormat outputFormat) {
         StringBuilder msgBuilder = new StringBuilder();
         switch(outputFormat) {
             case FULL, REDUCED, REDUCED_ENRICHED ->
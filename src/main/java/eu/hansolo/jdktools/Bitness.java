@@ -39,15 +39,17 @@ public enum Bitness implements Api {
     NONE("-", "", 0),
     NOT_FOUND("", "", 0);
 
-    private final String uiString;
-    private final String apiString;
-    private final int    bits;
+    private final String  uiString;
+    private final String  apiString;
+    private final int     bits;
+    private final ApiJson json;
 
 
     Bitness(final String uiString, final String apiString, final int bits) {
         this.uiString  = uiString;
         this.apiString = apiString;
         this.bits      = bits;
+        this.json      = new ApiJson(this::render);
     }
 
 
@@ -61,7 +63,11 @@ public enum Bitness implements Api {
 
     @Override public Bitness[] getAll() { return values(); }
 
-    @Override public String toString(final OutputFormat outputFormat) {
+    @Override public String toString(final OutputFormat outputFormat) { return json.toString(outputFormat); }
+
+    @Override public ApiJson getJson() { return json; }
+
+    private String render(final OutputFormat outputFormat) {
         StringBuilder msgBuilder = new StringBuilder();
         switch(outputFormat) {
             case FULL, REDUCED, REDUCED_ENRICHED ->
@@ -40,13 +40,15 @@ public enum FPU implements Api {
     NONE("-", ""),
     NOT_FOUND("", "");
 
-    private final String uiString;
-    private final String apiString;
+    private final String  uiString;
+    private final String  apiString;
+    private final ApiJson json;
 
 
     FPU(final String uiString, final String apiString) {
         this.uiString  = uiString;
         this.apiString = apiString;
+        this.json      = new ApiJson(this::render);
     }
 
 
@@ -60,7 +62,11 @@ public enum FPU implements Api {
 
     @Override public FPU[] getAll() { return values(); }
 
-    @Override public String toString(final OutputFormat outputFormat) {
+    @Override public String toString(final OutputFormat outputFormat) { return json.toString(outputFormat); }
+
+    @Override public ApiJson getJson() { return json; }
+
+    private String render(final OutputFormat outputFormat) {
         StringBuilder msgBuilder = new StringBuilder();
         switch(outputFormat) {
             case FULL, REDUCED, REDUCED_ENRICHED ->
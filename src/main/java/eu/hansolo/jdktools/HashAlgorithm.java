@@ -44,13 +44,15 @@ public enum HashAlgorithm implements Api {
     NONE("-", ""),
     NOT_FOUND("", "");
 
-    private final String uiString;
-    private final String apiString;
+    private final String  uiString;
+    private final String  apiString;
+    private final ApiJson json;
 
 
     HashAlgorithm(final String uiString, final String apiString) {
         this.uiString  = uiString;
         this.apiString = apiString;
+        this.json      = new ApiJson(this::render);
     }
 
 
@@ -64,7 +66,11 @@ public enum HashAlgorithm implements Api {
 
     @Override public HashAlgorithm[] getAll() { return values(); }
 
-    @Override public String toString(final OutputFormat outputFormat) {
+    @Override public String toString(final OutputFormat outputFormat) { return json.toString(outputFormat); }
+
+    @Override public ApiJson getJson() { return json; }
+
+    private String render(final OutputFormat outputFormat) {
         StringBuilder msgBuilder = new StringBuilder();
         switch(outputFormat) {
             case FULL, REDUCED, REDUCED_ENRICHED ->
@@ -41,13 +41,15 @@ public enum LibCType implements Api {
     NONE("-", ""),
     NOT_FOUND("", "");
 
-    private final String uiString;
-    private final String apiString;
+    private final String  uiString;
+    private final String  apiString;
+    private final ApiJson json;
 
 
     LibCType(final String uiString, final String apiString) {
         this.uiString  = uiString;
         this.apiString = apiString;
+        this.json      = new ApiJson(this::render);
     }
 
 
@@ -61,7 +63,11 @@ public enum LibCType implements Api {
 
     @Override public LibCType[] getAll() { return values(); }
 
-    @Override public String toString(final OutputFormat outputFormat) {
+    @Override public String toString(final OutputFormat outputFormat) { return json.toString(outputFormat); }
+
+    @Override public ApiJson getJson() { return json; }
+
+    private String render(final OutputFormat outputFormat) {
         StringBuilder msgBuilder = new StringBuilder();
         switch(outputFormat) {
             case FULL, REDUCED, REDUCED_ENRICHED ->
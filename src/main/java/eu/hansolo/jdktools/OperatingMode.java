@@ -41,11 +41,13 @@ public enum OperatingMode implements Api {
 
     private final String  uiString;
     private final String  apiString;
+    private final ApiJson json;
 
 
     OperatingMode(final String uiString, final String apiString) {
         this.uiString  = uiString;
         this.apiString = apiString;
+        this.json      = new ApiJson(this::render);
     }
 
 
@@ -92,7 +94,11 @@ public enum OperatingMode implements Api {
         return Arrays.asList(values());
     }
 
-    public String toString(final OutputFormat outputFormat) {
+    public String toString(final OutputFormat outputFormat) { return json.toString(outputFormat); }
+
+    @Override public ApiJson getJson() { return json; }
+
+    private String render(final OutputFormat outputFormat) {
         StringBuilder msgBuilder = new StringBuilder();
         switch(outputFormat) {
             case FULL, REDUCED, REDUCED_ENRICHED ->
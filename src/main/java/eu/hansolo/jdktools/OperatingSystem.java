@@ -71,12 +71,14 @@ public enum OperatingSystem implements Api {
     private final String   uiString;
     private final String   apiString;
     private final LibCType libCType;
+    private final ApiJson  json;
 
 
     OperatingSystem(final String uiString, final String apiString, final LibCType libCType) {
         this.uiString  = uiString;
         this.apiString = apiString;
         this.libCType  = libCType;
+        this.json      = new ApiJson(this::render);
     }
 
 
@@ -90,7 +92,11 @@ public enum OperatingSystem implements Api {
 
     @Override public OperatingSystem[] getAll() { return values(); }
 
-    @Override public String toString(final OutputFormat outputFormat) {
+    @Override public String toString(final OutputFormat outputFormat) { return json.toString(outputFormat); }
+
+    @Override public ApiJson getJson() { return json; }
+
+    private String render(final OutputFormat outputFormat) {
         StringBuilder msgBuilder = new StringBuilder();
         switch(outputFormat) {
             case FULL, REDUCED, REDUCED_ENRICHED ->
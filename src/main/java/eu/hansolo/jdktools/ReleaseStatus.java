@@ -39,15 +39,17 @@ public enum ReleaseStatus implements Api {
     NONE("-", "", ""),
     NOT_FOUND("", "", "");
 
-    private final String uiString;
-    private final String apiString;
-    private final String preReleaseId;
+    private final String  uiString;
+    private final String  apiString;
+    private final String  preReleaseId;
+    private final ApiJson json;
 
 
     ReleaseStatus(final String uiString, final String apiString, final String preReleaseId) {
         this.uiString     = uiString;
         this.apiString    = apiString;
         this.preReleaseId = preReleaseId;
+        this.json         = new ApiJson(this::render);
     }
 
 
@@ -61,7 +63,11 @@ public enum ReleaseStatus implements Api {
 
     @Override public ReleaseStatus[] getAll() { return values(); }
 
-    @Override public String toString(final OutputFormat outputFormat) {
+    @Override public String toString(final OutputFormat outputFormat) { return json.toString(outputFormat); }
+
+    @Override public ApiJson getJson() { return json; }
+
+    private String render(final OutputFormat outputFormat) {
         StringBuilder msgBuilder = new StringBuilder();
         switch(outputFormat) {
             case FULL, REDUCED, REDUCED_ENRICHED ->
@@ -48,6 +48,7 @@ public enum Severity implements Api {
     private final double  minScoreV3;
     private final double  maxScoreV3;
     private final Integer order;
+    private final ApiJson json;
 
 
     Severity(final String uiString, final String apiString, final double minScoreV2, final double maxScoreV2, final double minScoreV3, final double maxScoreV3, final Integer order) {
@@ -58,6 +59,7 @@ public enum Severity implements Api {
         this.minScoreV3 = minScoreV3;
         this.maxScoreV3 = maxScoreV3;
         this.order      = order;
+        this.json       = new ApiJson(this::render);
     }
 
     public double getMinScoreV2() { return minScoreV2; }
@@ -79,7 +81,11 @@ public enum Severity implements Api {
 
     @Override public Severity[] getAll() { return values(); }
 
-    @Override public String toString(final OutputFormat outputFormat) {
+    @Override public String toString(final OutputFormat outputFormat) { return json.toString(outputFormat); }
+
+    @Override public ApiJson getJson() { return json; }
+
+    private String render(final OutputFormat outputFormat) {
         StringBuilder msgBuilder = new StringBuilder();
         switch(outputFormat) {
             case FULL, REDUCED, REDUCED_ENRICHED ->
@@ -40,13 +40,15 @@ public enum Verification implements Api {
     NONE("-", ""),
     NOT_FOUND("", "");
 
-    private final String uiString;
-    private final String apiString;
+    private final String  uiString;
+    private final String  apiString;
+    private final ApiJson json;
 
 
     Verification(final String uiString, final String apiString) {
         this.uiString  = uiString;
         this.apiString = apiString;
+        this.json      = new ApiJson(this::render);
     }
 
 
@@ -60,7 +62,11 @@ public enum Verification implements Api {
 
     @Override public Verification[] getAll() { return values(); }
 
-    @Override public String toString(final OutputFormat outputFormat) {
+    @Override public String toString(final OutputFormat outputFormat) { return json.toString(outputFormat); }
+
+    @Override public ApiJson getJson() { return json; }
+
+    private String render(final OutputFormat outputFormat) {
         StringBuilder msgBuilder = new StringBuilder();
         switch(outputFormat) {
             case FULL, REDUCED, REDUCED_ENRICHED ->
@@ -82,11 +88,10 @@ public enum Verification implements Api {
     @Override public String toString() { return toString(OutputFormat.FULL_COMPRESSED); }
 
     public Boolean getAsBoolean() {
-        return switch (Verification.this) {
-            case YES -> Boolean.TRUE;
-            case NO  -> Boolean.FALSE;
-            default  -> null;
-        };
+        // No switch over Verification here, its switch map would be initialized while the constants are rendered
+        if (YES == this) { return Boolean.TRUE; }
+        if (NO == this)  { return Boolean.FALSE; }
+        return null;
     }
 
     /**
@@ -19,6 +19,7 @@
 package eu.hansolo.jdktools.scopes;
 
 import eu.hansolo.jdktools.Api;
+import eu.hansolo.jdktools.ApiJson;
 import eu.hansolo.jdktools.util.OutputFormat;
 
 import java.util.Arrays;
@@ -39,13 +40,15 @@ public enum BasicScope implements Scope, Api {
     NONE("-", ""),
     NOT_FOUND("", "");
 
-    private final String uiString;
-    private final String apiString;
+    private final String  uiString;
+    private final String  apiString;
+    private final ApiJson json;
 
 
     BasicScope(final String uiString, final String apiString) {
         this.uiString  = uiString;
         this.apiString = apiString;
+        this.json      = new ApiJson(this::render);
     }
 
 
@@ -59,7 +62,11 @@ public enum BasicScope implements Scope, Api {
 
     @Override public BasicScope[] getAll() { return values(); }
 
-    @Override public String toString(final OutputFormat outputFormat) {
+    @Override public String toString(final OutputFormat outputFormat) { return json.toString(outputFormat); }
+
+    @Override public ApiJson getJson() { return json; }
+
+    private String render(final OutputFormat outputFormat) {
         StringBuilder msgBuilder = new StringBuilder();
         switch(outputFormat) {
             case FULL, REDUCED, REDUCED_ENRICHED ->
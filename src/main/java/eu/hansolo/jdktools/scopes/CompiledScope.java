@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.scopes;
+
+import eu.hansolo.jdktools.Architecture;
+import eu.hansolo.jdktools.ArchiveType;
+import eu.hansolo.jdktools.LibCType;
+import eu.hansolo.jdktools.Match;
+import eu.hansolo.jdktools.OperatingSystem;
+import eu.hansolo.jdktools.PackageType;
+import eu.hansolo.jdktools.ReleaseStatus;
+import eu.hansolo.jdktools.TermOfSupport;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+
+/**
+ * Immutable, compiled form of the enum based filters of a ScopeConfig (see ScopeConfig.compile()).
+ * Each dimension is stored as a bit mask over the ordinals of its enum, a dimension without texts in
+ * the ScopeConfig accepts every value (ANY_VALUE). If texts are given but cannot be resolved, the
+ * dimension accepts no value.
+ *
+ * The scopes of all families are stored in one mask (see scopeMask()). With Match.ANY a package needs
+ * one of the scopes of the config, with Match.ALL it needs all of them. The scopes of a package should
+ * be converted into a mask once, testing a package then only needs a few AND operations e.g.
+ *   CompiledScope compiled = config.compile();
+ *   long          scopes   = CompiledScope.scopeMask(List.of(BasicScope.PUBLIC, BuildScope.BUILD_OF_OPEN_JDK));
+ *   compiled.test(Architecture.X64, ArchiveType.TAR_GZ, PackageType.JDK, OperatingSystem.LINUX, LibCType.GLIBC, ReleaseStatus.GA, TermOfSupport.LTS, scopes);
+ */
+public final class CompiledScope {
+    public  static final long  ANY_VALUE              = -1L;
+    private static final int   MAX_VALUES             = Long.SIZE;
+    // Offsets of the scope families in the scope mask, each family has 8 bits
+    private static final int   SCOPE_FAMILY_SIZE      = 8;
+    private static final int   BASIC_SCOPE_OFFSET     = 0;
+    private static final int   DOWNLOAD_SCOPE_OFFSET  = 8;
+    private static final int   USAGE_SCOPE_OFFSET     = 16;
+    private static final int   BUILD_SCOPE_OFFSET     = 24;
+    private static final int   QUALITY_SCOPE_OFFSET   = 32;
+    private static final int   SIGNATURE_SCOPE_OFFSET = 40;
+    // Set in the required scopes for texts that cannot be resolved, no package has it
+    private static final long  UNRESOLVED_SCOPE       = 1L << 63;
+    private        final long  architectures;
+    private        final long  archiveTypes;
+    private        final long  packageTypes;
+    private        final long  operatingSystems;
+    private        final long  libcTypes;
+    private        final long  releaseStatus;
+    private        final long  termsOfSupport;
+    private        final long  scopes;
+    private        final Match match;
+    static {
+        // The masks only work as long as the ordinals of the enums fit into their bits
+        checkSize(Architecture.class, Architecture.values().length, MAX_VALUES);
+        checkSize(ArchiveType.class, ArchiveType.values().length, MAX_VALUES);
+        checkSize(PackageType.class, PackageType.values().length, MAX_VALUES);
+        checkSize(OperatingSystem.class, OperatingSystem.values().length, MAX_VALUES);
+        checkSize(LibCType.class, LibCType.values().length, MAX_VALUES);
+        checkSize(ReleaseStatus.class, ReleaseStatus.values().length, MAX_VALUES);
+        checkSize(TermOfSupport.class, TermOfSupport.values().length, MAX_VALUES);
+        checkSize(BasicScope.class, BasicScope.values().length, SCOPE_FAMILY_SIZE);
+        checkSize(DownloadScope.class, DownloadScope.values().length, SCOPE_FAMILY_SIZE);
+        checkSize(UsageScope.class, UsageScope.values().length, SCOPE_FAMILY_SIZE);
+        checkSize(BuildScope.class, BuildScope.values().length, SCOPE_FAMILY_SIZE);
+        checkSize(QualityScope.class, QualityScope.values().length, SCOPE_FAMILY_SIZE);
+        checkSize(SignatureScope.class, SignatureScope.values().length, SCOPE_FAMILY_SIZE);
+    }
+
+
+    CompiledScope(final ScopeConfig config) {
+        this.architectures    = mask(config.getArchitectures(), config.getArchitectureValues());
+        this.archiveTypes     = mask(config.getArchiveTypes(), config.getArchiveTypeValues());
+        this.packageTypes     = mask(config.getPackageTypes(), config.getPackageTypeValues());
+        this.operatingSystems = mask(config.getOperatingSystems(), config.getOperatingSystemValues());
+        this.libcTypes        = mask(config.getLibcTypes(), config.getLibcTypeValues());
+        this.releaseStatus    = mask(config.getReleaseStatus(), config.getReleaseStatusValues());
+        this.termsOfSupport   = mask(config.getTermsOfSupport(), config.getTermOfSupportValues());
+        this.scopes           = requiredScopes(config.getBasicScopes(), BasicScope::fromText) |
+                                requiredScopes(config.getDownloadScopes(), DownloadScope::fromText) |
+                                requiredScopes(config.getUsageScopes(), UsageScope::fromText) |
+                                requiredScopes(config.getBuildScopes(), BuildScope::fromText);
+        this.match            = Match.ALL == config.getMatchValue() ? Match.ALL : Match.ANY;
+    }
+
+
+    public long getArchitectures() { return architectures; }
+
+    public long getArchiveTypes() { return archiveTypes; }
+
+    public long getPackageTypes() { return packageTypes; }
+
+    public long getOperatingSystems() { return operatingSystems; }
+
+    public long getLibcTypes() { return libcTypes; }
+
+    public long getReleaseStatus() { return releaseStatus; }
+
+    public long getTermsOfSupport() { return termsOfSupport; }
+
+    /**
+     * Returns the required scopes of all families as mask, 0 if the config doesn't contain scopes
+     * @return the required scopes of all families as mask
+     */
+    public long getScopes() { return scopes; }
+
+    public Match getMatch() { return match; }
+
+    /**
+     * Returns true if a package with the given values and scopes is part of this scope. A null value
+     * only passes dimensions that accept every value.
+     * @param architecture    Architecture of the package
+     * @param archiveType     Archive type of the package
+     * @param packageType     Package type of the package
+     * @param operatingSystem Operating system of the package
+     * @param libcType        LibC type of the package
+     * @param releaseStatus   Release status of the package
+     * @param termOfSupport   Term of support of the package
+     * @param scopeMask       Scopes of the package as returned by scopeMask()
+     * @return true if a package with the given values and scopes is part of this scope
+     */
+    public boolean test(final Architecture architecture, final ArchiveType archiveType, final PackageType packageType, final OperatingSystem operatingSystem,
+                        final LibCType libcType, final ReleaseStatus releaseStatus, final TermOfSupport termOfSupport, final long scopeMask) {
+        return contains(architectures, architecture) &&
+               contains(archiveTypes, archiveType) &&
+               contains(packageTypes, packageType) &&
+               contains(operatingSystems, operatingSystem) &&
+               contains(libcTypes, libcType) &&
+               contains(this.releaseStatus, releaseStatus) &&
+               contains(termsOfSupport, termOfSupport) &&
+               testScopes(scopeMask);
+    }
+
+    /**
+     * Returns true if the given scopes of a package fulfill the scopes of this config with respect to its Match
+     * @param scopeMask Scopes of the package as returned by scopeMask()
+     * @return true if the given scopes of a package fulfill the scopes of this config
+     */
+    public boolean testScopes(final long scopeMask) {
+        if (0 == scopes) { return true; }
+        return Match.ALL == match ? (scopeMask & scopes) == scopes : (scopeMask & scopes) != 0;
+    }
+
+    /**
+     * Returns the mask of the given scopes of a package, scopes of all families can be combined
+     * @param scopes Scopes of a package e.g. BasicScope.PUBLIC and BuildScope.BUILD_OF_OPEN_JDK
+     * @return the mask of the given scopes
+     */
+    public static long scopeMask(final Collection<? extends Scope> scopes) {
+        long mask = 0;
+        for (Scope scope : scopes) { mask |= scopeBit(scope); }
+        return mask;
+    }
+
+    /**
+     * Returns the bit of the given scope in a scope mask or 0 if the scope is not found
+     * @param scope Scope of any family
+     * @return the bit of the given scope in a scope mask
+     */
+    public static long scopeBit(final Scope scope) {
+        if (scope instanceof BasicScope basicScope)         { return BasicScope.NOT_FOUND == basicScope ? 0 : 1L << (BASIC_SCOPE_OFFSET + basicScope.ordinal()); }
+        if (scope instanceof DownloadScope downloadScope)   { return 1L << (DOWNLOAD_SCOPE_OFFSET + downloadScope.ordinal()); }
+        if (scope instanceof UsageScope usageScope)         { return 1L << (USAGE_SCOPE_OFFSET + usageScope.ordinal()); }
+        if (scope instanceof BuildScope buildScope)         { return 1L << (BUILD_SCOPE_OFFSET + buildScope.ordinal()); }
+        if (scope instanceof QualityScope qualityScope)     { return 1L << (QUALITY_SCOPE_OFFSET + qualityScope.ordinal()); }
+        if (scope instanceof SignatureScope signatureScope) { return 1L << (SIGNATURE_SCOPE_OFFSET + signatureScope.ordinal()); }
+        return 0;
+    }
+
+
+    private static void checkSize(final Class<? extends Enum<?>> type, final int size, final int max) {
+        if (size > max) { throw new IllegalStateException(type.getSimpleName() + " has " + size + " values but CompiledScope only supports " + max); }
+    }
+
+    private static boolean contains(final long mask, final Enum<?> value) {
+        return ANY_VALUE == mask || (null != value && 0 != (mask & 1L << value.ordinal()));
+    }
+
+    private static long mask(final List<String> texts, final List<? extends Enum<?>> values) {
+        if (texts.isEmpty()) { return ANY_VALUE; }
+        long mask = 0;
+        for (Enum<?> value : values) { mask |= 1L << value.ordinal(); }
+        return mask;
+    }
+
+    private static long requiredScopes(final List<String> texts, final Function<String, Scope> fromText) {
+        long required = 0;
+        for (String text : texts) {
+            final long bit = scopeBit(fromText.apply(text));
+            required |= 0 == bit ? UNRESOLVED_SCOPE : bit;
+        }
+        return required;
+    }
+
+    @Override public String toString() {
+        return "CompiledScope[architectures=" + Long.toHexString(architectures) + ", archiveTypes=" + Long.toHexString(archiveTypes) + ", packageTypes=" + Long.toHexString(packageTypes) +
+               ", operatingSystems=" + Long.toHexString(operatingSystems) + ", libcTypes=" + Long.toHexString(libcTypes) + ", releaseStatus=" + Long.toHexString(releaseStatus) +
+               ", termsOfSupport=" + Long.toHexString(termsOfSupport) + ", scopes=" + Long.toHexString(scopes) + ", match=" + match.name() + "]";
+    }
+}
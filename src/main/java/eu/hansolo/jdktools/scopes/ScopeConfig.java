@@ -18,7 +18,19 @@
 
 package eu.hansolo.jdktools.scopes;
 
+import eu.hansolo.jdktools.Architecture;
+import eu.hansolo.jdktools.ArchiveType;
+import eu.hansolo.jdktools.LibCType;
+import eu.hansolo.jdktools.Match;
+import eu.hansolo.jdktools.OperatingSystem;
+import eu.hansolo.jdktools.PackageType;
+import eu.hansolo.jdktools.ReleaseStatus;
+import eu.hansolo.jdktools.TermOfSupport;
+
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static eu.hansolo.jdktools.Constants.COLON;
@@ -32,26 +44,38 @@ import static eu.hansolo.jdktools.Constants.SQUARE_BRACKET_OPEN_QUOTES;
 
 
 public class ScopeConfig {
-    private String       name;
-    private List<String> distributions;
-    private List<String> basicScopes;
-    private List<String> downloadScopes;
-    private List<String> usageScopes;
-    private List<String> buildScopes;
-    private String       match;
-    private String       version;
-    private List<String> architectures;
-    private List<String> archiveTypes;
-    private List<String> packageTypes;
-    private List<String> operatingSystems;
-    private List<String> libcTypes;
-    private List<String> releaseStatus;
-    private List<String> termsOfSupport;
-    private String       bitness;
-    private String       javafxBundled;
-    private String       directlyDownloadable;
-    private String       signatureAvailable;
-    private String       latest;
+    private String                name;
+    private List<String>          distributions;
+    private List<String>          basicScopes;
+    private List<String>          downloadScopes;
+    private List<String>          usageScopes;
+    private List<String>          buildScopes;
+    private String                match;
+    private String                version;
+    private List<String>          architectures;
+    private List<String>          archiveTypes;
+    private List<String>          packageTypes;
+    private List<String>          operatingSystems;
+    private List<String>          libcTypes;
+    private List<String>          releaseStatus;
+    private List<String>          termsOfSupport;
+    private String                bitness;
+    private String                javafxBundled;
+    private String                directlyDownloadable;
+    private String                signatureAvailable;
+    private String                latest;
+    // Values of the lists above resolved by fromText(), null until they are requested or a setter has been called
+    private List<Architecture>    architectureValues;
+    private List<ArchiveType>     archiveTypeValues;
+    private List<PackageType>     packageTypeValues;
+    private List<OperatingSystem> operatingSystemValues;
+    private List<LibCType>        libcTypeValues;
+    private List<ReleaseStatus>   releaseStatusValues;
+    private List<TermOfSupport>   termOfSupportValues;
+    private List<Scope>           basicScopeValues;
+    private List<Scope>           downloadScopeValues;
+    private List<Scope>           usageScopeValues;
+    private List<Scope>           buildScopeValues;
 
 
     public String getName() { return null == name ? "" : name; }
@@ -61,16 +85,28 @@ public class ScopeConfig {
     public void setDistributions(final List<String> distributions) { this.distributions = distributions; }
 
     public List<String> getBasicScopes() { return null == basicScopes ? List.of() : basicScopes; }
-    public void setBasicScopes(final List<String> basicScopes) { this.basicScopes = basicScopes; }
+    public void setBasicScopes(final List<String> basicScopes) {
+        this.basicScopes      = basicScopes;
+        this.basicScopeValues = null;
+    }
 
     public List<String> getDownloadScopes() { return null == downloadScopes ? List.of() : downloadScopes; }
-    public void setDownloadScopes(final List<String> downloadScopes) { this.downloadScopes = downloadScopes; }
+    public void setDownloadScopes(final List<String> downloadScopes) {
+        this.downloadScopes      = downloadScopes;
+        this.downloadScopeValues = null;
+    }
 
     public List<String> getUsageScopes() { return null == usageScopes ? List.of() : usageScopes; }
-    public void setUsageScopes(final List<String> usageScopes) { this.usageScopes = usageScopes; }
+    public void setUsageScopes(final List<String> usageScopes) {
+        this.usageScopes      = usageScopes;
+        this.usageScopeValues = null;
+    }
 
     public List<String> getBuildScopes() { return null == buildScopes ? List.of() : buildScopes; }
-    public void setBuildScopes(final List<String> buildScopes) { this.buildScopes = buildScopes; }
+    public void setBuildScopes(final List<String> buildScopes) {
+        this.buildScopes      = buildScopes;
+        this.buildScopeValues = null;
+    }
 
     public String getMatch() { return null == match ? "": match; }
     public void setMatch(final String match) { this.match = match; }
@@ -79,25 +115,46 @@ public class ScopeConfig {
     public void setVersion(final String version) { this.version = version; }
 
     public List<String> getArchitectures() { return null == architectures ? List.of() : architectures; }
-    public void setArchitectures(final List<String> architectures) { this.architectures = architectures; }
+    public void setArchitectures(final List<String> architectures) {
+        this.architectures      = architectures;
+        this.architectureValues = null;
+    }
 
     public List<String> getArchiveTypes() { return null == archiveTypes ? List.of() : archiveTypes; }
-    public void setArchiveTypes(final List<String> archiveTypes) { this.archiveTypes = archiveTypes; }
+    public void setArchiveTypes(final List<String> archiveTypes) {
+        this.archiveTypes      = archiveTypes;
+        this.archiveTypeValues = null;
+    }
 
     public List<String> getPackageTypes() { return null == packageTypes ? List.of() : packageTypes; }
-    public void setPackageTypes(final List<String> packageTypes) { this.packageTypes = packageTypes; }
+    public void setPackageTypes(final List<String> packageTypes) {
+        this.packageTypes      = packageTypes;
+        this.packageTypeValues = null;
+    }
 
     public List<String> getOperatingSystems() { return null == operatingSystems ? List.of() : operatingSystems; }
-    public void setOperatingSystems(final List<String> operatingSystems) { this.operatingSystems = operatingSystems; }
+    public void setOperatingSystems(final List<String> operatingSystems) {
+        this.operatingSystems      = operatingSystems;
+        this.operatingSystemValues = null;
+    }
 
     public List<String> getLibcTypes() { return null == libcTypes ? List.of() : libcTypes; }
-    public void setLibcTypes(final List<String> libcTypes) { this.libcTypes = libcTypes; }
+    public void setLibcTypes(final List<String> libcTypes) {
+        this.libcTypes      = libcTypes;
+        this.libcTypeValues = null;
+    }
 
     public List<String> getReleaseStatus() { return null == releaseStatus ? List.of() : releaseStatus; }
-    public void setReleaseStatus(final List<String> releaseStatus) { this.releaseStatus = releaseStatus; }
+    public void setReleaseStatus(final List<String> releaseStatus) {
+        this.releaseStatus       = releaseStatus;
+        this.releaseStatusValues = null;
+    }
 
     public List<String> getTermsOfSupport() { return null == termsOfSupport ? List.of() : termsOfSupport; }
-    public void setTermsOfSupport(final List<String> termsOfSupport) { this.termsOfSupport = termsOfSupport; }
+    public void setTermsOfSupport(final List<String> termsOfSupport) {
+        this.termsOfSupport      = termsOfSupport;
+        this.termOfSupportValues = null;
+    }
 
     public String getBitness() { return null == bitness ? "" : bitness; }
     public void setBitness(final String bitness) { this.bitness = bitness; }
@@ -114,6 +171,90 @@ public class ScopeConfig {
     public String getLatest() { return null == latest ? "" : latest; }
     public void setLatest(final String latest) { this.latest = latest; }
 
+    /**
+     * Returns the architectures resolved by Architecture.fromText(), texts that cannot be resolved and duplicates are skipped
+     * @return the resolved architectures
+     */
+    public List<Architecture> getArchitectureValues() {
+        if (null == architectureValues) { architectureValues = resolve(getArchitectures(), Architecture::fromText, Architecture.NOT_FOUND); }
+        return architectureValues;
+    }
+
+    public List<ArchiveType> getArchiveTypeValues() {
+        if (null == archiveTypeValues) { archiveTypeValues = resolve(getArchiveTypes(), ArchiveType::fromText, ArchiveType.NOT_FOUND); }
+        return archiveTypeValues;
+    }
+
+    public List<PackageType> getPackageTypeValues() {
+        if (null == packageTypeValues) { packageTypeValues = resolve(getPackageTypes(), PackageType::fromText, PackageType.NOT_FOUND); }
+        return packageTypeValues;
+    }
+
+    public List<OperatingSystem> getOperatingSystemValues() {
+        if (null == operatingSystemValues) { operatingSystemValues = resolve(getOperatingSystems(), OperatingSystem::fromText, OperatingSystem.NOT_FOUND); }
+        return operatingSystemValues;
+    }
+
+    public List<LibCType> getLibcTypeValues() {
+        if (null == libcTypeValues) { libcTypeValues = resolve(getLibcTypes(), LibCType::fromText, LibCType.NOT_FOUND); }
+        return libcTypeValues;
+    }
+
+    public List<ReleaseStatus> getReleaseStatusValues() {
+        if (null == releaseStatusValues) { releaseStatusValues = resolve(getReleaseStatus(), ReleaseStatus::fromText, ReleaseStatus.NOT_FOUND); }
+        return releaseStatusValues;
+    }
+
+    public List<TermOfSupport> getTermOfSupportValues() {
+        if (null == termOfSupportValues) { termOfSupportValues = resolve(getTermsOfSupport(), TermOfSupport::fromText, TermOfSupport.NOT_FOUND); }
+        return termOfSupportValues;
+    }
+
+    public List<Scope> getBasicScopeValues() {
+        if (null == basicScopeValues) { basicScopeValues = resolve(getBasicScopes(), BasicScope::fromText, BasicScope.NOT_FOUND); }
+        return basicScopeValues;
+    }
+
+    public List<Scope> getDownloadScopeValues() {
+        if (null == downloadScopeValues) { downloadScopeValues = resolve(getDownloadScopes(), DownloadScope::fromText, Scope.NOT_FOUND); }
+        return downloadScopeValues;
+    }
+
+    public List<Scope> getUsageScopeValues() {
+        if (null == usageScopeValues) { usageScopeValues = resolve(getUsageScopes(), UsageScope::fromText, Scope.NOT_FOUND); }
+        return usageScopeValues;
+    }
+
+    public List<Scope> getBuildScopeValues() {
+        if (null == buildScopeValues) { buildScopeValues = resolve(getBuildScopes(), BuildScope::fromText, Scope.NOT_FOUND); }
+        return buildScopeValues;
+    }
+
+    public Match getMatchValue() { return Match.fromText(match); }
+
+    /**
+     * Resolves all lists of texts into their values so that later calls of the get...Values() methods only return them
+     */
+    public void resolve() {
+        getArchitectureValues();
+        getArchiveTypeValues();
+        getPackageTypeValues();
+        getOperatingSystemValues();
+        getLibcTypeValues();
+        getReleaseStatusValues();
+        getTermOfSupportValues();
+        getBasicScopeValues();
+        getDownloadScopeValues();
+        getUsageScopeValues();
+        getBuildScopeValues();
+    }
+
+    /**
+     * Compiles the enum based filters of this config into bit masks, the result doesn't change if this config is modified
+     * @return the compiled, immutable form of this config
+     */
+    public CompiledScope compile() { return new CompiledScope(this); }
+
     @Override public String toString() {
         StringBuilder msgBuilder = new StringBuilder();
         msgBuilder.append(CURLY_BRACKET_OPEN)
@@ -140,4 +281,14 @@ public class ScopeConfig {
                   .append("}");
         return msgBuilder.toString();
     }
+
+    private static <T> List<T> resolve(final List<String> texts, final Function<String, ? extends T> fromText, final T notFound) {
+        if (texts.isEmpty()) { return List.of(); }
+        final List<T> values = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            final T value = fromText.apply(text);
+            if (notFound != value && !values.contains(value)) { values.add(value); }
+        }
+        return Collections.unmodifiableList(values);
+    }
 }
@@ -0,0 +1,477 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.scopes;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * Streaming reader for ScopeConfigs in JSON, e.g. the output of ScopeConfig.toString(), that doesn't
+ * need a JSON library. It reads a single object or an array of objects from a Reader, a ByteBuffer
+ * with UTF-8 encoded text or a memory mapped file. The field names of toString() and the names of the
+ * ScopeConfig properties (e.g. "architecture" and "architectures") are supported, unknown fields are
+ * skipped. Lists can also be given as a single string. Values without quotes have to be JSON numbers,
+ * true, false or null.
+ *
+ * All texts are pooled by the reader while loading, so equal texts of different configs are the same
+ * String instances, and the lists of every config are resolved into their enums (see ScopeConfig.resolve()).
+ * A reader keeps its pooled texts for all configs it reads and is not thread safe.
+ */
+public final class ScopeConfigReader {
+    private static final int      BUFFER_SIZE = 8192;
+    private              String[] pool        = new String[256];
+    private              int      poolSize;
+
+
+    public ScopeConfigReader() {}
+
+
+    /**
+     * Reads a single ScopeConfig object
+     * @param reader Reader that provides the JSON
+     * @return the ScopeConfig with resolved values
+     * @throws IOException if the reader cannot be read
+     * @throws IllegalArgumentException if the text is no valid ScopeConfig object
+     */
+    public ScopeConfig read(final Reader reader) throws IOException, IllegalArgumentException {
+        return new Parser(new ReaderSource(reader)).readConfig();
+    }
+    public ScopeConfig read(final ByteBuffer buffer) throws IllegalArgumentException {
+        try {
+            return new Parser(new BufferSource(buffer)).readConfig();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads an array of ScopeConfig objects or a single object
+     * @param reader Reader that provides the JSON
+     * @return the ScopeConfigs with resolved values in the order of the JSON
+     * @throws IOException if the reader cannot be read
+     * @throws IllegalArgumentException if the text is no valid ScopeConfig object or array of them
+     */
+    public List<ScopeConfig> readAll(final Reader reader) throws IOException, IllegalArgumentException {
+        return new Parser(new ReaderSource(reader)).readConfigs();
+    }
+    /**
+     * Reads an array of ScopeConfig objects or a single object from the remaining bytes of the given buffer,
+     * the position of the buffer will not be changed
+     * @param buffer Buffer with the UTF-8 encoded JSON e.g. a MappedByteBuffer
+     * @return the ScopeConfigs with resolved values in the order of the JSON
+     * @throws IllegalArgumentException if the text is no valid ScopeConfig object or array of them
+     */
+    public List<ScopeConfig> readAll(final ByteBuffer buffer) throws IllegalArgumentException {
+        try {
+            return new Parser(new BufferSource(buffer)).readConfigs();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    /**
+     * Reads an array of ScopeConfig objects or a single object from the given file, which is memory mapped
+     * @param path Path of the UTF-8 encoded JSON file
+     * @return the ScopeConfigs with resolved values in the order of the JSON
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the text is no valid ScopeConfig object or array of them
+     */
+    public List<ScopeConfig> readAll(final Path path) throws IOException, IllegalArgumentException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readAll(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+
+    // Returns the pooled String of the given chars, the String is only created if the text is new
+    private String intern(final char[] chars, final int length) {
+        int hash = 0;
+        for (int i = 0 ; i < length ; i++) { hash = 31 * hash + chars[i]; }
+        final int mask  = pool.length - 1;
+        int       index = (hash ^ (hash >>> 16)) & mask;
+        String    candidate;
+        while (null != (candidate = pool[index])) {
+            if (candidate.hashCode() == hash && matches(candidate, chars, length)) { return candidate; }
+            index = (index + 1) & mask;
+        }
+        final String text = new String(chars, 0, length);
+        pool[index] = text;
+        if (++poolSize * 2 > pool.length) { growPool(); }
+        return text;
+    }
+
+    private static boolean matches(final String text, final char[] chars, final int length) {
+        if (text.length() != length) { return false; }
+        for (int i = 0 ; i < length ; i++) {
+            if (text.charAt(i) != chars[i]) { return false; }
+        }
+        return true;
+    }
+
+    // Returns true if the given chars are a JSON number e.g. -1, 0.5 or 2e10
+    private static boolean isNumber(final char[] chars, final int length) {
+        int i = 0;
+        if (i < length && '-' == chars[i]) { i++; }
+        if (i < length && '0' == chars[i]) {
+            i++;
+        } else if ((i = skipDigits(chars, i, length)) < 0) {
+            return false;
+        }
+        if (i < length && '.' == chars[i] && (i = skipDigits(chars, i + 1, length)) < 0) { return false; }
+        if (i < length && ('e' == chars[i] || 'E' == chars[i])) {
+            i++;
+            if (i < length && ('+' == chars[i] || '-' == chars[i])) { i++; }
+            if ((i = skipDigits(chars, i, length)) < 0) { return false; }
+        }
+        return i == length;
+    }
+
+    // Returns the index behind the digits that start at the given index or -1 if there is no digit
+    private static int skipDigits(final char[] chars, final int from, final int length) {
+        int i = from;
+        while (i < length && chars[i] >= '0' && chars[i] <= '9') { i++; }
+        return i == from ? -1 : i;
+    }
+
+    private void growPool() {
+        final String[] oldPool = pool;
+        pool = new String[oldPool.length * 2];
+        final int mask = pool.length - 1;
+        for (String text : oldPool) {
+            if (null == text) { continue; }
+            final int hash  = text.hashCode();
+            int       index = (hash ^ (hash >>> 16)) & mask;
+            while (null != pool[index]) { index = (index + 1) & mask; }
+            pool[index] = text;
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private final class Parser {
+        private final Source source;
+        private       char[] token = new char[64];
+        private       int    length;
+        private       int    pushedBack = -1;
+        private       long   position;
+
+
+        private Parser(final Source source) { this.source = source; }
+
+
+        private ScopeConfig readConfig() throws IOException {
+            final int c = nextNonWhitespace();
+            if ('{' != c) { throw error("Expected '{'"); }
+            final ScopeConfig config = readObject();
+            expectEnd();
+            return config;
+        }
+
+        private List<ScopeConfig> readConfigs() throws IOException {
+            final List<ScopeConfig> configs = new ArrayList<>();
+            int c = nextNonWhitespace();
+            if ('{' == c) {
+                configs.add(readObject());
+            } else if ('[' == c) {
+                c = nextNonWhitespace();
+                if (']' != c) {
+                    while (true) {
+                        if ('{' != c) { throw error("Expected '{'"); }
+                        configs.add(readObject());
+                        c = nextNonWhitespace();
+                        if (']' == c) { break; }
+                        if (',' != c) { throw error("Expected ',' or ']'"); }
+                        c = nextNonWhitespace();
+                    }
+                }
+            } else {
+                throw error("Expected '{' or '['");
+            }
+            expectEnd();
+            return configs;
+        }
+
+        // Reads the fields of an object whose '{' has already been read
+        private ScopeConfig readObject() throws IOException {
+            final ScopeConfig config = new ScopeConfig();
+            int c = nextNonWhitespace();
+            if ('}' != c) {
+                while (true) {
+                    if ('"' != c) { throw error("Expected field name"); }
+                    final String name = readString();
+                    if (':' != nextNonWhitespace()) { throw error("Expected ':'"); }
+                    readField(config, name);
+                    c = nextNonWhitespace();
+                    if ('}' == c) { break; }
+                    if (',' != c) { throw error("Expected ',' or '}'"); }
+                    c = nextNonWhitespace();
+                }
+            }
+            config.resolve();
+            return config;
+        }
+
+        private void readField(final ScopeConfig config, final String name) throws IOException {
+            switch (name) {
+                case "name"                                                                -> config.setName(readText());
+                case "distribution", "distributions"                                       -> config.setDistributions(readTexts());
+                case "basic_scope", "basic_scopes", "basicScopes"                          -> config.setBasicScopes(readTexts());
+                case "download_scope", "download_scopes", "downloadScopes"                 -> config.setDownloadScopes(readTexts());
+                case "usage_scope", "usage_scopes", "usageScopes"                          -> config.setUsageScopes(readTexts());
+                case "build_scope", "build_scopes", "buildScopes"                          -> config.setBuildScopes(readTexts());
+                case "match"                                                               -> config.setMatch(readText());
+                case "version"                                                             -> config.setVersion(readText());
+                case "architecture", "architectures"                                       -> config.setArchitectures(readTexts());
+                case "archive_type", "archive_types", "archiveTypes"                       -> config.setArchiveTypes(readTexts());
+                case "package_type", "package_types", "packageTypes"                       -> config.setPackageTypes(readTexts());
+                case "operating_system", "operating_systems", "operatingSystems"           -> config.setOperatingSystems(readTexts());
+                case "lib_c_type", "lib_c_types", "libc_type", "libc_types", "libcTypes"   -> config.setLibcTypes(readTexts());
+                case "release_status", "releaseStatus"                                     -> config.setReleaseStatus(readTexts());
+                case "term_of_support", "terms_of_support", "termsOfSupport"               -> config.setTermsOfSupport(readTexts());
+                case "bitness"                                                             -> config.setBitness(readText());
+                case "javafx_bundled", "javafxBundled"                                     -> config.setJavafxBundled(readText());
+                case "directly_downloadable", "directlyDownloadable"                       -> config.setDirectlyDownloadable(readText());
+                case "signature_available", "signatureAvailable"                           -> config.setSignatureAvailable(readText());
+                case "latest"                                                              -> config.setLatest(readText());
+                default                                                                    -> skipValue(nextNonWhitespace());
+            }
+        }
+
+        // Strings, numbers and booleans are read as text, null as null
+        private String readText() throws IOException { return readScalar(nextNonWhitespace()); }
+
+        private List<String> readTexts() throws IOException {
+            int c = nextNonWhitespace();
+            if ('[' != c) {
+                final String text = readScalar(c);
+                return null == text ? null : List.of(text);
+            }
+            final List<String> texts = new ArrayList<>();
+            c = nextNonWhitespace();
+            if (']' == c) { return List.of(); }
+            while (true) {
+                final String text = readScalar(c);
+                if (null != text) { texts.add(text); }
+                c = nextNonWhitespace();
+                if (']' == c) { break; }
+                if (',' != c) { throw error("Expected ',' or ']'"); }
+                c = nextNonWhitespace();
+            }
+            return List.copyOf(texts);
+        }
+
+        private String readScalar(final int c) throws IOException {
+            if ('"' == c) { return readString(); }
+            readLiteral(c);
+            return matches("null", token, length) ? null : intern(token, length);
+        }
+
+        // Reads a string whose opening quote has already been read
+        private String readString() throws IOException {
+            length = 0;
+            while (true) {
+                int c = source.read();
+                position++;
+                if ('"' == c) { break; }
+                if (c < 0)    { throw error("Unterminated string"); }
+                if ('\\' == c) {
+                    c = source.read();
+                    position++;
+                    c = switch (c) {
+                        case '"', '\\', '/' -> c;
+                        case 'b'            -> '\b';
+                        case 'f'            -> '\f';
+                        case 'n'            -> '\n';
+                        case 'r'            -> '\r';
+                        case 't'            -> '\t';
+                        case 'u'            -> readHex();
+                        default             -> throw error("Invalid escape");
+                    };
+                }
+                add(c);
+            }
+            return intern(token, length);
+        }
+
+        private int readHex() throws IOException {
+            int value = 0;
+            for (int i = 0 ; i < 4 ; i++) {
+                final int digit = Character.digit(source.read(), 16);
+                position++;
+                if (digit < 0) { throw error("Invalid unicode escape"); }
+                value = value << 4 | digit;
+            }
+            return value;
+        }
+
+        // Reads a number, true, false or null into the token
+        private void readLiteral(final int first) throws IOException {
+            length = 0;
+            int c = first;
+            while (c >= 0 && ',' != c && '}' != c && ']' != c && ':' != c && !isWhitespace(c)) {
+                if ('"' == c || '{' == c || '[' == c) { throw error("Unexpected '" + (char) c + "'"); }
+                add(c);
+                c = read();
+            }
+            pushedBack = c;
+            if (0 == length) { throw error("Expected value"); }
+            if (!matches("true", token, length) && !matches("false", token, length) && !matches("null", token, length) && !isNumber(token, length)) {
+                throw error("Invalid literal");
+            }
+        }
+
+        private void skipValue(final int first) throws IOException {
+            if ('"' == first) {
+                readString();
+            } else if ('{' == first || '[' == first) {
+                final char close = '{' == first ? '}' : ']';
+                int c = nextNonWhitespace();
+                if (close == c) { return; }
+                while (true) {
+                    if ('{' == first) {
+                        if ('"' != c) { throw error("Expected field name"); }
+                        readString();
+                        if (':' != nextNonWhitespace()) { throw error("Expected ':'"); }
+                        c = nextNonWhitespace();
+                    }
+                    skipValue(c);
+                    c = nextNonWhitespace();
+                    if (close == c) { return; }
+                    if (',' != c) { throw error("Expected ',' or '" + close + "'"); }
+                    c = nextNonWhitespace();
+                }
+            } else {
+                readLiteral(first);
+            }
+        }
+
+        private void add(final int c) {
+            if (length == token.length) { token = Arrays.copyOf(token, length * 2); }
+            token[length++] = (char) c;
+        }
+
+        private int read() throws IOException {
+            if (pushedBack != -1) {
+                final int c = pushedBack;
+                pushedBack = -1;
+                return c;
+            }
+            position++;
+            return source.read();
+        }
+
+        private int nextNonWhitespace() throws IOException {
+            int c = read();
+            while (isWhitespace(c)) { c = read(); }
+            return c;
+        }
+
+        private void expectEnd() throws IOException {
+            if (-1 != nextNonWhitespace()) { throw error("Unexpected text after the end"); }
+        }
+
+        private IllegalArgumentException error(final String message) { return new IllegalArgumentException(message + " at position " + position); }
+    }
+
+    private static boolean isWhitespace(final int c) { return ' ' == c || '\n' == c || '\r' == c || '\t' == c; }
+
+
+    private abstract static class Source {
+        // Returns the next char or -1 at the end of the text
+        abstract int read() throws IOException;
+    }
+
+    private static final class ReaderSource extends Source {
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private       int    index;
+        private       int    limit;
+
+
+        private ReaderSource(final Reader reader) { this.reader = Objects.requireNonNull(reader, "Reader cannot be null"); }
+
+
+        @Override int read() throws IOException {
+            if (index == limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                index = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+            return buffer[index++];
+        }
+    }
+
+    // Decodes UTF-8, malformed bytes are returned as the replacement character
+    private static final class BufferSource extends Source {
+        private final ByteBuffer buffer;
+        private       int        lowSurrogate = -1;
+
+
+        private BufferSource(final ByteBuffer buffer) { this.buffer = Objects.requireNonNull(buffer, "Buffer cannot be null").duplicate(); }
+
+
+        @Override int read() {
+            if (lowSurrogate >= 0) {
+                final int c = lowSurrogate;
+                lowSurrogate = -1;
+                return c;
+            }
+            if (!buffer.hasRemaining()) { return -1; }
+            final int b = buffer.get() & 0xFF;
+            if (b < 0x80) { return b; }
+            final int following;
+            int       codePoint;
+            if (b >= 0xF0 && b < 0xF8) {
+                following = 3;
+                codePoint = b & 0x07;
+            } else if (b >= 0xE0) {
+                following = b < 0xF0 ? 2 : 0;
+                codePoint = b & 0x0F;
+            } else if (b >= 0xC0) {
+                following = 1;
+                codePoint = b & 0x1F;
+            } else {
+                following = 0;
+                codePoint = -1;
+            }
+            if (0 == following) { return '\uFFFD'; }
+            for (int i = 0 ; i < following ; i++) {
+                if (!buffer.hasRemaining() || (buffer.get(buffer.position()) & 0xC0) != 0x80) { return '\uFFFD'; }
+                codePoint = codePoint << 6 | (buffer.get() & 0x3F);
+            }
+            if (codePoint > 0xFFFF) {
+                lowSurrogate = Character.lowSurrogate(codePoint);
+                return Character.highSurrogate(codePoint);
+            }
+            return codePoint;
+        }
+    }
+}
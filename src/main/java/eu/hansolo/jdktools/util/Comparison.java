@@ -37,6 +37,12 @@ public enum Comparison {
 
     public String getOperator() { return operator; }
 
+    /**
+     * Returns true if the comparison is one of the range operators that are written between two versions e.g. 17...21
+     * @return true if the comparison is one of the range operators
+     */
+    public boolean isRange() { return ordinal() >= RANGE_INCLUDING.ordinal(); }
+
     /**
      * Returns Comparison parsed from a given text
      * @param text Name of the comparison to parse usually the api_string of a comparison e.g. '...'
@@ -19,7 +19,6 @@
 package eu.hansolo.jdktools.util;
 
 import eu.hansolo.jdktools.Architecture;
-import eu.hansolo.jdktools.Constants;
 import eu.hansolo.jdktools.OperatingMode;
 import eu.hansolo.jdktools.OperatingSystem;
 import eu.hansolo.jdktools.TermOfSupport;
@@ -54,7 +53,14 @@ public class Helper {
 
     public static final boolean isPositiveInteger(final String text) {
         if (null == text || text.isEmpty()) { return false; }
-        return Constants.POSITIVE_INTEGER_PATTERN.matcher(text).matches();
+        // Same as Constants.POSITIVE_INTEGER_PATTERN.matcher(text).matches() without using a regex
+        final int start = text.charAt(0) == '+' ? 1 : 0;
+        if (start == text.length()) { return false; }
+        for (int i = start ; i < text.length() ; i++) {
+            final char c = text.charAt(i);
+            if (c < '0' || c > '9') { return false; }
+        }
+        return true;
     }
 
     public static final boolean isReleaseTermOfSupport(final int featureVersion, final TermOfSupport termOfSupport) {
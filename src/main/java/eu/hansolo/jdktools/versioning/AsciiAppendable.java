@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+
+/**
+ * Appendable that writes chars as ASCII bytes to a ByteBuffer at its current position,
+ * it is the writing counterpart of AsciiCharSequence. Chars that are not ASCII are
+ * written as '?'. Writing more bytes than remaining in the buffer throws a
+ * BufferOverflowException.
+ */
+final class AsciiAppendable implements Appendable {
+    private final ByteBuffer buffer;
+
+
+    AsciiAppendable(final ByteBuffer buffer) {
+        this.buffer = Objects.requireNonNull(buffer, "Buffer cannot be null");
+    }
+
+
+    @Override public AsciiAppendable append(final char c) {
+        buffer.put(c < 128 ? (byte) c : (byte) '?');
+        return this;
+    }
+
+    @Override public AsciiAppendable append(final CharSequence text) {
+        final CharSequence chars = null == text ? "null" : text;
+        return append(chars, 0, chars.length());
+    }
+
+    @Override public AsciiAppendable append(final CharSequence text, final int start, final int end) {
+        final CharSequence chars = null == text ? "null" : text;
+        Objects.checkFromToIndex(start, end, chars.length());
+        for (int i = start ; i < end ; i++) { append(chars.charAt(i)); }
+        return this;
+    }
+
+    /**
+     * Appends the decimal text of the given int without creating a String
+     * @param appendable Appendable to append to
+     * @param value      Number to append
+     * @throws IOException if the appendable cannot be appended to
+     */
+    static void appendInt(final Appendable appendable, final int value) throws IOException {
+        long number = value;
+        if (number < 0) {
+            appendable.append('-');
+            number = -number;
+        }
+        long divisor = 1;
+        while (divisor * 10 <= number) { divisor *= 10; }
+        for (; divisor > 0 ; divisor /= 10) { appendable.append((char) ('0' + number / divisor % 10)); }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+
+/**
+ * Read only CharSequence view on a region of a ByteBuffer that contains ASCII
+ * encoded text. The bytes are not copied, each call to charAt() reads directly
+ * from the buffer by using absolute indices, so the position and limit of the
+ * buffer will not be changed. This works for heap, direct and memory mapped
+ * buffers.
+ */
+final class AsciiCharSequence implements CharSequence {
+    private final ByteBuffer buffer;
+    private final int        offset;
+    private final int        length;
+
+
+    AsciiCharSequence(final byte[] bytes, final int offset, final int length) {
+        this(ByteBuffer.wrap(Objects.requireNonNull(bytes, "Bytes cannot be null")), offset, length);
+    }
+    AsciiCharSequence(final ByteBuffer buffer) {
+        this(buffer, Objects.requireNonNull(buffer, "Buffer cannot be null").position(), buffer.remaining());
+    }
+    AsciiCharSequence(final ByteBuffer buffer, final int offset, final int length) {
+        Objects.requireNonNull(buffer, "Buffer cannot be null");
+        Objects.checkFromIndexSize(offset, length, buffer.limit());
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+
+    @Override public int length() { return length; }
+
+    @Override public char charAt(final int index) {
+        Objects.checkIndex(index, length);
+        final byte b = buffer.get(offset + index);
+        // Non ASCII bytes are mapped to the replacement character so that they never match
+        return b < 0 ? '\uFFFD' : (char) b;
+    }
+
+    @Override public CharSequence subSequence(final int start, final int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return new AsciiCharSequence(buffer, offset + start, end - start);
+    }
+
+    @Override public String toString() {
+        final byte[] bytes = new byte[length];
+        for (int i = 0 ; i < length ; i++) { bytes[i] = buffer.get(offset + i); }
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
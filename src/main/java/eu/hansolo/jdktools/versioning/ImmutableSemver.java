@@ -0,0 +1,240 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import eu.hansolo.jdktools.ReleaseStatus;
+import eu.hansolo.jdktools.util.Comparison;
+
+import java.util.Objects;
+
+
+/**
+ * Immutable semver that can be shared between threads and kept in caches. Instead of changing the
+ * receiver like the increment methods of Semver, the increment and with methods return new instances
+ * that share all unchanged state with the receiver, e.g. the version number, the tokenized pre-release
+ * and the metadata, which is interned. Methods that don't change anything return the receiver.
+ * The ordering is the same as the one of Semver.
+ */
+public final class ImmutableSemver implements Comparable<ImmutableSemver> {
+    private static final Semver.PreRelease NO_PRE_RELEASE = new Semver.PreRelease("");
+    private final ImmutableVersionNumber versionNumber;
+    private final ReleaseStatus          releaseStatus;
+    private final String                 pre;
+    private final Semver.PreRelease      preRelease;
+    private final String                 preBuild;
+    private final int                    preBuildAsInt;
+    private final String                 metadata;
+    private final Comparison             comparison;
+    private final int                    hash;
+
+
+    private ImmutableSemver(final ImmutableVersionNumber versionNumber, final ReleaseStatus releaseStatus, final String pre, final Semver.PreRelease preRelease, final String preBuild, final String metadata, final Comparison comparison) {
+        this.versionNumber = versionNumber;
+        this.releaseStatus = releaseStatus;
+        this.pre           = pre;
+        this.preRelease    = preRelease;
+        this.preBuild      = preBuild;
+        this.preBuildAsInt = preBuild.isEmpty() ? -1 : Integer.parseInt(preBuild);
+        this.metadata      = metadata;
+        this.comparison    = comparison;
+        this.hash          = Objects.hash(versionNumber, releaseStatus, pre, preBuild, metadata, comparison);
+    }
+
+
+    /**
+     * Returns an immutable semver with the same version number, release status, pre-release, pre build, metadata and comparison as the given Semver
+     * @param semver Semver to convert
+     * @return an immutable semver with the same values as the given Semver
+     * @throws IllegalArgumentException if the feature version is not present or the pre build is not a number
+     */
+    public static ImmutableSemver fromSemver(final Semver semver) throws IllegalArgumentException {
+        final String pre = null == semver.getPre() ? "" : semver.getPre();
+        return new ImmutableSemver(semver.getVersionNumber().toImmutable(), semver.getReleaseStatus(), pre, pre.isEmpty() ? NO_PRE_RELEASE : semver.getPreRelease(), null == semver.getPreBuild() ? "" : semver.getPreBuild(),
+                                   intern(semver.getMetadata()), null == semver.getComparison() ? Comparison.EQUAL : semver.getComparison());
+    }
+
+    public static ImmutableSemver fromText(final String text) throws IllegalArgumentException {
+        return fromSemver(Semver.fromText(text).getSemver1());
+    }
+
+
+    public ImmutableVersionNumber getVersionNumber() { return versionNumber; }
+
+    public int getFeature() { return versionNumber.getFeature(); }
+
+    public int getInterim() { return segment(versionNumber.getInterim()); }
+
+    public int getUpdate() { return segment(versionNumber.getUpdate()); }
+
+    public int getPatch() { return segment(versionNumber.getPatch()); }
+
+    public int getFifth() { return segment(versionNumber.getFifth()); }
+
+    public int getSixth() { return segment(versionNumber.getSixth()); }
+
+    public ReleaseStatus getReleaseStatus() { return releaseStatus; }
+
+    public SimpleMajorVersion getMajorVersion() { return new SimpleMajorVersion(getFeature()); }
+
+    public String getPre() { return pre; }
+
+    public String getPreBuild() { return preBuild; }
+
+    public int getPreBuildAsInt() { return preBuildAsInt; }
+
+    public String getMetadata() { return metadata; }
+
+    public Comparison getComparison() { return comparison; }
+
+    public ImmutableSemver withFeature(final int feature) { return withVersionNumber(versionNumber.withFeature(feature)); }
+
+    public ImmutableSemver withInterim(final int interim) { return withVersionNumber(versionNumber.withInterim(interim)); }
+
+    public ImmutableSemver withUpdate(final int update) { return withVersionNumber(versionNumber.withUpdate(update)); }
+
+    public ImmutableSemver withPatch(final int patch) { return withVersionNumber(versionNumber.withPatch(patch)); }
+
+    public ImmutableSemver withFifth(final int fifth) { return withVersionNumber(versionNumber.withFifth(fifth)); }
+
+    public ImmutableSemver withSixth(final int sixth) { return withVersionNumber(versionNumber.withSixth(sixth)); }
+
+    /**
+     * Returns a semver with the given pre-release, like Semver.setPre() the release status will be GA for an empty pre-release and EA otherwise
+     * @param pre Pre-release e.g. -ea or an empty text
+     * @return a semver with the given pre-release
+     * @throws IllegalArgumentException if the pre-release is invalid
+     */
+    public ImmutableSemver withPre(final String pre) throws IllegalArgumentException {
+        final String newPre = null == pre ? "" : pre;
+        if (newPre.equals(this.pre)) { return this; }
+        if (!newPre.isEmpty()) {
+            final Error error = Semver.validatePrerelease(newPre);
+            if (null != error) { throw new IllegalArgumentException(error.getMessage()); }
+        }
+        return new ImmutableSemver(versionNumber, newPre.isEmpty() ? ReleaseStatus.GA : ReleaseStatus.EA, newPre, newPre.isEmpty() ? NO_PRE_RELEASE : new Semver.PreRelease(newPre), preBuild, metadata, comparison);
+    }
+
+    public ImmutableSemver withMetadata(final String metadata) {
+        final String newMetadata = null == metadata ? "" : metadata;
+        return newMetadata.equals(this.metadata) ? this : new ImmutableSemver(versionNumber, releaseStatus, pre, preRelease, preBuild, intern(newMetadata), comparison);
+    }
+
+    public ImmutableSemver withComparison(final Comparison comparison) {
+        return comparison == this.comparison ? this : new ImmutableSemver(versionNumber, releaseStatus, pre, preRelease, preBuild, metadata, Objects.requireNonNull(comparison, "Comparison cannot be null"));
+    }
+
+    /**
+     * Returns the next sixth version, a pre-release of the same version is released instead
+     * @return the next sixth version or the release of this pre-release
+     */
+    public ImmutableSemver incSixth() {
+        if (!pre.isEmpty()) { return release(versionNumber); }
+        return release(versionNumber.withSixth(getSixth() + 1));
+    }
+
+    public ImmutableSemver incFifth() { return release(versionNumber.withFifth(getFifth() + 1).withSixth(zero(versionNumber.getSixth()))); }
+
+    public ImmutableSemver incPatch() { return release(versionNumber.withPatch(getPatch() + 1).withFifth(zero(versionNumber.getFifth())).withSixth(zero(versionNumber.getSixth()))); }
+
+    public ImmutableSemver incUpdate() {
+        return release(versionNumber.withUpdate(getUpdate() + 1).withPatch(zero(versionNumber.getPatch())).withFifth(zero(versionNumber.getFifth())).withSixth(zero(versionNumber.getSixth())));
+    }
+
+    public ImmutableSemver incInterim() {
+        return release(versionNumber.withInterim(getInterim() + 1).withUpdate(zero(versionNumber.getUpdate())).withPatch(zero(versionNumber.getPatch()))
+                                    .withFifth(zero(versionNumber.getFifth())).withSixth(zero(versionNumber.getSixth())));
+    }
+
+    public ImmutableSemver incFeature() {
+        return release(versionNumber.withFeature(getFeature() + 1).withInterim(zero(versionNumber.getInterim())).withUpdate(zero(versionNumber.getUpdate()))
+                                    .withPatch(zero(versionNumber.getPatch())).withFifth(zero(versionNumber.getFifth())).withSixth(zero(versionNumber.getSixth())));
+    }
+
+    /**
+     * Returns a new mutable Semver with the same values
+     * @return a new mutable Semver with the same values
+     */
+    public Semver toSemver() { return new Semver(versionNumber.toVersionNumber(), releaseStatus, pre, preBuild, metadata, comparison); }
+
+    public String toString(final boolean javaFormat) { return toSemver().toString(javaFormat); }
+
+    @Override public String toString() { return toString(true); }
+
+    /**
+     * Compares the segments, the release status and the pre build like Semver.compareTo()
+     */
+    @Override public int compareTo(final ImmutableSemver other) {
+        int d;
+        if (0 != (d = Integer.compare(getFeature(), other.getFeature()))) { return d; }
+        if (0 != (d = Integer.compare(getInterim(), other.getInterim()))) { return d; }
+        if (0 != (d = Integer.compare(getUpdate(), other.getUpdate())))   { return d; }
+        if (0 != (d = Integer.compare(getPatch(), other.getPatch())))     { return d; }
+        if (0 != (d = Integer.compare(getFifth(), other.getFifth())))     { return d; }
+        if (0 != (d = Integer.compare(getSixth(), other.getSixth())))     { return d; }
+        if (ReleaseStatus.GA == releaseStatus && ReleaseStatus.EA == other.releaseStatus) { return 1; }
+        if (ReleaseStatus.EA == releaseStatus && ReleaseStatus.GA == other.releaseStatus) { return -1; }
+        return releaseStatus == other.releaseStatus ? Integer.compare(preBuildAsInt, other.preBuildAsInt) : 0;
+    }
+
+    /**
+     * Compares the segments and the pre-releases following the SemVer 2.0 precedence like Semver.compareToIgnoreBuild()
+     */
+    public int compareToIgnoreBuild(final ImmutableSemver other) {
+        int d;
+        if (0 != (d = Integer.compare(getFeature(), other.getFeature()))) { return d; }
+        if (0 != (d = Integer.compare(getInterim(), other.getInterim()))) { return d; }
+        if (0 != (d = Integer.compare(getUpdate(), other.getUpdate())))   { return d; }
+        if (0 != (d = Integer.compare(getPatch(), other.getPatch())))     { return d; }
+        if (0 != (d = Integer.compare(getFifth(), other.getFifth())))     { return d; }
+        if (0 != (d = Integer.compare(getSixth(), other.getSixth())))     { return d; }
+        if (pre.isEmpty() && other.pre.isEmpty()) { return 0; }
+        if (pre.isEmpty())       { return 1; }
+        if (other.pre.isEmpty()) { return -1; }
+        return preRelease.compareTo(other.preRelease);
+    }
+
+    @Override public boolean equals(final Object obj) {
+        if (this == obj) { return true; }
+        if (!(obj instanceof ImmutableSemver)) { return false; }
+        final ImmutableSemver other = (ImmutableSemver) obj;
+        return hash == other.hash && releaseStatus == other.releaseStatus && comparison == other.comparison && versionNumber.equals(other.versionNumber) &&
+               pre.equals(other.pre) && preBuild.equals(other.preBuild) && metadata.equals(other.metadata);
+    }
+
+    @Override public int hashCode() { return hash; }
+
+
+    private ImmutableSemver withVersionNumber(final ImmutableVersionNumber versionNumber) {
+        return versionNumber == this.versionNumber ? this : new ImmutableSemver(versionNumber, releaseStatus, pre, preRelease, preBuild, metadata, comparison);
+    }
+
+    // Released version without pre-release, pre build, build number and metadata
+    private ImmutableSemver release(final ImmutableVersionNumber versionNumber) {
+        final ImmutableVersionNumber released = versionNumber.withBuild(ImmutableVersionNumber.NOT_PRESENT).withReleaseStatus(null);
+        if (released == this.versionNumber && pre.isEmpty() && preBuild.isEmpty() && metadata.isEmpty() && ReleaseStatus.GA == releaseStatus) { return this; }
+        return new ImmutableSemver(released, ReleaseStatus.GA, "", NO_PRE_RELEASE, "", "", comparison);
+    }
+
+    private static int segment(final int segment) { return ImmutableVersionNumber.NOT_PRESENT == segment ? 0 : segment; }
+
+    // Missing segments stay missing, present ones are reset to 0
+    private static int zero(final int segment) { return ImmutableVersionNumber.NOT_PRESENT == segment ? segment : 0; }
+
+    private static String intern(final String metadata) { return null == metadata || metadata.isEmpty() ? "" : metadata.intern(); }
+}
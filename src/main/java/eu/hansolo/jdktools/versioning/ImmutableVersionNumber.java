@@ -0,0 +1,220 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import eu.hansolo.jdktools.ReleaseStatus;
+import eu.hansolo.jdktools.util.OutputFormat;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+
+/**
+ * Immutable version number that stores its segments, build number and release
+ * status in primitive fields. Missing segments and a missing build number are
+ * stored as NOT_PRESENT (-1), the feature version is always present.
+ * Instances can be shared freely between threads and used as keys in caches,
+ * equals() and hashCode() take all fields into account and the hash code is
+ * computed once. The ordering is the same as the one of VersionNumber.
+ */
+public final class ImmutableVersionNumber implements Comparable<ImmutableVersionNumber> {
+    public  static final int           NOT_PRESENT = -1;
+    private static final int           CONTINUE    = 2;
+    private final        int           feature;
+    private final        int           interim;
+    private final        int           update;
+    private final        int           patch;
+    private final        int           fifth;
+    private final        int           sixth;
+    private final        int           build;
+    private final        ReleaseStatus releaseStatus;
+    private final        int           hash;
+
+
+    private ImmutableVersionNumber(final int feature, final int interim, final int update, final int patch, final int fifth, final int sixth, final int build, final ReleaseStatus releaseStatus) {
+        this.feature       = feature;
+        this.interim       = interim;
+        this.update        = update;
+        this.patch         = patch;
+        this.fifth         = fifth;
+        this.sixth         = sixth;
+        this.build         = build;
+        this.releaseStatus = releaseStatus;
+        int h = feature;
+        h = 31 * h + interim;
+        h = 31 * h + update;
+        h = 31 * h + patch;
+        h = 31 * h + fifth;
+        h = 31 * h + sixth;
+        h = 31 * h + build;
+        this.hash = 31 * h + (null == releaseStatus ? 0 : releaseStatus.hashCode());
+    }
+
+
+    public static ImmutableVersionNumber of(final int feature) throws IllegalArgumentException {
+        return of(feature, 0, 0, 0, 0, 0, NOT_PRESENT, null);
+    }
+    public static ImmutableVersionNumber of(final int feature, final int interim, final int update, final int patch) throws IllegalArgumentException {
+        return of(feature, interim, update, patch, 0, 0, NOT_PRESENT, null);
+    }
+    /**
+     * Returns an immutable version number with the given values
+     * @param feature       Feature version (has to be larger than 0)
+     * @param interim       Interim version or NOT_PRESENT
+     * @param update        Update version or NOT_PRESENT
+     * @param patch         Patch version or NOT_PRESENT
+     * @param fifth         Fifth number or NOT_PRESENT
+     * @param sixth         Sixth number or NOT_PRESENT
+     * @param build         Build number or NOT_PRESENT
+     * @param releaseStatus Release status or null
+     * @return an immutable version number with the given values
+     * @throws IllegalArgumentException if the feature version is smaller than 1 or one of the other values is smaller than NOT_PRESENT
+     */
+    public static ImmutableVersionNumber of(final int feature, final int interim, final int update, final int patch, final int fifth, final int sixth, final int build, final ReleaseStatus releaseStatus) throws IllegalArgumentException {
+        if (0 >= feature)          { throw new IllegalArgumentException("Feature version cannot be smaller than 0"); }
+        if (NOT_PRESENT > interim) { throw new IllegalArgumentException("Interim version cannot be smaller than 0"); }
+        if (NOT_PRESENT > update)  { throw new IllegalArgumentException("Update version cannot be smaller than 0"); }
+        if (NOT_PRESENT > patch)   { throw new IllegalArgumentException("Patch version cannot be smaller than 0"); }
+        if (NOT_PRESENT > fifth)   { throw new IllegalArgumentException("Fifth number cannot be smaller than 0"); }
+        if (NOT_PRESENT > sixth)   { throw new IllegalArgumentException("Sixth number cannot be smaller than 0"); }
+        if (NOT_PRESENT > build)   { throw new IllegalArgumentException("Build number cannot be smaller than 0"); }
+        return new ImmutableVersionNumber(feature, interim, update, patch, fifth, sixth, build, releaseStatus);
+    }
+
+    /**
+     * Returns an immutable version number with the same segments, build number and release status as the given VersionNumber
+     * @param versionNumber VersionNumber to convert
+     * @return an immutable version number with the same values as the given VersionNumber
+     * @throws IllegalArgumentException if the feature version of the given VersionNumber is not present
+     */
+    public static ImmutableVersionNumber fromVersionNumber(final VersionNumber versionNumber) throws IllegalArgumentException {
+        if (versionNumber.getFeature().isEmpty()) { throw new IllegalArgumentException("Feature version cannot be null"); }
+        return new ImmutableVersionNumber(versionNumber.getFeature().getAsInt(), toInt(versionNumber.getInterim()), toInt(versionNumber.getUpdate()), toInt(versionNumber.getPatch()),
+                                          toInt(versionNumber.getFifth()), toInt(versionNumber.getSixth()), toInt(versionNumber.getBuild()), versionNumber.getReleaseStatus().orElse(null));
+    }
+
+    public static ImmutableVersionNumber fromText(final String text) throws IllegalArgumentException {
+        return fromVersionNumber(VersionNumber.fromText(text));
+    }
+
+
+    public int getFeature() { return feature; }
+
+    public int getInterim() { return interim; }
+
+    public int getUpdate() { return update; }
+
+    public int getPatch() { return patch; }
+
+    public int getFifth() { return fifth; }
+
+    public int getSixth() { return sixth; }
+
+    public int getBuild() { return build; }
+
+    public boolean hasBuild() { return NOT_PRESENT != build; }
+
+    public Optional<ReleaseStatus> getReleaseStatus() { return Optional.ofNullable(releaseStatus); }
+
+    public boolean isEarlyAccess() { return ReleaseStatus.EA == releaseStatus; }
+
+    public ImmutableVersionNumber withFeature(final int feature) { return feature == this.feature ? this : of(feature, interim, update, patch, fifth, sixth, build, releaseStatus); }
+
+    public ImmutableVersionNumber withInterim(final int interim) { return interim == this.interim ? this : of(feature, interim, update, patch, fifth, sixth, build, releaseStatus); }
+
+    public ImmutableVersionNumber withUpdate(final int update) { return update == this.update ? this : of(feature, interim, update, patch, fifth, sixth, build, releaseStatus); }
+
+    public ImmutableVersionNumber withPatch(final int patch) { return patch == this.patch ? this : of(feature, interim, update, patch, fifth, sixth, build, releaseStatus); }
+
+    public ImmutableVersionNumber withFifth(final int fifth) { return fifth == this.fifth ? this : of(feature, interim, update, patch, fifth, sixth, build, releaseStatus); }
+
+    public ImmutableVersionNumber withSixth(final int sixth) { return sixth == this.sixth ? this : of(feature, interim, update, patch, fifth, sixth, build, releaseStatus); }
+
+    public ImmutableVersionNumber withBuild(final int build) { return build == this.build ? this : of(feature, interim, update, patch, fifth, sixth, build, releaseStatus); }
+
+    public ImmutableVersionNumber withReleaseStatus(final ReleaseStatus releaseStatus) { return releaseStatus == this.releaseStatus ? this : of(feature, interim, update, patch, fifth, sixth, build, releaseStatus); }
+
+    /**
+     * Returns a new mutable VersionNumber with the same segments, build number and release status
+     * @return a new mutable VersionNumber with the same values
+     */
+    public VersionNumber toVersionNumber() {
+        return new VersionNumber(OptionalInt.of(feature), toOptional(interim), toOptional(update), toOptional(patch), toOptional(fifth), toOptional(sixth), toOptional(build), getReleaseStatus());
+    }
+
+    public String toString(final OutputFormat outputFormat, final boolean javaFormat, final boolean includeReleaseStatusAndBuild) {
+        return toVersionNumber().toString(outputFormat, javaFormat, includeReleaseStatusAndBuild);
+    }
+
+    @Override public String toString() { return toVersionNumber().toString(); }
+
+    @Override public int compareTo(final ImmutableVersionNumber other) {
+        int ret = compareNumbers(other);
+        if (0 == ret && ReleaseStatus.EA == releaseStatus && ReleaseStatus.EA == other.releaseStatus) {
+            if (hasBuild() && other.hasBuild()) {
+                ret = Integer.compare(build, other.build);
+            } else if (hasBuild()) {
+                ret = 1;
+            } else if (other.hasBuild()) {
+                ret = -1;
+            }
+        }
+        return ret;
+    }
+
+    @Override public boolean equals(final Object obj) {
+        if (this == obj) { return true; }
+        if (!(obj instanceof ImmutableVersionNumber)) { return false; }
+        final ImmutableVersionNumber other = (ImmutableVersionNumber) obj;
+        return hash    == other.hash    && feature == other.feature && interim == other.interim && update == other.update && patch == other.patch &&
+               fifth   == other.fifth   && sixth   == other.sixth   && build   == other.build   && releaseStatus == other.releaseStatus;
+    }
+
+    @Override public int hashCode() { return hash; }
+
+
+    // Same order as VersionNumber.compareTo(), a segment that is missing on both sides ends the comparison
+    private int compareNumbers(final ImmutableVersionNumber other) {
+        if (feature != other.feature) { return feature > other.feature ? 1 : -1; }
+        int ret;
+        if (CONTINUE != (ret = compareSegment(interim, other.interim))) { return ret; }
+        if (CONTINUE != (ret = compareSegment(update, other.update)))   { return ret; }
+        if (CONTINUE != (ret = compareSegment(patch, other.patch)))     { return ret; }
+        if (CONTINUE != (ret = compareSegment(fifth, other.fifth)))     { return ret; }
+        if (CONTINUE != (ret = compareSegment(sixth, other.sixth)))     { return ret; }
+
+        final ReleaseStatus thisStatus  = null == releaseStatus       ? ReleaseStatus.GA : releaseStatus;
+        final ReleaseStatus otherStatus = null == other.releaseStatus ? ReleaseStatus.GA : other.releaseStatus;
+        if (ReleaseStatus.GA == thisStatus && ReleaseStatus.EA == otherStatus) { return 1; }
+        if (ReleaseStatus.EA == thisStatus && ReleaseStatus.GA == otherStatus) { return -1; }
+        if (thisStatus == otherStatus) { return Integer.compare(hasBuild() ? build : 0, other.hasBuild() ? other.build : 0); }
+        return 0;
+    }
+
+    private static int compareSegment(final int segment, final int otherSegment) {
+        if (NOT_PRESENT != segment && NOT_PRESENT != otherSegment) { return segment == otherSegment ? CONTINUE : (segment > otherSegment ? 1 : -1); }
+        if (NOT_PRESENT != segment)      { return 1; }
+        if (NOT_PRESENT != otherSegment) { return -1; }
+        return 0;
+    }
+
+    private static int toInt(final OptionalInt value) { return null == value || value.isEmpty() ? NOT_PRESENT : value.getAsInt(); }
+
+    private static OptionalInt toOptional(final int value) { return NOT_PRESENT == value ? OptionalInt.empty() : OptionalInt.of(value); }
+}
@@ -0,0 +1,211 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import eu.hansolo.jdktools.Latest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+
+/**
+ * Resolves the payloads (e.g. packages) that are the latest ones in the sense of a Latest mode in a
+ * single pass. Each payload is added together with its distribution and version number and only the
+ * payloads with the running maximum version of each group are kept, so the memory needed depends on
+ * the number of groups and not on the number of payloads.
+ *
+ * OVERALL          : payloads with the latest version of all payloads
+ * PER_DISTRIBUTION : payloads with the latest version of each distribution
+ * PER_VERSION      : payloads with the latest version of each feature version
+ * AVAILABLE        : payloads with the latest version of each feature version per distribution
+ * ALL_OF_VERSION   : all payloads with a version that matches the given version number (see VersionNumber.compareForFilterTo())
+ *
+ * The results keep the order in which the groups and the payloads of a group were added.
+ */
+public final class LatestResolver<T> {
+    private final Latest                latest;
+    private final VersionNumber         versionNumber;
+    private final Map<Object, Group<T>> groups;
+    private final List<T>               allOfVersion;
+
+
+    private LatestResolver(final Latest latest, final VersionNumber versionNumber) {
+        this.latest        = latest;
+        this.versionNumber = versionNumber;
+        this.groups        = new LinkedHashMap<>();
+        this.allOfVersion  = new ArrayList<>();
+    }
+
+
+    public static <T> LatestResolver<T> create(final Latest latest) throws IllegalArgumentException {
+        return create(latest, null);
+    }
+    /**
+     * Returns a new resolver for the given mode
+     * @param latest        Mode that defines which payloads are the latest ones
+     * @param versionNumber Version number to match, only needed for Latest.ALL_OF_VERSION
+     * @return a new resolver for the given mode
+     * @throws IllegalArgumentException if the mode is NONE or NOT_FOUND or no version number is given for ALL_OF_VERSION
+     */
+    public static <T> LatestResolver<T> create(final Latest latest, final VersionNumber versionNumber) throws IllegalArgumentException {
+        if (null == latest || Latest.NONE == latest || Latest.NOT_FOUND == latest) { throw new IllegalArgumentException("Latest " + latest + " cannot be resolved"); }
+        if (Latest.ALL_OF_VERSION == latest && null == versionNumber) { throw new IllegalArgumentException("Latest.ALL_OF_VERSION needs a version number"); }
+        return new LatestResolver<>(latest, versionNumber);
+    }
+
+    /**
+     * Resolves the latest payloads of the given stream in one pass
+     * @param payloads        Payloads to resolve e.g. packages
+     * @param latest          Mode that defines which payloads are the latest ones
+     * @param distributionOf  Function that returns the distribution of a payload
+     * @param versionNumberOf Function that returns the version number of a payload
+     * @return the latest payloads of the given stream
+     */
+    public static <T> List<T> resolve(final Stream<? extends T> payloads, final Latest latest, final Function<? super T, String> distributionOf, final Function<? super T, VersionNumber> versionNumberOf) throws IllegalArgumentException {
+        return resolve(payloads, latest, null, distributionOf, versionNumberOf);
+    }
+    public static <T> List<T> resolve(final Stream<? extends T> payloads, final Latest latest, final VersionNumber versionNumber, final Function<? super T, String> distributionOf, final Function<? super T, VersionNumber> versionNumberOf) throws IllegalArgumentException {
+        final LatestResolver<T> resolver = create(latest, versionNumber);
+        payloads.forEachOrdered(payload -> resolver.add(distributionOf.apply(payload), versionNumberOf.apply(payload), payload));
+        return resolver.getResults();
+    }
+
+
+    public Latest getLatest() { return latest; }
+
+    /**
+     * Adds the given payload, it will be kept if its version is at least the latest version of its group
+     * @param distribution  Distribution of the payload (can be null if the mode does not group by distribution)
+     * @param versionNumber Version number of the payload
+     * @param payload       Payload e.g. a package
+     * @return this resolver
+     */
+    public LatestResolver<T> add(final String distribution, final VersionNumber versionNumber, final T payload) {
+        Objects.requireNonNull(versionNumber, "Version number cannot be null");
+        if (Latest.ALL_OF_VERSION == latest) {
+            if (0 == versionNumber.compareForFilterTo(this.versionNumber)) { allOfVersion.add(payload); }
+            return this;
+        }
+        final Object   key   = groupKey(distribution, versionNumber);
+        final Group<T> group = groups.get(key);
+        if (null == group) {
+            groups.put(key, new Group<>(versionNumber, payload));
+        } else {
+            group.add(versionNumber, payload);
+        }
+        return this;
+    }
+
+    /**
+     * Adds all results of the given resolver to this resolver, the resolvers need to use the same mode.
+     * This makes it possible to resolve parts of the payloads in parallel and combine the results.
+     * @param other Resolver with the same mode
+     * @return this resolver
+     */
+    public LatestResolver<T> combine(final LatestResolver<T> other) {
+        if (latest != other.latest) { throw new IllegalArgumentException("Resolvers with different modes cannot be combined"); }
+        allOfVersion.addAll(other.allOfVersion);
+        for (Map.Entry<Object, Group<T>> entry : other.groups.entrySet()) {
+            final Group<T> otherGroup = entry.getValue();
+            for (T payload : otherGroup.payloads) {
+                final Group<T> group = groups.get(entry.getKey());
+                if (null == group) {
+                    groups.put(entry.getKey(), new Group<>(otherGroup.max, payload));
+                } else {
+                    group.add(otherGroup.max, payload);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the latest payloads that have been added so far
+     * @return the latest payloads that have been added so far
+     */
+    public List<T> getResults() {
+        if (Latest.ALL_OF_VERSION == latest) { return new ArrayList<>(allOfVersion); }
+        final List<T> results = new ArrayList<>();
+        for (Group<T> group : groups.values()) { results.addAll(group.payloads); }
+        return results;
+    }
+
+
+    private Object groupKey(final String distribution, final VersionNumber versionNumber) {
+        final int feature = versionNumber.getFeature().orElse(0);
+        return switch (latest) {
+            case PER_DISTRIBUTION -> null == distribution ? "" : distribution;
+            case PER_VERSION      -> feature;
+            case AVAILABLE        -> new DistributionAndFeature(distribution, feature);
+            default               -> Latest.OVERALL;
+        };
+    }
+
+
+    private static final class Group<T> {
+        private       VersionNumber max;
+        private final List<T>       payloads;
+
+
+        private Group(final VersionNumber versionNumber, final T payload) {
+            this.max      = versionNumber;
+            this.payloads = new ArrayList<>(2);
+            this.payloads.add(payload);
+        }
+
+
+        private void add(final VersionNumber versionNumber, final T payload) {
+            final int result = versionNumber.compareTo(max);
+            if (result > 0) {
+                max = versionNumber;
+                payloads.clear();
+                payloads.add(payload);
+            } else if (result == 0) {
+                payloads.add(payload);
+            }
+        }
+    }
+
+
+    private static final class DistributionAndFeature {
+        private final String distribution;
+        private final int    feature;
+
+
+        private DistributionAndFeature(final String distribution, final int feature) {
+            this.distribution = null == distribution ? "" : distribution;
+            this.feature      = feature;
+        }
+
+
+        @Override public boolean equals(final Object obj) {
+            if (this == obj) { return true; }
+            if (!(obj instanceof DistributionAndFeature)) { return false; }
+            final DistributionAndFeature other = (DistributionAndFeature) obj;
+            return feature == other.feature && distribution.equals(other.distribution);
+        }
+
+        @Override public int hashCode() { return 31 * distribution.hashCode() + feature; }
+    }
+}
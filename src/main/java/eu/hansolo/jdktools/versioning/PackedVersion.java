@@ -0,0 +1,222 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import eu.hansolo.jdktools.ReleaseStatus;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+
+/**
+ * Immutable version value that encodes a VersionNumber into two longs.
+ *
+ * high: feature (16 bit) | interim (16 bit) | update (16 bit) | patch (16 bit)
+ * low : fifth (16 bit) | sixth (16 bit) | not ea (1 bit) | build (28 bit) | release status (3 bit)
+ *
+ * Each segment is stored as value + 1 so that 0 marks a missing segment, the same
+ * is done for the build number. Because of this layout comparing two versions is
+ * just an unsigned comparison of high followed by an unsigned comparison of low,
+ * where GA versions are sorted after EA versions of the same number and EA
+ * versions are sorted by their build number.
+ * Segments are limited to MAX_SEGMENT and build numbers to MAX_BUILD.
+ */
+public final class PackedVersion implements Comparable<PackedVersion> {
+    public  static final int MAX_SEGMENT  = 0xFFFE;
+    public  static final int MAX_BUILD    = 0x0FFFFFFE;
+    private static final int SEGMENT_MASK = 0xFFFF;
+    private static final int BUILD_MASK   = 0x0FFFFFFF;
+    private static final int STATUS_MASK  = 0x07;
+    private static final int BUILD_SHIFT  = 3;
+    private static final int NOT_EA_SHIFT = 31;
+
+    private final long high;
+    private final long low;
+
+
+    public PackedVersion(final long high, final long low) {
+        this.high = high;
+        this.low  = low;
+    }
+
+
+    public static PackedVersion of(final int feature, final int interim, final int update, final int patch) {
+        return of(feature, interim, update, patch, 0, 0, ReleaseStatus.GA, 0);
+    }
+    public static PackedVersion of(final int feature, final int interim, final int update, final int patch, final int fifth, final int sixth, final ReleaseStatus releaseStatus, final int build) throws IllegalArgumentException {
+        return new PackedVersion(packHigh(toSegment(feature), toSegment(interim), toSegment(update), toSegment(patch)),
+                                 packLow(toSegment(fifth), toSegment(sixth), releaseStatus, build > 0 ? toBuild(build) : 0));
+    }
+
+    /**
+     * Returns a PackedVersion that contains all segments, the release status and the build number of the given VersionNumber
+     * @param versionNumber VersionNumber to pack
+     * @return a PackedVersion that contains all information of the given VersionNumber
+     * @throws IllegalArgumentException if a segment is larger than MAX_SEGMENT or the build number is larger than MAX_BUILD
+     */
+    public static PackedVersion fromVersionNumber(final VersionNumber versionNumber) throws IllegalArgumentException {
+        return new PackedVersion(high(versionNumber), low(versionNumber));
+    }
+
+    /**
+     * Returns a PackedVersion that contains the segments, the release status and the pre build number of the given Semver.
+     * The pre-release and metadata texts of the Semver are not part of the packed value.
+     * @param semver Semver to pack
+     * @return a PackedVersion that contains the parts of the given Semver that are relevant for ordering
+     * @throws IllegalArgumentException if a segment is larger than MAX_SEGMENT or the build number is larger than MAX_BUILD
+     */
+    public static PackedVersion fromSemver(final Semver semver) throws IllegalArgumentException {
+        final int preBuild = semver.getPreBuildAsInt();
+        return of(semver.getFeature(), semver.getInterim(), semver.getUpdate(), semver.getPatch(), semver.getFifth(), semver.getSixth(), semver.getReleaseStatus(), preBuild);
+    }
+
+    /**
+     * Returns true if all segments and the build number of the given VersionNumber fit into a PackedVersion
+     * @param versionNumber VersionNumber to check
+     * @return true if all segments and the build number of the given VersionNumber fit into a PackedVersion
+     */
+    public static boolean isPackable(final VersionNumber versionNumber) {
+        return fits(versionNumber.getFeature(), MAX_SEGMENT) && fits(versionNumber.getInterim(), MAX_SEGMENT) && fits(versionNumber.getUpdate(), MAX_SEGMENT) &&
+               fits(versionNumber.getPatch(), MAX_SEGMENT)   && fits(versionNumber.getFifth(), MAX_SEGMENT)   && fits(versionNumber.getSixth(), MAX_SEGMENT)  &&
+               fits(versionNumber.getBuild(), MAX_BUILD);
+    }
+
+    /**
+     * Returns the high part of the packed representation of the given VersionNumber.
+     * Together with low() this can be used to store versions in primitive long arrays.
+     * @param versionNumber VersionNumber to pack
+     * @return the high part of the packed representation of the given VersionNumber
+     */
+    public static long high(final VersionNumber versionNumber) throws IllegalArgumentException {
+        return packHigh(toSegment(versionNumber.getFeature()), toSegment(versionNumber.getInterim()), toSegment(versionNumber.getUpdate()), toSegment(versionNumber.getPatch()));
+    }
+
+    /**
+     * Returns the low part of the packed representation of the given VersionNumber.
+     * Together with high() this can be used to store versions in primitive long arrays.
+     * @param versionNumber VersionNumber to pack
+     * @return the low part of the packed representation of the given VersionNumber
+     */
+    public static long low(final VersionNumber versionNumber) throws IllegalArgumentException {
+        final OptionalInt build = versionNumber.getBuild();
+        return packLow(toSegment(versionNumber.getFifth()), toSegment(versionNumber.getSixth()), versionNumber.getReleaseStatus().orElse(null), null != build && build.isPresent() ? toBuild(build.getAsInt()) : 0);
+    }
+
+    /**
+     * Compares two packed versions given by their high and low parts
+     * @return a negative value, zero or a positive value if the first version is smaller, equal or larger than the second version
+     */
+    public static int compare(final long high1, final long low1, final long high2, final long low2) {
+        final int result = Long.compareUnsigned(high1, high2);
+        return 0 == result ? Long.compareUnsigned(low1, low2) : result;
+    }
+
+
+    public long getHigh() { return high; }
+
+    public long getLow() { return low; }
+
+    public OptionalInt getFeature() { return fromSegment((int) (high >>> 48)); }
+
+    public OptionalInt getInterim() { return fromSegment((int) (high >>> 32) & SEGMENT_MASK); }
+
+    public OptionalInt getUpdate() { return fromSegment((int) (high >>> 16) & SEGMENT_MASK); }
+
+    public OptionalInt getPatch() { return fromSegment((int) high & SEGMENT_MASK); }
+
+    public OptionalInt getFifth() { return fromSegment((int) (low >>> 48)); }
+
+    public OptionalInt getSixth() { return fromSegment((int) (low >>> 32) & SEGMENT_MASK); }
+
+    public OptionalInt getBuild() {
+        final int build = ((int) low >>> BUILD_SHIFT) & BUILD_MASK;
+        return 0 == build ? OptionalInt.empty() : OptionalInt.of(build - 1);
+    }
+
+    public Optional<ReleaseStatus> getReleaseStatus() {
+        final int status = (int) low & STATUS_MASK;
+        return 0 == status ? Optional.empty() : Optional.of(ReleaseStatus.values()[status - 1]);
+    }
+
+    public boolean isEarlyAccess() { return 0 == ((low >>> NOT_EA_SHIFT) & 1); }
+
+    /**
+     * Returns a new VersionNumber that contains the same segments, release status and build number
+     * @return a new VersionNumber that contains the same segments, release status and build number
+     */
+    public VersionNumber toVersionNumber() {
+        return new VersionNumber(getFeature(), getInterim(), getUpdate(), getPatch(), getFifth(), getSixth(), getBuild(), getReleaseStatus());
+    }
+
+    /**
+     * Returns a new Semver that contains the same segments, release status and build number
+     * @return a new Semver that contains the same segments, release status and build number
+     */
+    public Semver toSemver() {
+        return Semver.of(toVersionNumber());
+    }
+
+    @Override public int compareTo(final PackedVersion other) {
+        return compare(high, low, other.high, other.low);
+    }
+
+    @Override public boolean equals(final Object obj) {
+        if (this == obj) { return true; }
+        if (!(obj instanceof PackedVersion)) { return false; }
+        PackedVersion other = (PackedVersion) obj;
+        return high == other.high && low == other.low;
+    }
+
+    @Override public int hashCode() { return Long.hashCode(high) * 31 + Long.hashCode(low); }
+
+    @Override public String toString() { return toVersionNumber().toStringInclBuild(true); }
+
+
+    private static long packHigh(final int feature, final int interim, final int update, final int patch) {
+        return ((long) feature << 48) | ((long) interim << 32) | ((long) update << 16) | patch;
+    }
+
+    private static long packLow(final int fifth, final int sixth, final ReleaseStatus releaseStatus, final int build) {
+        final long notEa  = ReleaseStatus.EA == releaseStatus ? 0 : 1;
+        final long status = null == releaseStatus ? 0 : releaseStatus.ordinal() + 1;
+        return ((long) fifth << 48) | ((long) sixth << 32) | (notEa << NOT_EA_SHIFT) | ((long) build << BUILD_SHIFT) | status;
+    }
+
+    private static int toSegment(final OptionalInt segment) {
+        if (null == segment || segment.isEmpty()) { return 0; }
+        return toSegment(segment.getAsInt());
+    }
+    private static int toSegment(final int segment) {
+        if (segment < 0 || segment > MAX_SEGMENT) { throw new IllegalArgumentException("Segment " + segment + " cannot be packed, it has to be in the range 0 - " + MAX_SEGMENT); }
+        return segment + 1;
+    }
+
+    private static int toBuild(final int build) {
+        if (build < 0 || build > MAX_BUILD) { throw new IllegalArgumentException("Build number " + build + " cannot be packed, it has to be in the range 0 - " + MAX_BUILD); }
+        return build + 1;
+    }
+
+    private static OptionalInt fromSegment(final int segment) {
+        return 0 == segment ? OptionalInt.empty() : OptionalInt.of(segment - 1);
+    }
+
+    private static boolean fits(final OptionalInt value, final int max) {
+        return null == value || value.isEmpty() || (value.getAsInt() >= 0 && value.getAsInt() <= max);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+
+/**
+ * Result of parsing a batch of texts. The results are aligned with the input,
+ * the result at index i belongs to the text at index i and is null if that
+ * text could not be parsed. For each failed text the index and the error
+ * message are stored in the error report which is sorted by index.
+ */
+public final class ParseResults<T> {
+    private static final int      MIN_CHUNK_SIZE = 256;
+    private final        List<T>  results;
+    private final        int[]    errorIndices;
+    private final        String[] errorMessages;
+
+
+    private ParseResults(final T[] results, final int[] errorIndices, final String[] errorMessages) {
+        this.results       = Collections.unmodifiableList(Arrays.asList(results));
+        this.errorIndices  = errorIndices;
+        this.errorMessages = errorMessages;
+    }
+
+
+    public int size() { return results.size(); }
+
+    /**
+     * Returns the result for the text at the given index or null if that text could not be parsed
+     * @param index Index of the text in the input
+     * @return the result for the text at the given index or null if that text could not be parsed
+     */
+    public T get(final int index) { return results.get(index); }
+
+    /**
+     * Returns an unmodifiable list of all results, aligned with the input and containing null for failed texts
+     * @return an unmodifiable list of all results
+     */
+    public List<T> getResults() { return results; }
+
+    public boolean hasErrors() { return errorIndices.length > 0; }
+
+    public int getErrorCount() { return errorIndices.length; }
+
+    /**
+     * Returns the input indices of all texts that could not be parsed in ascending order
+     * @return the input indices of all texts that could not be parsed in ascending order
+     */
+    public int[] getErrorIndices() { return errorIndices.clone(); }
+
+    /**
+     * Returns the error message for the text at the given input index or null if that text was parsed successfully
+     * @param index Index of the text in the input
+     * @return the error message for the text at the given input index or null if that text was parsed successfully
+     */
+    public String getErrorMessage(final int index) {
+        final int i = Arrays.binarySearch(errorIndices, index);
+        return i < 0 ? null : errorMessages[i];
+    }
+
+    @Override public String toString() {
+        final StringBuilder msgBuilder = new StringBuilder().append("{")
+                                                            .append("\"size\":").append(size()).append(",")
+                                                            .append("\"errors\":[");
+        for (int i = 0 ; i < errorIndices.length ; i++) {
+            if (i > 0) { msgBuilder.append(","); }
+            msgBuilder.append("{\"index\":").append(errorIndices[i]).append(",\"message\":\"").append(errorMessages[i].replace("\\", "\\\\").replace("\"", "\\\"")).append("\"}");
+        }
+        return msgBuilder.append("]}").toString();
+    }
+
+
+    /**
+     * Parses all given texts in chunks on the given executor and collects the results and errors.
+     * Only IllegalArgumentExceptions are collected as errors, all other exceptions are rethrown.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ParseResults<T> parseAll(final Collection<? extends CharSequence> texts, final Executor executor, final Function<CharSequence, T> parser) {
+        Objects.requireNonNull(texts, "Texts cannot be null");
+        final Executor       exec        = null == executor ? ForkJoinPool.commonPool() : executor;
+        final CharSequence[] input       = texts.toArray(new CharSequence[0]);
+        final int            noOfTexts   = input.length;
+        final T[]            results     = (T[]) new Object[noOfTexts];
+        final int            parallelism = exec instanceof ForkJoinPool ? ((ForkJoinPool) exec).getParallelism() : Runtime.getRuntime().availableProcessors();
+        final int            chunkSize   = Math.max(MIN_CHUNK_SIZE, noOfTexts / (Math.max(1, parallelism) * 4) + 1);
+        final int            noOfChunks  = (noOfTexts + chunkSize - 1) / chunkSize;
+
+        final List<CompletableFuture<Chunk>> futures = new ArrayList<>(noOfChunks);
+        for (int c = 0 ; c < noOfChunks ; c++) {
+            final int from = c * chunkSize;
+            final int to   = Math.min(noOfTexts, from + chunkSize);
+            futures.add(CompletableFuture.supplyAsync(() -> parseChunk(input, from, to, results, parser), exec));
+        }
+
+        // Chunks are joined in input order which keeps the error report sorted by index
+        int           noOfErrors = 0;
+        final Chunk[] chunks     = new Chunk[noOfChunks];
+        for (int c = 0 ; c < noOfChunks ; c++) {
+            try {
+                chunks[c] = futures.get(c).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) { throw (RuntimeException) e.getCause(); }
+                throw e;
+            }
+            noOfErrors += chunks[c].noOfErrors;
+        }
+        final int[]    errorIndices  = new int[noOfErrors];
+        final String[] errorMessages = new String[noOfErrors];
+        int            offset        = 0;
+        for (Chunk chunk : chunks) {
+            System.arraycopy(chunk.errorIndices, 0, errorIndices, offset, chunk.noOfErrors);
+            System.arraycopy(chunk.errorMessages, 0, errorMessages, offset, chunk.noOfErrors);
+            offset += chunk.noOfErrors;
+        }
+        return new ParseResults<>(results, errorIndices, errorMessages);
+    }
+
+    private static <T> Chunk parseChunk(final CharSequence[] input, final int from, final int to, final T[] results, final Function<CharSequence, T> parser) {
+        final Chunk chunk = new Chunk();
+        for (int i = from ; i < to ; i++) {
+            try {
+                results[i] = parser.apply(input[i]);
+            } catch (IllegalArgumentException e) {
+                chunk.add(i, null == e.getMessage() ? e.getClass().getSimpleName() : e.getMessage());
+            }
+        }
+        return chunk;
+    }
+
+
+    private static final class Chunk {
+        private int[]    errorIndices  = new int[0];
+        private String[] errorMessages = new String[0];
+        private int      noOfErrors;
+
+
+        private void add(final int index, final String message) {
+            if (noOfErrors == errorIndices.length) {
+                final int newLength = Math.max(8, noOfErrors * 2);
+                errorIndices  = Arrays.copyOf(errorIndices, newLength);
+                errorMessages = Arrays.copyOf(errorMessages, newLength);
+            }
+            errorIndices[noOfErrors]  = index;
+            errorMessages[noOfErrors] = message;
+            noOfErrors++;
+        }
+    }
+}
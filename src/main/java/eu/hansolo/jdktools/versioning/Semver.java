@@ -23,10 +23,14 @@ import eu.hansolo.jdktools.util.Comparison;
 import eu.hansolo.jdktools.util.Helper;
 import eu.hansolo.jdktools.util.OutputFormat;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.Objects;
-import java.util.regex.MatchResult;
-import java.util.regex.Matcher;
+import java.util.OptionalInt;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
 
 
@@ -42,6 +46,7 @@ public class Semver implements Comparable<Semver> {
     private       String        build;
     private       String        opt;
     private       Comparison    comparison;
+    private       PreRelease    preRelease;
 
 
     public Semver(final VersionNumber versionNumber) {
@@ -56,6 +61,30 @@ public class Semver implements Comparable<Semver> {
     public Semver(final VersionNumber versionNumber, final ReleaseStatus releaseStatus, final String metadata) {
         this(versionNumber, releaseStatus, ReleaseStatus.EA == releaseStatus ? "ea" : "", metadata);
     }
+    public Semver(final Semver semver) {
+        this.versionNumber = new VersionNumber(semver.getVersionNumber());
+        this.releaseStatus = semver.releaseStatus;
+        this.pre           = semver.pre;
+        this.preBuild      = semver.preBuild;
+        this.metadata      = semver.metadata;
+        this.build         = semver.build;
+        this.opt           = semver.opt;
+        this.comparison    = semver.comparison;
+    }
+    // Takes the given values as they are, they have to be consistent like the values of an existing Semver
+    Semver(final VersionNumber versionNumber, final ReleaseStatus releaseStatus, final String pre, final String preBuild, final String metadata, final Comparison comparison) {
+        this(versionNumber, releaseStatus, pre, preBuild, metadata, null, null, comparison);
+    }
+    Semver(final VersionNumber versionNumber, final ReleaseStatus releaseStatus, final String pre, final String preBuild, final String metadata, final String build, final String opt, final Comparison comparison) {
+        this.versionNumber = versionNumber;
+        this.releaseStatus = releaseStatus;
+        this.pre           = pre;
+        this.preBuild      = preBuild;
+        this.metadata      = metadata;
+        this.build         = build;
+        this.opt           = opt;
+        this.comparison    = comparison;
+    }
     public Semver(final VersionNumber versionNumber, final ReleaseStatus releaseStatus, final String pre, final String metadata) {
         this.versionNumber = versionNumber;
         this.releaseStatus = versionNumber.getReleaseStatus().isPresent() ? versionNumber.getReleaseStatus().get() : releaseStatus;
@@ -89,25 +118,25 @@ public class Semver implements Comparable<Semver> {
 
         // Extract early access preBuild
         if (null != this.pre) {
-            final Matcher           eaMatcher = EA_PATTERN.matcher(this.pre);
-            final List<MatchResult> eaResults = eaMatcher.results().toList();
-            if (!eaResults.isEmpty()) {
-                final MatchResult eaResult = eaResults.get(0);
-                if (null != eaResult.group(1)) {
-                    this.versionNumber.setReleaseStatus(ReleaseStatus.EA);
-                    if (null != eaResult.group(4)) {
-                        this.preBuild = !eaResult.group(4).equals("0") ? eaResult.group(4) : "";
-                        if ((null == this.versionNumber.getBuild() || this.versionNumber.getBuild().isEmpty()) && !this.preBuild.isEmpty()) {
-                            int build = Integer.parseInt(this.preBuild);
-                            if (build > 0) {
-                                this.versionNumber.setBuild(build);
-                            }
+            // Same as the first match of EA_PATTERN in pre
+            final int eaIndex = indexOfEa(this.pre);
+            if (eaIndex >= 0) {
+                this.versionNumber.setReleaseStatus(ReleaseStatus.EA);
+                final int buildStart = eaIndex + 3;
+                final int buildEnd   = skipDigits(this.pre, buildStart);
+                if (buildEnd > buildStart && isBuildSeparator(this.pre.charAt(eaIndex + 2))) {
+                    final String eaBuild = this.pre.substring(buildStart, buildEnd);
+                    this.preBuild = !eaBuild.equals("0") ? eaBuild : "";
+                    if ((null == this.versionNumber.getBuild() || this.versionNumber.getBuild().isEmpty()) && !this.preBuild.isEmpty()) {
+                        int build = Integer.parseInt(this.preBuild);
+                        if (build > 0) {
+                            this.versionNumber.setBuild(build);
                         }
                     }
                 }
             }
 
-            if (this.pre.matches("[a-zA-Z]+") && this.pre.length() > 0) {
+            if (isLetters(this.pre)) {
                 this.pre = "ea";
             }
         }
@@ -125,16 +154,13 @@ public class Semver implements Comparable<Semver> {
         if (ReleaseStatus.GA == this.releaseStatus && !this.pre.isEmpty() && this.pre.toLowerCase().startsWith("-ea")) { throw new IllegalArgumentException("ReleaseStatus and pre-release argument cannot be different"); }
 
         // Extract metadata e.g. build number
-        final Matcher           buildNumberMatcher = BUILD_NUMBER_PATTERN.matcher(this.metadata);
-        final List<MatchResult> buildNumberResults = buildNumberMatcher.results().toList();
-        if (!buildNumberResults.isEmpty()) {
-            final MatchResult buildNumberResult = buildNumberResults.get(0);
-            if (null != buildNumberResult.group(1) && null != buildNumberResult.group(2) && (null == this.versionNumber.getBuild() || this.versionNumber.getBuild().isEmpty())) {
-                int build = Integer.parseInt(buildNumberResult.group(2));
-                if (build > 0) {
-                    this.versionNumber.setBuild(build);
-                    this.preBuild = Integer.toString(build);
-                }
+        // Same as the first match of BUILD_NUMBER_PATTERN in metadata
+        final int buildNumberIndex = indexOfBuildNumber(this.metadata);
+        if (buildNumberIndex >= 0 && (null == this.versionNumber.getBuild() || this.versionNumber.getBuild().isEmpty())) {
+            int build = Integer.parseInt(this.metadata.substring(buildNumberIndex + 1, skipDigits(this.metadata, buildNumberIndex + 1)));
+            if (build > 0) {
+                this.versionNumber.setBuild(build);
+                this.preBuild = Integer.toString(build);
             }
         }
     }
@@ -164,6 +190,12 @@ public class Semver implements Comparable<Semver> {
 
     public SimpleMajorVersion getMajorVersion() { return new SimpleMajorVersion(getFeature()); }
 
+    /**
+     * Returns an immutable copy of this semver that can be shared between threads
+     * @return an immutable copy of this semver
+     */
+    public ImmutableSemver toImmutable() { return ImmutableSemver.fromSemver(this); }
+
     public String getPre() { return pre; }
     public void setPre(final String pre) {
         if (null != pre && pre.length() > 0) {
@@ -210,7 +242,7 @@ public class Semver implements Comparable<Semver> {
 
     public String getOpt() { return opt; }
     public void setOpt(final String opt) {
-        this.opt = opt.replaceFirst("\\+", "").replaceFirst("\\-", "");
+        this.opt = removeFirst(removeFirst(opt, '+'), '-');
     }
 
     public Comparison getComparison() { return comparison; }
@@ -304,15 +336,153 @@ public class Semver implements Comparable<Semver> {
     }
 
 
+    /**
+     * Returns a Semver for a version number that has already been parsed or validated (e.g. one of a catalog).
+     * The result equals new Semver(versionNumber) but the release status and build number are taken from the
+     * version number without formatting and re-parsing them.
+     * @param versionNumber Version number of the semver, it will be used as it is
+     * @return a Semver that equals new Semver(versionNumber)
+     */
+    public static Semver of(final VersionNumber versionNumber) {
+        final ReleaseStatus releaseStatus = null != versionNumber.getReleaseStatus() && versionNumber.getReleaseStatus().isPresent() ? versionNumber.getReleaseStatus().get() : ReleaseStatus.GA;
+        final OptionalInt   build         = versionNumber.getBuild();
+        final int           preBuild      = null != build && build.isPresent() ? build.getAsInt() : 0;
+        return of(versionNumber, releaseStatus, preBuild);
+    }
+    /**
+     * Returns a Semver with the given values without validating or re-parsing them.
+     * The pre-release will be -ea for ReleaseStatus.EA and empty otherwise, the metadata will be +preBuild if there is a pre build.
+     * @param versionNumber Version number of the semver, it will be used as it is
+     * @param releaseStatus Release status of the semver
+     * @param preBuild      Pre build number or a value smaller than 1 for no pre build
+     * @return a Semver with the given values
+     */
+    public static Semver of(final VersionNumber versionNumber, final ReleaseStatus releaseStatus, final int preBuild) {
+        return of(versionNumber, releaseStatus, preBuild, preBuild > 0 ? "+" + preBuild : "");
+    }
+    /**
+     * Returns a Semver with the given values without validating or re-parsing them
+     * @param versionNumber Version number of the semver, it will be used as it is
+     * @param releaseStatus Release status of the semver
+     * @param preBuild      Pre build number or a value smaller than 1 for no pre build
+     * @param metadata      Metadata that is either empty or starts with a +
+     * @return a Semver with the given values
+     */
+    public static Semver of(final VersionNumber versionNumber, final ReleaseStatus releaseStatus, final int preBuild, final String metadata) {
+        Objects.requireNonNull(versionNumber, "Version number cannot be null");
+        return new Semver(versionNumber, releaseStatus, ReleaseStatus.EA == releaseStatus ? "-ea" : "", preBuild > 0 ? Integer.toString(preBuild) : "", null == metadata ? "" : metadata, Comparison.EQUAL);
+    }
+
     public static SemverParsingResult fromText(final String text) throws IllegalArgumentException {
         SemverParsingResult result = SemverParser.fromText(text);
         if (null != result.getError1()) { throw new IllegalArgumentException("Error parsing Semver from text. " + result.getError1()); }
         if (null != result.getError2()) { throw new IllegalArgumentException("Error parsing Semver from text. " + result.getError2()); }
-        return SemverParser.fromText(text);
+        return result;
+    }
+    /**
+     * Returns the result of parsing the given region of the text without creating a substring
+     * @param text  Text that contains the region to parse (e.g. a StringBuilder, CharBuffer or String)
+     * @param start Start index of the region (inclusive)
+     * @param end   End index of the region (exclusive)
+     * @return the result of parsing the given region of the text
+     * @throws IllegalArgumentException Throws IllegalArgumentException in case the region could not be parsed
+     */
+    public static SemverParsingResult fromText(final CharSequence text, final int start, final int end) throws IllegalArgumentException {
+        SemverParsingResult result = SemverParser.fromText(text, start, end);
+        if (null != result.getError1()) { throw new IllegalArgumentException("Error parsing Semver from text. " + result.getError1()); }
+        if (null != result.getError2()) { throw new IllegalArgumentException("Error parsing Semver from text. " + result.getError2()); }
+        return result;
+    }
+    /**
+     * Returns the result of parsing the given region of ASCII encoded bytes without creating a String
+     * @param bytes  Bytes that contain the ASCII encoded text
+     * @param offset Index of the first byte of the region
+     * @param length Number of bytes in the region
+     * @return the result of parsing the given region of the bytes
+     * @throws IllegalArgumentException Throws IllegalArgumentException in case the region could not be parsed
+     */
+    public static SemverParsingResult fromAscii(final byte[] bytes, final int offset, final int length) throws IllegalArgumentException {
+        return fromText(new AsciiCharSequence(bytes, offset, length), 0, length);
+    }
+    /**
+     * Returns the result of parsing the remaining ASCII encoded bytes of the given buffer (position to limit).
+     * The position and limit of the buffer will not be changed.
+     * @param buffer Buffer that contains the ASCII encoded text
+     * @return the result of parsing the remaining bytes of the buffer
+     * @throws IllegalArgumentException Throws IllegalArgumentException in case the buffer could not be parsed
+     */
+    public static SemverParsingResult fromAscii(final ByteBuffer buffer) throws IllegalArgumentException {
+        final AsciiCharSequence text = new AsciiCharSequence(buffer);
+        return fromText(text, 0, text.length());
+    }
+    /**
+     * Parses all given texts in parallel on the common ForkJoinPool. Texts that cannot be parsed
+     * do not stop the batch, their index and error message are collected in the returned ParseResults.
+     * @param texts Texts to parse
+     * @return the parsing results aligned with the given texts and a report of all texts that could not be parsed
+     */
+    public static ParseResults<SemverParsingResult> parseAll(final Collection<? extends CharSequence> texts) {
+        return parseAll(texts, ForkJoinPool.commonPool());
+    }
+    /**
+     * Parses all given texts in parallel on the given executor. Texts that cannot be parsed
+     * do not stop the batch, their index and error message are collected in the returned ParseResults.
+     * @param texts    Texts to parse
+     * @param executor Executor that will be used to parse chunks of the texts
+     * @return the parsing results aligned with the given texts and a report of all texts that could not be parsed
+     */
+    public static ParseResults<SemverParsingResult> parseAll(final Collection<? extends CharSequence> texts, final Executor executor) {
+        return ParseResults.parseAll(texts, executor, text -> {
+            if (null == text) { throw new IllegalArgumentException("Error parsing Semver from text. Text cannot be null"); }
+            return fromText(text, 0, text.length());
+        });
+    }
+
+
+    // Index of the first "ea" or "EA"
+    private static int indexOfEa(final String text) {
+        for (int i = 0 ; i < text.length() - 1 ; i++) {
+            final char c1 = text.charAt(i);
+            final char c2 = text.charAt(i + 1);
+            if ((c1 == 'e' && c2 == 'a') || (c1 == 'E' && c2 == 'A')) { return i; }
+        }
+        return -1;
+    }
+
+    // Index of the first b or B that is followed by a digit
+    private static int indexOfBuildNumber(final String text) {
+        for (int i = 0 ; i < text.length() - 1 ; i++) {
+            final char c = text.charAt(i);
+            if ((c == 'b' || c == 'B') && isDigit(text.charAt(i + 1))) { return i; }
+        }
+        return -1;
     }
 
+    private static boolean isBuildSeparator(final char c) { return c == '.' || c == '+' || c == '-'; }
+
+    private static boolean isDigit(final char c) { return c >= '0' && c <= '9'; }
+
+    private static boolean isLetters(final String text) {
+        if (text.isEmpty()) { return false; }
+        for (int i = 0 ; i < text.length() ; i++) {
+            final char c = text.charAt(i);
+            if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z')) { return false; }
+        }
+        return true;
+    }
 
-    private Error validatePrerelease(final String prerelease) {
+    private static int skipDigits(final String text, final int from) {
+        int pos = from;
+        while (pos < text.length() && isDigit(text.charAt(pos))) { pos++; }
+        return pos;
+    }
+
+    private static String removeFirst(final String text, final char c) {
+        final int index = text.indexOf(c);
+        return -1 == index ? text : text.substring(0, index) + text.substring(index + 1);
+    }
+
+    static Error validatePrerelease(final String prerelease) {
         String[] eparts = prerelease.split("\\.");
         for (String p : eparts) {
             if (p.matches("[0-9]+")) {
@@ -411,106 +581,117 @@ public class Semver implements Comparable<Semver> {
         if (null == pre || pre.isEmpty()) { return 1; }
         if (null == semVer.getPre() || semVer.getPre().isEmpty()) { return -1; }
 
-        return comparePrerelease(pre, semVer.getPre());
+        return getPreRelease().compareTo(semVer.getPreRelease());
     }
 
     private int compareSegment(final int s1, final int s2) {
         return Integer.compare(s1, s2);
     }
 
-    private int comparePrerelease(final String pre1, final String pre2) {
-        String[] preParts1 = pre1.split("\\.");
-        String[] preParts2 = pre2.split("\\.");
-
-        int preParts1Length = preParts1.length;
-        int preParts2Length = preParts2.length;
-
-        int l = Math.max(preParts2Length, preParts1Length);
-
-        for (int i = 0 ; i < l ; i++) {
-            String tmp1 = "";
-            if (i < preParts1Length) {
-                tmp1 = preParts1[i];
-            }
-
-            String tmp2 = "";
-            if (i < preParts2Length) {
-                tmp2 = preParts2[i];
-            }
-
-            int d = comparePrePart(tmp1, tmp2);
-            if (d != 0) { return d; }
+    // Tokens of pre are cached until pre is replaced
+    PreRelease getPreRelease() {
+        PreRelease tokens = preRelease;
+        if (null == tokens || tokens.text != pre) {
+            tokens     = new PreRelease(pre);
+            preRelease = tokens;
         }
-        return 0;
+        return tokens;
     }
 
-    private int comparePrePart(final String prePart1, final String prePart2) {
-        if (prePart1.equals(prePart2)) {
-            return 0;
-        }
-
-        if (prePart1.isEmpty()) {
-            return !prePart2.isEmpty() ? -1 : 1;
-        }
-
-        if (prePart2.isEmpty()) {
-            return 1;
-        }
+    public String toString(final boolean javaFormat) {
+        return appendTo(new StringBuilder(32), javaFormat).toString();
+    }
 
-        Integer prePart1Number;
+    /**
+     * Appends the same text as toString(javaFormat) to the given StringBuilder without creating a String
+     * @param builder    StringBuilder to append to
+     * @param javaFormat If true only the feature, interim, update and patch numbers will be appended
+     * @return the given StringBuilder
+     */
+    public StringBuilder appendTo(final StringBuilder builder, final boolean javaFormat) {
         try {
-            prePart1Number = Integer.valueOf(prePart1);
-        } catch (NumberFormatException e) {
-            prePart1Number = null;
+            appendTo((Appendable) builder, javaFormat);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        Integer prePart2Number;
-        try {
-            prePart2Number = Integer.valueOf(prePart2);
-        } catch (NumberFormatException e) {
-            prePart2Number = null;
-        }
-
-        if (null != prePart1Number && null != prePart2Number) {
-            return prePart1Number > prePart2Number ? 1 : -1;
-        } else if (null != prePart2Number) {
-            return -1;
-        } else if (null != prePart1Number) {
-            return 1;
-        }
-        return -1;
-    }
-
-    public String toString(final boolean javaFormat) {
-        StringBuilder versionBuilder = new StringBuilder();
-        versionBuilder.append(Comparison.EQUAL != comparison ? comparison.getOperator() : "");
-        versionBuilder.append(versionNumber.toString(OutputFormat.REDUCED, javaFormat, false));
+        return builder;
+    }
+
+    /**
+     * Appends the same text as toString(javaFormat) to the given Appendable without creating a String
+     * @param appendable Appendable to append to e.g. a Writer
+     * @param javaFormat If true only the feature, interim, update and patch numbers will be appended
+     * @return the given Appendable
+     * @throws IOException if the appendable cannot be appended to
+     */
+    public <A extends Appendable> A appendTo(final A appendable, final boolean javaFormat) throws IOException {
+        if (Comparison.EQUAL != comparison) { appendable.append(comparison.getOperator()); }
+        versionNumber.appendTo(appendable, OutputFormat.REDUCED, javaFormat, false);
         if (ReleaseStatus.EA == releaseStatus) {
-            versionBuilder.append("-ea");
+            appendable.append("-ea");
         }
 
         if (null == preBuild || preBuild.isEmpty()) {
             if (null != metadata && !metadata.isEmpty()) {
-                versionBuilder.append(metadata.startsWith("+") ? metadata : ("+" + metadata));
+                appendWithPlus(appendable, metadata, 0);
             }
         } else {
             if (metadata.isEmpty()) {
-                if (preBuild.startsWith("+")) {
-                    preBuild = preBuild.substring(1);
-                }
-                try {
-                    Integer pb = Integer.valueOf(preBuild);
-                    if (pb > 0) {
-                        versionBuilder.append("+").append(pb);
-                    }
-                } catch (NumberFormatException e) {
-                    versionBuilder.append(preBuild.startsWith("+") ? preBuild : ("+" + preBuild));
+                final int start = preBuild.startsWith("+") ? 1 : 0;
+                final int pb    = parsePreBuild(preBuild, start);
+                if (pb < 0) {
+                    appendWithPlus(appendable, preBuild, start);
+                } else if (pb > 0) {
+                    appendable.append('+');
+                    AsciiAppendable.appendInt(appendable, pb);
                 }
             } else {
-                versionBuilder.append(metadata.startsWith("+") ? metadata : ("+" + metadata));
+                appendWithPlus(appendable, metadata, 0);
             }
         }
+        return appendable;
+    }
+
+    /**
+     * Writes the same text as toString(javaFormat) as ASCII bytes to the given buffer at its current position
+     * @param buffer     Buffer to write to, its position will be moved behind the written bytes
+     * @param javaFormat If true only the feature, interim, update and patch numbers will be written
+     * @return the given buffer
+     * @throws java.nio.BufferOverflowException if the text doesn't fit into the remaining bytes of the buffer
+     */
+    public ByteBuffer writeAscii(final ByteBuffer buffer, final boolean javaFormat) {
+        try {
+            appendTo(new AsciiAppendable(buffer), javaFormat);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer;
+    }
 
-        return versionBuilder.toString();
+    // Appends text from the given start with a leading '+' if it doesn't start with one
+    private static void appendWithPlus(final Appendable appendable, final String text, final int start) throws IOException {
+        if (start == text.length() || text.charAt(start) != '+') { appendable.append('+'); }
+        appendable.append(text, start, text.length());
+    }
+
+    // Parses text from the given start like Integer.parseInt() without throwing, returns -1 if it is no int and 0 for negative numbers
+    private static int parsePreBuild(final String text, final int start) {
+        int i = start;
+        if (i == text.length()) { return -1; }
+        final char    sign     = text.charAt(i);
+        final boolean negative = sign == '-';
+        if (negative || sign == '+') {
+            if (++i == text.length()) { return -1; }
+        }
+        final long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long       value = 0;
+        for ( ; i < text.length() ; i++) {
+            final int digit = Character.digit(text.charAt(i), 10);
+            if (digit < 0) { return -1; }
+            value = value * 10 + digit;
+            if (value > limit) { return -1; }
+        }
+        return negative ? 0 : (int) value;
     }
 
     @Override public boolean equals(final Object o) {
@@ -530,4 +711,93 @@ public class Semver implements Comparable<Semver> {
     @Override public String toString() {
         return toString(true);
     }
+
+
+    /**
+     * Identifiers of a pre-release (e.g. -beta.2) in the order of their precedence as defined by SemVer 2.0.
+     * The text is split once and numeric identifiers are parsed once, so comparing two pre-releases
+     * neither splits, parses nor allocates.
+     */
+    static final class PreRelease {
+        private static final long     ALPHANUMERIC = -1;
+        private static final long     LARGE_NUMBER = -2;
+        private static final int      MAX_DIGITS   = 18;
+        private        final String   text;
+        private        final String[] identifiers;
+        private        final long[]   numbers;
+
+
+        PreRelease(final String text) {
+            this.text = text;
+            final int start = text.startsWith("-") ? 1 : 0;
+            // Trailing empty identifiers are ignored like in String.split()
+            int end = text.length();
+            while (end > start && text.charAt(end - 1) == '.') { end--; }
+            int noOfIdentifiers = end > start ? 1 : 0;
+            for (int i = start ; i < end ; i++) { if (text.charAt(i) == '.') { noOfIdentifiers++; } }
+
+            this.identifiers = new String[noOfIdentifiers];
+            this.numbers     = new long[noOfIdentifiers];
+            int from = start;
+            for (int i = 0 ; i < noOfIdentifiers ; i++) {
+                int to = text.indexOf('.', from);
+                if (to < 0 || to > end) { to = end; }
+                identifiers[i] = text.substring(from, to);
+                numbers[i]     = toNumber(text, from, to);
+                from = to + 1;
+            }
+        }
+
+
+        int compareTo(final PreRelease other) {
+            final int length = Math.min(identifiers.length, other.identifiers.length);
+            for (int i = 0 ; i < length ; i++) {
+                final int result = compareIdentifiers(i, other);
+                if (0 != result) { return result; }
+            }
+            // A larger set of identifiers has a higher precedence
+            return Integer.compare(identifiers.length, other.identifiers.length);
+        }
+
+        // Numeric identifiers are compared numerically and have a lower precedence than alphanumeric ones, which are compared lexically in ASCII order
+        private int compareIdentifiers(final int index, final PreRelease other) {
+            final long    number       = numbers[index];
+            final long    otherNumber  = other.numbers[index];
+            final boolean numeric      = ALPHANUMERIC != number;
+            final boolean otherNumeric = ALPHANUMERIC != otherNumber;
+            if (numeric && otherNumeric) {
+                if (LARGE_NUMBER != number && LARGE_NUMBER != otherNumber) { return Long.compare(number, otherNumber); }
+                return compareDigits(identifiers[index], other.identifiers[index]);
+            }
+            if (numeric != otherNumeric) { return numeric ? -1 : 1; }
+            return Integer.signum(identifiers[index].compareTo(other.identifiers[index]));
+        }
+
+        private static long toNumber(final String text, final int from, final int to) {
+            if (from == to) { return ALPHANUMERIC; }
+            long number = 0;
+            for (int i = from ; i < to ; i++) {
+                final char c = text.charAt(i);
+                if (!isDigit(c)) { return ALPHANUMERIC; }
+                number = number * 10 + (c - '0');
+            }
+            return to - from > MAX_DIGITS ? LARGE_NUMBER : number;
+        }
+
+        // Compares two numbers that are too large for a long by their digits
+        private static int compareDigits(final String digits1, final String digits2) {
+            int start1 = 0;
+            int start2 = 0;
+            while (start1 < digits1.length() - 1 && digits1.charAt(start1) == '0') { start1++; }
+            while (start2 < digits2.length() - 1 && digits2.charAt(start2) == '0') { start2++; }
+            final int length1 = digits1.length() - start1;
+            final int length2 = digits2.length() - start2;
+            if (length1 != length2) { return Integer.compare(length1, length2); }
+            for (int i = 0 ; i < length1 ; i++) {
+                final int result = Character.compare(digits1.charAt(start1 + i), digits2.charAt(start2 + i));
+                if (0 != result) { return Integer.signum(result); }
+            }
+            return 0;
+        }
+    }
 }
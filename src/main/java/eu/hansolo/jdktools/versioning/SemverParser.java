@@ -21,396 +21,411 @@ package eu.hansolo.jdktools.versioning;
 import eu.hansolo.jdktools.util.Comparison;
 import eu.hansolo.jdktools.util.Helper;
 
-import java.util.List;
-import java.util.function.Predicate;
-import java.util.regex.MatchResult;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Objects;
 
 
 public class SemverParser {
-    private static final Pattern SEM_VER_PATTERN = Pattern.compile("^(<|<=|>|>=|=)?v?([0-9]+)(\\.[0-9]+)?(\\.[0-9]+)?(\\.[0-9]+)?(\\.[0-9]+)?(\\.[0-9]+)?(-([0-9A-Za-z\\-]+(\\.[0-9A-Za-z\\-]+)*))?(\\+([0-9A-Za-z\\-]+(\\.[0-9A-Za-z\\-]+)*))?((<|<=|>|>=|=)?v?([0-9]+)(\\.[0-9]+)?(\\.[0-9]+)?(\\.[0-9]+)?(\\.[0-9]+)?(\\.[0-9]+)?(-([0-9A-Za-z\\-]+(\\.[0-9A-Za-z\\-]+)*))?(\\+([0-9A-Za-z\\-]+(\\.[0-9A-Za-z\\-]+)*))?)?$");
-    private static final Pattern OPT_PATTERN     = Pattern.compile("(([0-9]+(\\.[0-9]+)?))?(\\-([a-zA-Z0-9\\-]*))?");
+    private static final String[] NUMBER_NAMES = { "interim version", "update version", "patch version", "fifth number", "sixth number" };
 
     private SemverParser() {}
 
 
     public static SemverParsingResult fromText(final String text) {
+        return fromText(text, 0, text.length());
+    }
+    /**
+     * Returns the result of parsing the given region of the text without creating a substring
+     * @param text  Text that contains the region to parse (e.g. a StringBuilder, CharBuffer or String)
+     * @param start Start index of the region (inclusive)
+     * @param end   End index of the region (exclusive)
+     * @return the result of parsing the given region of the text
+     */
+    public static SemverParsingResult fromText(final CharSequence text, final int start, final int end) {
+        Objects.checkFromToIndex(start, end, text.length());
+        final int operatorStart = indexOfRangeOperator(text, start, end);
+        if (operatorStart >= 0) { return parseRange(text, start, operatorStart, end); }
+
         SemverParsingResult parsingResult = new SemverParsingResult();
 
         // ******************** Parsing 1st Semver ****************************
-        // Remove leading "1." to get correct version number e.g. 1.8u262 -> 8u262
-        String versionText1 = text.startsWith("1.") ? text.replace("1.", "") : text;
-        if (versionText1.contains("_")) {
-            versionText1 = versionText1.replace("_", ".");
-        }
-        if (versionText1.matches("[0-9]+u[0-9]+.*")) {
-            versionText1 = versionText1.replace("u", ".0.");
-        }
-
-        final Matcher           semverMatcher = SEM_VER_PATTERN.matcher(versionText1);
-        final List<MatchResult> results       = semverMatcher.results().collect(Collectors.toList());
+        final CharSequence versionText1 = normalize(text, start, end);
 
-        if (results.isEmpty()) {
+        final int[] groups = new int[SemverScanner.GROUPS_SIZE];
+        if (!SemverScanner.matches(versionText1, groups)) {
             parsingResult.setError1(new Error("Invalid semver: " + versionText1));
             return parsingResult;
         }
 
-        MatchResult result = results.get(0);
+        final Semver semVer1 = parseSemver(versionText1, groups, 0, parsingResult);
+        if (null == semVer1) { return parsingResult; }
+        parsingResult.setSemver1(semVer1);
+        final Comparison comparison1 = semVer1.getComparison();
 
-        String metadata1 = null != result.group(12) ? result.group(12) : "";
-        String pre1      = null != result.group(9)  ? result.group(9)  : "";
+        // ******************** Parsing 2nd Semver ****************************
+        if (SemverScanner.has(groups, SemverScanner.SECOND)) {
+            final Semver semVer2 = parseSemver(versionText1, groups, SemverScanner.SIDE_OFFSET, parsingResult);
+            if (null == semVer2) { return parsingResult; }
 
-        final Matcher           optMatcher = OPT_PATTERN.matcher(metadata1);
-        final List<MatchResult> optResults = optMatcher.results().collect(Collectors.toList());
+            // Define filter, a range with both bounds needs at most two comparisons per semver
+            final SemverRange range = SemverRange.fromSemvers(semVer1, semVer2);
+            parsingResult.setRange(range);
+            if (Comparison.EQUAL != comparison1) { parsingResult.setFilter(range); }
 
-        String build1 = "";
-        String opt1   = "";
-        if (!optResults.isEmpty()) {
-            MatchResult optResult = optResults.get(0);
-            build1 = null != optResult.group(2) ? optResult.group(2) : "";
-            opt1   = null != optResult.group(5) ? optResult.group(5) : "";
+            parsingResult.setSemver2(semVer2);
+            return parsingResult;
         }
 
-        if (pre1.equals("ea.0")) { pre1 = "ea"; }
-        if (pre1.startsWith("b") && metadata1.isEmpty()) {
-            metadata1 = pre1;
-            pre1 = "";
-        }
+        // Define filter
+        final SemverRange range = SemverRange.fromSemvers(semVer1, null);
+        parsingResult.setRange(range);
+        if (Comparison.EQUAL != comparison1) { parsingResult.setFilter(range); }
 
-        VersionNumber versionNumber1 = new VersionNumber();
+        return parsingResult;
+    }
 
-        Comparison comparison1;
-        if (null == result.group(1)) {
-            comparison1 = Comparison.EQUAL;
-        } else {
-            comparison1 = Comparison.fromText(result.group(1));
-        }
+    /**
+     * Returns the result of parsing the given region of ASCII encoded bytes without creating a String
+     * @param bytes  Bytes that contain the ASCII encoded text
+     * @param offset Index of the first byte of the region
+     * @param length Number of bytes in the region
+     * @return the result of parsing the given region of the bytes
+     */
+    public static SemverParsingResult fromAscii(final byte[] bytes, final int offset, final int length) {
+        return fromText(new AsciiCharSequence(bytes, offset, length), 0, length);
+    }
+    /**
+     * Returns the result of parsing the remaining ASCII encoded bytes of the given buffer (position to limit).
+     * The position and limit of the buffer will not be changed.
+     * @param buffer Buffer that contains the ASCII encoded text
+     * @return the result of parsing the remaining bytes of the buffer
+     */
+    public static SemverParsingResult fromAscii(final ByteBuffer buffer) {
+        final AsciiCharSequence text = new AsciiCharSequence(buffer);
+        return fromText(text, 0, text.length());
+    }
 
-        // 1st number
-        try {
-            if (null == result.group(2)) {
-                parsingResult.setError1(new Error("Feature version cannot be null"));
-                return parsingResult;
-            }
-            versionNumber1.setFeature(Integer.parseInt(result.group(2)));
-        } catch (NumberFormatException e) {
-            parsingResult.setError1(new Error("Error when parsing feature version " + result.group(2) + ": " + e));
+    /**
+     * Parses a range like 17...21, 11..<17, 11>..17 or 11>.<17 where both sides have to be plain semvers
+     * without a comparison. The semvers get the comparisons of the normalized bounds (e.g. >=17 and <=21).
+     */
+    private static SemverParsingResult parseRange(final CharSequence text, final int start, final int operatorStart, final int end) {
+        final SemverParsingResult parsingResult = new SemverParsingResult();
+        final Comparison          comparison    = Comparison.fromText(text.subSequence(operatorStart, operatorStart + 3).toString());
+
+        if (start == operatorStart) {
+            parsingResult.setError1(new Error("Invalid range bound: missing lower bound in " + text.subSequence(start, end)));
             return parsingResult;
         }
-
-        // 2nd number
-        try {
-            if (null == result.group(3)) {
-                versionNumber1.setInterim(0);
-            } else {
-                versionNumber1.setInterim(Integer.parseInt(Helper.trimPrefix(result.group(3), "\\.")));
-            }
-        } catch (NumberFormatException e) {
-            parsingResult.setError1(new Error("Error when parsing interim version " + result.group(3) + ": " + e));
+        final SemverParsingResult fromResult = fromText(text, start, operatorStart);
+        if (null != fromResult.getError1()) {
+            parsingResult.setError1(fromResult.getError1());
             return parsingResult;
         }
-
-        // 3rd number
-        try {
-            if (null == result.group(4)) {
-                versionNumber1.setUpdate(0);
-            } else {
-                versionNumber1.setUpdate(Integer.parseInt(Helper.trimPrefix(result.group(4), "\\.")));
-            }
-        } catch (NumberFormatException e) {
-            parsingResult.setError1(new Error("Error when parsing update version " + result.group(4) + ": " + e));
+        if (null != fromResult.getSemver2() || Comparison.EQUAL != fromResult.getSemver1().getComparison()) {
+            parsingResult.setError1(new Error("Invalid range bound: " + text.subSequence(start, operatorStart)));
             return parsingResult;
         }
+        final Semver from = fromResult.getSemver1();
+        parsingResult.setSemver1(from);
 
-        // 4th number
-        try {
-            if (null == result.group(5)) {
-                versionNumber1.setPatch(0);
-            } else {
-                versionNumber1.setPatch(Integer.parseInt(Helper.trimPrefix(result.group(5), "\\.")));
-            }
-        } catch (NumberFormatException e) {
-            parsingResult.setError1(new Error("Error when parsing patch version " + result.group(5) + ": " + e));
+        if (operatorStart + 3 == end) {
+            parsingResult.setError2(new Error("Invalid range bound: missing upper bound in " + text.subSequence(start, end)));
             return parsingResult;
         }
-
-        // 5th number
-        try {
-            if (null == result.group(6)) {
-                versionNumber1.setFifth(0);
-            } else {
-                versionNumber1.setFifth(Integer.parseInt(Helper.trimPrefix(result.group(6), "\\.")));
-            }
-        } catch (NumberFormatException e) {
-            parsingResult.setError1(new Error("Error when parsing fifth number " + result.group(6) + ": " + e));
+        final SemverParsingResult toResult = fromText(text, operatorStart + 3, end);
+        if (null != toResult.getError1()) {
+            parsingResult.setError2(toResult.getError1());
             return parsingResult;
         }
-
-        // 6th number
-        try {
-            if (null == result.group(7)) {
-                versionNumber1.setSixth(0);
-            } else {
-                versionNumber1.setSixth(Integer.parseInt(Helper.trimPrefix(result.group(7), "\\.")));
-            }
-        } catch (NumberFormatException e) {
-            parsingResult.setError1(new Error("Error when parsing sixth number " + result.group(7) + ": " + e));
+        if (null != toResult.getSemver2() || Comparison.EQUAL != toResult.getSemver1().getComparison()) {
+            parsingResult.setError2(new Error("Invalid range bound: " + text.subSequence(operatorStart + 3, end)));
             return parsingResult;
         }
+        final Semver to = toResult.getSemver1();
 
-        // Validate prerelease
-        Error err1;
-        if (null != pre1 && !pre1.isEmpty()) {
-            String[] eparts = pre1.split("\\.");
-            /*
-            if (eparts.length > 0 && (eparts[0].equalsIgnoreCase("-ea") ||
-                                      eparts[0].equalsIgnoreCase("ea")  ||
-                                      eparts[0].equalsIgnoreCase("beta"))) {
-                pre1 = "ea";
-            }
-            */
-            if (eparts.length > 0 && (eparts[0].matches("[a-zA-Z]+") && eparts[0].length() > 0)) {
-                pre1 = "ea";
-                opt1 = eparts[0].equals("ea") ? opt1 : eparts[0];
-            }
-            if (eparts.length > 1 && Helper.isPositiveInteger(eparts[1])) {
-                metadata1 = eparts[1];
-            }
-            err1 = validatePrerelease(pre1);
-            if (null != err1) {
-                parsingResult.setError1(err1);
-                return parsingResult;
-            }
+        if (from.compareTo(to) > 0) {
+            parsingResult.setError2(new Error("Invalid range, upper bound " + text.subSequence(operatorStart + 3, end) + " is less than lower bound " + text.subSequence(start, operatorStart)));
+            return parsingResult;
         }
+        final SemverRange range = SemverRange.fromRange(from, comparison, to);
+        from.setComparison(range.isLowerInclusive() ? Comparison.GREATER_THAN_OR_EQUAL : Comparison.GREATER_THAN);
+        to.setComparison(range.isUpperInclusive() ? Comparison.LESS_THAN_OR_EQUAL : Comparison.LESS_THAN);
+        parsingResult.setSemver2(to);
+        parsingResult.setRange(range);
+        parsingResult.setFilter(range);
+        return parsingResult;
+    }
 
-        // Validate metadata
-        if (null != metadata1 && !metadata1.isEmpty()) {
-            err1 = validateMetadata(metadata1);
-            if (null != err1) {
-                parsingResult.setError1(err1);
-                return parsingResult;
+    /**
+     * Returns the start index of the first range operator (..., ..<, >.. or >.<) in the given region or -1.
+     * Two consecutive dots or a dot between > and < can't be part of a single semver.
+     */
+    private static int indexOfRangeOperator(final CharSequence text, final int start, final int end) {
+        for (int i = start ; i < end - 2 ; i++) {
+            final char c = text.charAt(i);
+            if (c == '>' && text.charAt(i + 1) == '.') {
+                final char c2 = text.charAt(i + 2);
+                if (c2 == '.' || c2 == '<') { return i; }
+            } else if (c == '.' && text.charAt(i + 1) == '.') {
+                final char c2 = text.charAt(i + 2);
+                if (c2 == '.' || c2 == '<') { return i; }
             }
         }
-        Semver semVer1 = new Semver(versionNumber1, pre1, metadata1);
-        semVer1.setBuild(build1);
-        semVer1.setOpt(opt1);
-        semVer1.setComparison(comparison1);
-        parsingResult.setSemver1(semVer1);
+        return -1;
+    }
 
-        Predicate<Semver> filter = null;
+    /**
+     * Creates the Semver of one side of the match (offset 0 for the 1st and SIDE_OFFSET for the 2nd semver).
+     * In case of an error the error will be set in the given result and null will be returned.
+     */
+    private static Semver parseSemver(final CharSequence text, final int[] groups, final int offset, final SemverParsingResult parsingResult) {
+        final boolean second   = offset > 0;
+        String        metadata = SemverScanner.has(groups, offset + SemverScanner.METADATA) ? SemverScanner.group(text, groups, offset + SemverScanner.METADATA) : "";
+        String        pre      = SemverScanner.has(groups, offset + SemverScanner.PRE)      ? SemverScanner.group(text, groups, offset + SemverScanner.PRE)      : "";
+
+        // Same as (([0-9]+(\.[0-9]+)?))?(\-([a-zA-Z0-9\-]*))? applied to the metadata
+        String build  = "";
+        String opt    = "";
+        int    pos    = skipDigits(metadata, 0);
+        if (pos > 0) {
+            if (pos + 1 < metadata.length() && metadata.charAt(pos) == '.' && SemverScanner.isDigit(metadata.charAt(pos + 1))) { pos = skipDigits(metadata, pos + 1); }
+            build = metadata.substring(0, pos);
+        }
+        if (pos < metadata.length() && metadata.charAt(pos) == '-') {
+            int optEnd = pos + 1;
+            while (optEnd < metadata.length() && SemverScanner.isIdentifierChar(metadata.charAt(optEnd))) { optEnd++; }
+            opt = metadata.substring(pos + 1, optEnd);
+        }
 
-        // ******************** Parsing 2nd Semver ****************************
-        if (result.groupCount() == 27 && null != result.group(14)) {
-            String metadata2 = null != result.group(26) ? result.group(26) : "";
-            String pre2      = null != result.group(23) ? result.group(23) : "";
-
-            optMatcher.reset(metadata2);
-            optResults.clear();
-            optResults.addAll(optMatcher.results().collect(Collectors.toList()));
-
-            String build2 = "";
-            String opt2   = "";
-            if (!optResults.isEmpty()) {
-                MatchResult optResult = optResults.get(0);
-                build2 = null != optResult.group(2) ? optResult.group(2) : "";
-                opt2   = null != optResult.group(5) ? optResult.group(5) : "";
-            }
+        if (pre.equals("ea.0")) { pre = "ea"; }
+        if (pre.startsWith("b") && metadata.isEmpty()) {
+            metadata = pre;
+            pre = "";
+        }
 
-            if (pre2.equals("ea.0")) { pre2 = "ea"; }
-            if (pre2.startsWith("b") && metadata2.isEmpty()) {
-                metadata2 = pre2;
-                pre2 = "";
-            }
+        VersionNumber versionNumber = new VersionNumber();
 
-            VersionNumber versionNumber2 = new VersionNumber();
+        Comparison comparison;
+        if (SemverScanner.has(groups, offset + SemverScanner.OPERATOR)) {
+            comparison = Comparison.fromText(SemverScanner.group(text, groups, offset + SemverScanner.OPERATOR));
+        } else {
+            comparison = Comparison.EQUAL;
+        }
 
-            Comparison comparison2;
-            if (null == result.group(15)) {
-                comparison2 = Comparison.EQUAL;
-            } else {
-                comparison2 = Comparison.fromText(result.group(15));
-            }
+        // 1st number
+        boolean oldFormat;
+        final int featureStart = SemverScanner.start(groups, offset + SemverScanner.FEATURE);
+        final int featureEnd   = SemverScanner.end(groups, offset + SemverScanner.FEATURE);
+        try {
+            final int feature = SemverScanner.parseInt(text, featureStart, featureEnd);
+            oldFormat = second && feature == 1;
+            versionNumber.setFeature(feature);
+        } catch (NumberFormatException e) {
+            setError(parsingResult, second, new Error("Error when parsing feature version " + text.subSequence(featureStart, featureEnd) + ": " + e));
+            return null;
+        }
 
-            // 1st number
-            boolean oldFormat;
-            try {
-                if (null == result.group(16)) {
-                    parsingResult.setError2(new Error("Feature version cannot be null"));
-                    return parsingResult;
+        // 2nd - 6th number
+        for (int element = SemverScanner.INTERIM ; element <= SemverScanner.SIXTH ; element++) {
+            int number = 0;
+            if (SemverScanner.has(groups, offset + element)) {
+                final int numberStart = SemverScanner.start(groups, offset + element);
+                final int numberEnd   = SemverScanner.end(groups, offset + element);
+                try {
+                    number = SemverScanner.parseInt(text, numberStart + 1, numberEnd);
+                } catch (NumberFormatException e) {
+                    setError(parsingResult, second, new Error("Error when parsing " + NUMBER_NAMES[element - SemverScanner.INTERIM] + " " + text.subSequence(numberStart, numberEnd) + ": " + e));
+                    return null;
                 }
-                oldFormat = Integer.parseInt(result.group(16)) == 1;
-                versionNumber2.setFeature(Integer.parseInt(result.group(16)));
-            } catch (NumberFormatException e) {
-                parsingResult.setError2(new Error("Error when parsing feature version " + result.group(16) + ": " + e));
-                return parsingResult;
             }
-
-            // 2nd number
-            try {
-                if (null == result.group(17)) {
-                    versionNumber2.setInterim(0);
-                } else {
-                    versionNumber2.setInterim(Integer.parseInt(Helper.trimPrefix(result.group(17), "\\.")));
-                }
-            } catch (NumberFormatException e) {
-                parsingResult.setError2(new Error("Error when parsing interim version " + result.group(17) + ": " + e));
-                return parsingResult;
+            switch (element) {
+                case SemverScanner.INTERIM -> versionNumber.setInterim(number);
+                case SemverScanner.UPDATE  -> versionNumber.setUpdate(number);
+                case SemverScanner.PATCH   -> versionNumber.setPatch(number);
+                case SemverScanner.FIFTH   -> versionNumber.setFifth(number);
+                case SemverScanner.SIXTH   -> versionNumber.setSixth(number);
             }
+        }
 
-            // 3rd number
-            try {
-                if (null == result.group(18)) {
-                    versionNumber2.setUpdate(0);
-                } else {
-                    versionNumber2.setUpdate(Integer.parseInt(Helper.trimPrefix(result.group(18), "\\.")));
-                }
-            } catch (NumberFormatException e) {
-                parsingResult.setError2(new Error("Error when parsing update version " + result.group(18) + ": " + e));
-                return parsingResult;
-            }
+        // Remove leading "1." to get correct version number e.g. 1.8u262 -> 8u262
+        if (oldFormat) {
+            versionNumber.setFeature(versionNumber.getInterim().getAsInt());
+            versionNumber.setInterim(versionNumber.getUpdate().getAsInt());
+            versionNumber.setUpdate(versionNumber.getPatch().getAsInt());
+            versionNumber.setPatch(0);
+        }
 
-            // 4th number
-            try {
-                if (null == result.group(19)) {
-                    versionNumber2.setPatch(0);
-                } else {
-                    versionNumber2.setPatch(Integer.parseInt(Helper.trimPrefix(result.group(19), "\\.")));
+        // Validate prerelease
+        Error err;
+        if (!pre.isEmpty()) {
+            // Same as taking the first two parts of pre.split("\\.")
+            final int    firstDot  = pre.indexOf('.');
+            final String firstPart = -1 == firstDot ? pre : pre.substring(0, firstDot);
+            if (-1 != firstDot) {
+                final int    secondDot  = pre.indexOf('.', firstDot + 1);
+                final String secondPart = pre.substring(firstDot + 1, -1 == secondDot ? pre.length() : secondDot);
+                if (Helper.isPositiveInteger(secondPart)) {
+                    metadata = secondPart;
                 }
-            } catch (NumberFormatException e) {
-                parsingResult.setError2(new Error("Error when parsing patch version " + result.group(19) + ": " + e));
-                return parsingResult;
             }
-
-            // 5th number
-            try {
-                if (null == result.group(20)) {
-                    versionNumber2.setFifth(0);
-                } else {
-                    versionNumber2.setFifth(Integer.parseInt(Helper.trimPrefix(result.group(20), "\\.")));
-                }
-            } catch (NumberFormatException e) {
-                parsingResult.setError2(new Error("Error when parsing fifth number " + result.group(20) + ": " + e));
-                return parsingResult;
+            if (isLetters(firstPart)) {
+                pre = "ea";
+                opt = firstPart.equals("ea") ? opt : firstPart;
             }
-
-            // 6th number
-            try {
-                if (null == result.group(21)) {
-                    versionNumber2.setSixth(0);
-                } else {
-                    versionNumber2.setSixth(Integer.parseInt(Helper.trimPrefix(result.group(21), "\\.")));
-                }
-            } catch (NumberFormatException e) {
-                parsingResult.setError2(new Error("Error when parsing sixth number " + result.group(21) + ": " + e));
-                return parsingResult;
+            err = validatePrerelease(pre);
+            if (null != err) {
+                setError(parsingResult, second, err);
+                return null;
             }
+        }
 
-            // Remove leading "1." to get correct version number e.g. 1.8u262 -> 8u262
-            if (oldFormat) {
-                versionNumber2.setFeature(versionNumber2.getInterim().getAsInt());
-                versionNumber2.setInterim(versionNumber2.getUpdate().getAsInt());
-                versionNumber2.setUpdate(versionNumber2.getPatch().getAsInt());
-                versionNumber2.setPatch(0);
+        // Validate metadata
+        if (!metadata.isEmpty()) {
+            err = validateMetadata(metadata);
+            if (null != err) {
+                setError(parsingResult, second, err);
+                return null;
             }
+        }
+        Semver semver = new Semver(versionNumber, pre, metadata);
+        semver.setBuild(build);
+        semver.setOpt(opt);
+        semver.setComparison(comparison);
+        return semver;
+    }
 
-            // Validate prerelease
-            Error err2;
-            if (null != pre2 && !pre2.isEmpty()) {
-                String[] eparts = pre2.split("\\.");
-                /*
-                if (eparts.length > 0 && (eparts[0].equalsIgnoreCase("-ea") ||
-                                          eparts[0].equalsIgnoreCase("ea")  ||
-                                          eparts[0].equalsIgnoreCase("beta"))) {
-                    pre2 = "ea";
-                }
-                */
-                if (eparts.length > 0 && (eparts[0].matches("[a-zA-Z]+") && eparts[0].length() > 0)) {
-                    pre2 = "ea";
-                    opt2 = eparts[0].equals("ea") ? opt2 : eparts[0];
-                }
-                if (eparts.length > 1 && Helper.isPositiveInteger(eparts[1])) {
-                    metadata2 = eparts[1];
-                }
-                err2 = validatePrerelease(pre2);
-                if (null != err2) {
-                    parsingResult.setError2(err2);
-                    return parsingResult;
-                }
-            }
+    /**
+     * Applies the same normalization that was done on Strings before (remove all "1." if the text starts
+     * with "1.", replace "_" by "." and replace "u" by ".0." for texts like 8u262). In case none of them
+     * is needed the region will be returned as a view without copying it.
+     */
+    private static CharSequence normalize(final CharSequence text, final int start, final int end) {
+        final boolean legacyPrefix = end - start > 1 && text.charAt(start) == '1' && text.charAt(start + 1) == '.';
+        boolean       underscore   = false;
+        boolean       updateChar   = false;
+        for (int i = start ; i < end ; i++) {
+            final char c = text.charAt(i);
+            if (c == '_') { underscore = true; }
+            if (c == 'u') { updateChar = true; }
+        }
+        if (!legacyPrefix && !underscore && !updateChar) {
+            return (start == 0 && end == text.length()) ? text : CharBuffer.wrap(text, start, end);
+        }
 
-            // Validate metadata
-            if (null != metadata2 && !metadata2.isEmpty()) {
-                err2 = validateMetadata(metadata2);
-                if (null != err2) {
-                    parsingResult.setError2(err2);
-                    return parsingResult;
-                }
+        // Remove leading "1." to get correct version number e.g. 1.8u262 -> 8u262
+        final StringBuilder versionText = new StringBuilder(end - start + 4);
+        int pos = start;
+        while (pos < end) {
+            final char c = text.charAt(pos);
+            if (legacyPrefix && c == '1' && pos + 1 < end && text.charAt(pos + 1) == '.') {
+                pos += 2;
+                continue;
             }
-            Semver semVer2 = new Semver(versionNumber2, pre2, metadata2);
-            semVer2.setBuild(build2);
-            semVer2.setOpt(opt2);
-            semVer2.setComparison(comparison2);
-
-            // Define filter
-            switch(comparison1) {
-                case LESS_THAN          -> filter = semVer -> semVer.lessThan(semVer1);
-                case LESS_THAN_OR_EQUAL -> filter = semVer -> (semVer.lessThan(semVer1) || semVer.equalTo(semVer1));
-                case GREATER_THAN -> {
-                    switch (comparison2) {
-                        case LESS_THAN -> filter = semVer -> semVer.greaterThan(semVer1) && semVer.lessThan(semVer2);
-                        case LESS_THAN_OR_EQUAL -> filter = semVer -> semVer.greaterThan(semVer1) && (semVer.lessThan(semVer2) || semVer.equalTo(semVer2));
-                        default -> filter = semVer -> semVer.greaterThan(semVer1);
-                    }
-                }
-                case GREATER_THAN_OR_EQUAL -> {
-                    switch (comparison2) {
-                        case LESS_THAN -> filter = semVer -> (semVer.equalTo(semVer1) || semVer.greaterThan(semVer1)) && semVer.lessThan(semVer2);
-                        case LESS_THAN_OR_EQUAL -> filter = semVer -> (semVer.equalTo(semVer1) || semVer.greaterThan(semVer1)) && (semVer.lessThan(semVer2) || semVer.equalTo(semVer2));
-                        default -> filter = semVer -> (semVer.equalTo(semVer1) || semVer.greaterThan(semVer1));
-                    }
-                }
+            versionText.append('_' == c ? '.' : c);
+            pos++;
+        }
+        if (updateChar && isUpdateFormat(versionText)) {
+            for (int i = versionText.length() - 1 ; i >= 0 ; i--) {
+                if (versionText.charAt(i) == 'u') { versionText.replace(i, i + 1, ".0."); }
             }
-            parsingResult.setFilter(filter);
-
-            parsingResult.setSemver2(semVer2);
-            return parsingResult;
         }
+        return versionText;
+    }
 
-        // Define filter
-        switch(comparison1) {
-            case LESS_THAN            -> filter = semVer -> semVer.lessThan(semVer1);
-            case LESS_THAN_OR_EQUAL   -> filter = semVer -> (semVer.lessThan(semVer1) || semVer.equalTo(semVer1));
-            case GREATER_THAN         -> filter = semVer -> semVer.greaterThan(semVer1);
-            case GREATER_THAN_OR_EQUAL-> filter = semVer -> (semVer.equalTo(semVer1) || semVer.greaterThan(semVer1));
+    // Same as text.matches("[0-9]+u[0-9]+.*")
+    private static boolean isUpdateFormat(final CharSequence text) {
+        final int length = text.length();
+        int       pos    = 0;
+        while (pos < length && text.charAt(pos) >= '0' && text.charAt(pos) <= '9') { pos++; }
+        if (pos == 0 || pos >= length || text.charAt(pos) != 'u') { return false; }
+        final int digitsStart = ++pos;
+        while (pos < length && text.charAt(pos) >= '0' && text.charAt(pos) <= '9') { pos++; }
+        if (pos == digitsStart) { return false; }
+        for (int i = pos ; i < length ; i++) {
+            final char c = text.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') { return false; }
         }
-        parsingResult.setFilter(filter);
-
-        return parsingResult;
+        return true;
     }
 
+    // Same as validating each part of preRelease.split("\\.") with [0-9]+ (no leading 0) or [0-9A-Za-z-]+
     private static Error validatePrerelease(final String preRelease) {
-        String[] eparts = preRelease.split("\\.");
-        for (String p : eparts) {
-            if (p.matches("[0-9]+")) {
-                if (p.length() > 0 && p.startsWith("0")) {
-                    return new Error("Segment starts with 0: " + p);
+        final int partsEnd = partsEnd(preRelease);
+        int       start    = 0;
+        while (start < partsEnd || (0 == start && preRelease.isEmpty())) {
+            final int dot = preRelease.indexOf('.', start);
+            final int end = -1 == dot || dot > partsEnd ? partsEnd : dot;
+            if (isDigits(preRelease, start, end)) {
+                if (preRelease.charAt(start) == '0') {
+                    return new Error("Segment starts with 0: " + preRelease.substring(start, end));
                 }
-            } else if (!p.matches("[0-9A-Za-z-]+")) {
+            } else if (!isIdentifier(preRelease, start, end)) {
                 return new Error("Invalid preRelease: " + preRelease);
             }
+            start = end + 1;
         }
         return null;
     }
 
+    // Same as validating each part of metadata.split("\\.") with [0-9A-Za-z-]+
     private static Error validateMetadata(final String metadata) {
-        String[] eparts = metadata.split("\\.");
-        for (String p : eparts) {
-            if (!p.matches("[0-9A-Za-z-]+")) {
+        final int partsEnd = partsEnd(metadata);
+        int       start    = 0;
+        while (start < partsEnd || (0 == start && metadata.isEmpty())) {
+            final int dot = metadata.indexOf('.', start);
+            final int end = -1 == dot || dot > partsEnd ? partsEnd : dot;
+            if (!isIdentifier(metadata, start, end)) {
                 return new Error("Invalid metadata: " + metadata);
             }
+            start = end + 1;
         }
         return null;
     }
+
+    // String.split() removes trailing empty parts, so only the text up to the last char that is not a dot is relevant
+    private static int partsEnd(final String text) {
+        int end = text.length();
+        while (end > 0 && text.charAt(end - 1) == '.') { end--; }
+        return end;
+    }
+
+    private static boolean isDigits(final String text, final int start, final int end) {
+        if (start >= end) { return false; }
+        for (int i = start ; i < end ; i++) {
+            if (!SemverScanner.isDigit(text.charAt(i))) { return false; }
+        }
+        return true;
+    }
+
+    private static boolean isIdentifier(final String text, final int start, final int end) {
+        if (start >= end) { return false; }
+        for (int i = start ; i < end ; i++) {
+            if (!SemverScanner.isIdentifierChar(text.charAt(i))) { return false; }
+        }
+        return true;
+    }
+
+    private static boolean isLetters(final String text) {
+        if (text.isEmpty()) { return false; }
+        for (int i = 0 ; i < text.length() ; i++) {
+            if (!SemverScanner.isLetter(text.charAt(i))) { return false; }
+        }
+        return true;
+    }
+
+    private static int skipDigits(final String text, final int from) {
+        int pos = from;
+        while (pos < text.length() && SemverScanner.isDigit(text.charAt(pos))) { pos++; }
+        return pos;
+    }
+
+    private static void setError(final SemverParsingResult parsingResult, final boolean second, final Error error) {
+        if (second) {
+            parsingResult.setError2(error);
+        } else {
+            parsingResult.setError1(error);
+        }
+    }
 }
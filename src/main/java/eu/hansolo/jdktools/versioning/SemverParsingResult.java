@@ -27,6 +27,7 @@ public class SemverParsingResult {
     private Semver            semVer2;
     private Error             error2;
     private Predicate<Semver> filter;
+    private SemverRange       range;
 
 
     public SemverParsingResult() {
@@ -35,6 +36,15 @@ public class SemverParsingResult {
         semVer2 = null;
         error2  = null;
         filter  = null;
+        range   = null;
+    }
+    public SemverParsingResult(final SemverParsingResult result) {
+        semVer1 = null == result.getSemver1() ? null : new Semver(result.getSemver1());
+        error1  = result.getError1();
+        semVer2 = null == result.getSemver2() ? null : new Semver(result.getSemver2());
+        error2  = result.getError2();
+        range   = null == result.getRange() ? null : remap(result.getRange(), result);
+        filter  = null != range && result.getFilter() == result.getRange() ? range : result.getFilter();
     }
 
 
@@ -52,4 +62,23 @@ public class SemverParsingResult {
 
     public Predicate<Semver> getFilter() { return filter; }
     public void setFilter(final Predicate<Semver> filter) { this.filter = filter; }
+
+    /**
+     * Returns the range of semvers that is described by the parsed text, e.g. >=11.0.8 <17
+     * @return the range of semvers that is described by the parsed text or null if parsing failed
+     */
+    public SemverRange getRange() { return range; }
+    public void setRange(final SemverRange range) { this.range = range; }
+
+
+    // Bounds that are the semvers of the original result will be replaced by their copies
+    private SemverRange remap(final SemverRange range, final SemverParsingResult result) {
+        return new SemverRange(remap(range.getLower(), result), range.isLowerInclusive(), remap(range.getUpper(), result), range.isUpperInclusive());
+    }
+    private Semver remap(final Semver bound, final SemverParsingResult result) {
+        if (null == bound)                 { return null; }
+        if (bound == result.getSemver1()) { return semVer1; }
+        if (bound == result.getSemver2()) { return semVer2; }
+        return bound;
+    }
 }
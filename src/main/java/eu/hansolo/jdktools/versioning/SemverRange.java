@@ -0,0 +1,237 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import eu.hansolo.jdktools.util.Comparison;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+
+/**
+ * Range of semvers with an optional lower and upper bound where each bound
+ * can be inclusive or exclusive. A missing bound means the range is unbounded
+ * on that side. Testing a semver needs at most two comparisons and for lists
+ * or arrays that are sorted by Semver.compareTo() the matching part can be
+ * found with two binary searches.
+ */
+public final class SemverRange implements Predicate<Semver> {
+    private final Semver  lower;
+    private final boolean lowerInclusive;
+    private final Semver  upper;
+    private final boolean upperInclusive;
+
+
+    /**
+     * @param lower          Lower bound or null if the range has no lower bound
+     * @param lowerInclusive True if the lower bound is part of the range
+     * @param upper          Upper bound or null if the range has no upper bound
+     * @param upperInclusive True if the upper bound is part of the range
+     */
+    public SemverRange(final Semver lower, final boolean lowerInclusive, final Semver upper, final boolean upperInclusive) {
+        this.lower          = lower;
+        this.lowerInclusive = null != lower && lowerInclusive;
+        this.upper          = upper;
+        this.upperInclusive = null != upper && upperInclusive;
+    }
+
+
+    public static SemverRange exactly(final Semver semver) { return new SemverRange(semver, true, semver, true); }
+
+    public static SemverRange greaterThan(final Semver semver) { return new SemverRange(semver, false, null, false); }
+
+    public static SemverRange greaterThanOrEqual(final Semver semver) { return new SemverRange(semver, true, null, false); }
+
+    public static SemverRange lessThan(final Semver semver) { return new SemverRange(null, false, semver, false); }
+
+    public static SemverRange lessThanOrEqual(final Semver semver) { return new SemverRange(null, false, semver, true); }
+
+    /**
+     * Returns the range that is described by the comparisons of the given semvers in the same
+     * way SemverParser interprets them (e.g. >=11.0.8 <17 or <=17.0.1)
+     * @param semver1 First semver that defines the range
+     * @param semver2 Optional second semver that defines the upper bound of the range
+     * @return the range that is described by the comparisons of the given semvers
+     */
+    public static SemverRange fromSemvers(final Semver semver1, final Semver semver2) {
+        final Comparison comparison2 = null == semver2 ? Comparison.EQUAL : semver2.getComparison();
+        return switch (semver1.getComparison()) {
+            case LESS_THAN             -> lessThan(semver1);
+            case LESS_THAN_OR_EQUAL    -> lessThanOrEqual(semver1);
+            case GREATER_THAN          -> switch (comparison2) {
+                case LESS_THAN          -> new SemverRange(semver1, false, semver2, false);
+                case LESS_THAN_OR_EQUAL -> new SemverRange(semver1, false, semver2, true);
+                default                 -> greaterThan(semver1);
+            };
+            case GREATER_THAN_OR_EQUAL -> switch (comparison2) {
+                case LESS_THAN          -> new SemverRange(semver1, true, semver2, false);
+                case LESS_THAN_OR_EQUAL -> new SemverRange(semver1, true, semver2, true);
+                default                 -> greaterThanOrEqual(semver1);
+            };
+            default                    -> exactly(semver1);
+        };
+    }
+
+
+    /**
+     * Returns the range between the given semvers that is described by the given range operator
+     * e.g. RANGE_INCLUDING for from...to or RANGE_EXCLUDING_TO for from..<to
+     * @param from       Lower bound of the range
+     * @param comparison One of the range comparisons RANGE_INCLUDING, RANGE_EXCLUDING_TO, RANGE_EXCLUDING_FROM or RANGE_EXCLUDING
+     * @param to         Upper bound of the range
+     * @return the range between the given semvers that is described by the given range operator
+     */
+    public static SemverRange fromRange(final Semver from, final Comparison comparison, final Semver to) {
+        if (null == from || null == to) { throw new IllegalArgumentException("Range bounds cannot be null"); }
+        return switch (comparison) {
+            case RANGE_INCLUDING      -> new SemverRange(from, true, to, true);
+            case RANGE_EXCLUDING_TO   -> new SemverRange(from, true, to, false);
+            case RANGE_EXCLUDING_FROM -> new SemverRange(from, false, to, true);
+            case RANGE_EXCLUDING      -> new SemverRange(from, false, to, false);
+            default                   -> throw new IllegalArgumentException("Comparison " + comparison.name() + " is not a range comparison");
+        };
+    }
+
+
+    public Semver getLower() { return lower; }
+
+    public boolean hasLowerBound() { return null != lower; }
+
+    public boolean isLowerInclusive() { return lowerInclusive; }
+
+    public Semver getUpper() { return upper; }
+
+    public boolean hasUpperBound() { return null != upper; }
+
+    public boolean isUpperInclusive() { return upperInclusive; }
+
+    /**
+     * Returns the range comparison that describes this range if it has a lower and an upper bound
+     * @return the range comparison that describes this range or null if one of the bounds is missing
+     */
+    public Comparison getComparison() {
+        if (null == lower || null == upper) { return null; }
+        if (lowerInclusive) { return upperInclusive ? Comparison.RANGE_INCLUDING : Comparison.RANGE_EXCLUDING_TO; }
+        return upperInclusive ? Comparison.RANGE_EXCLUDING_FROM : Comparison.RANGE_EXCLUDING;
+    }
+
+    /**
+     * Returns true if no semver can be part of this range because the lower bound is greater than the upper bound
+     * or both bounds are equal and at least one of them is exclusive
+     * @return true if no semver can be part of this range
+     */
+    public boolean isEmpty() {
+        if (null == lower || null == upper) { return false; }
+        final int result = lower.compareTo(upper);
+        return result > 0 || (result == 0 && !(lowerInclusive && upperInclusive));
+    }
+
+    /**
+     * Returns true if the given semver is part of this range
+     * @param semver Semver to test
+     * @return true if the given semver is part of this range
+     */
+    public boolean contains(final Semver semver) { return isAboveLower(semver) && isBelowUpper(semver); }
+
+    @Override public boolean test(final Semver semver) { return contains(semver); }
+
+    /**
+     * Returns the index of the first semver in the given sorted list that is part of this range
+     * @param sorted List of semvers sorted in ascending order
+     * @return the index of the first semver that is part of this range or sorted.size() if there is none
+     */
+    public int fromIndex(final List<? extends Semver> sorted) {
+        if (null == lower) { return 0; }
+        int low  = 0;
+        int high = sorted.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (isAboveLower(sorted.get(mid))) { high = mid; } else { low = mid + 1; }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index after the last semver in the given sorted list that is part of this range
+     * @param sorted List of semvers sorted in ascending order
+     * @return the index after the last semver that is part of this range
+     */
+    public int toIndex(final List<? extends Semver> sorted) {
+        return toIndex(sorted, fromIndex(sorted));
+    }
+
+    /**
+     * Returns the semvers of the given sorted list that are part of this range as a view of the list
+     * @param sorted List of semvers sorted in ascending order
+     * @return a view of the given list that contains all semvers that are part of this range
+     */
+    public <T extends Semver> List<T> select(final List<T> sorted) {
+        final int from = fromIndex(sorted);
+        return sorted.subList(from, toIndex(sorted, from));
+    }
+
+    /**
+     * Returns the semvers of the given sorted array that are part of this range
+     * @param sorted Array of semvers sorted in ascending order
+     * @return a new array that contains all semvers that are part of this range
+     */
+    public Semver[] select(final Semver[] sorted) {
+        final List<Semver> list = Arrays.asList(sorted);
+        final int          from = fromIndex(list);
+        return Arrays.copyOfRange(sorted, from, toIndex(list, from));
+    }
+
+    @Override public String toString() {
+        if (null != lower && lowerInclusive && upperInclusive && lower == upper) { return versionText(lower); }
+        final StringBuilder rangeBuilder = new StringBuilder();
+        if (null != lower) { rangeBuilder.append(lowerInclusive ? Comparison.GREATER_THAN_OR_EQUAL.getOperator() : Comparison.GREATER_THAN.getOperator()).append(versionText(lower)); }
+        if (null != upper) { rangeBuilder.append(upperInclusive ? Comparison.LESS_THAN_OR_EQUAL.getOperator() : Comparison.LESS_THAN.getOperator()).append(versionText(upper)); }
+        return rangeBuilder.toString();
+    }
+
+
+    private int toIndex(final List<? extends Semver> sorted, final int from) {
+        if (null == upper) { return sorted.size(); }
+        int low  = from;
+        int high = sorted.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (isBelowUpper(sorted.get(mid))) { low = mid + 1; } else { high = mid; }
+        }
+        return low;
+    }
+
+    private boolean isAboveLower(final Semver semver) {
+        if (null == lower) { return true; }
+        final int result = semver.compareTo(lower);
+        return lowerInclusive ? result >= 0 : result > 0;
+    }
+
+    private boolean isBelowUpper(final Semver semver) {
+        if (null == upper) { return true; }
+        final int result = semver.compareTo(upper);
+        return upperInclusive ? result <= 0 : result < 0;
+    }
+
+    private static String versionText(final Semver semver) {
+        final String text = semver.toString();
+        return Comparison.EQUAL == semver.getComparison() ? text : text.substring(semver.getComparison().getOperator().length());
+    }
+}
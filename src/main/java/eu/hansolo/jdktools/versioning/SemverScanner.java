@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import java.util.Arrays;
+
+
+/**
+ * Hand written matcher for the semver and range grammar that was formerly
+ * described by the anchored regex
+ *
+ * (op)? v? N (.N)? (.N)? (.N)? (.N)? (.N)? (-ID(.ID)*)? (+ID(.ID)*)? ((op)? v? N (.N)?... (-ID(.ID)*)? (+ID(.ID)*)?)?
+ *
+ * with op = <|<=|>|>=|=, N = [0-9]+ and ID = [0-9A-Za-z-]+.
+ * The grammar is a sequence of elements where each element can end at a few
+ * positions. The elements are tried in the same order the backtracking regex
+ * engine tries them (longest first, optional parts present before absent),
+ * so the first complete match is exactly the match the regex would report.
+ * Positions that are known to fail are remembered, which keeps the matching
+ * linear for ordinary input and polynomial in the worst case.
+ * For each element the start and end index are stored in the groups array
+ * (element n at index 2n and 2n + 1), -1 marks an element that did not take part
+ * in the match. Dotted numbers include the dot, pre-release and metadata spans
+ * exclude the leading - and +.
+ */
+final class SemverScanner {
+    static final int OPERATOR     = 0;
+    static final int V            = 1;
+    static final int FEATURE      = 2;
+    static final int INTERIM      = 3;
+    static final int UPDATE       = 4;
+    static final int PATCH        = 5;
+    static final int FIFTH        = 6;
+    static final int SIXTH        = 7;
+    static final int PRE          = 8;
+    static final int METADATA     = 9;
+    static final int SECOND       = 10;
+    static final int SIDE_OFFSET  = 11;
+    static final int END          = 21;
+    static final int GROUPS_SIZE  = (END + 1) * 2;
+
+    private final CharSequence text;
+    private final int          length;
+    private final int[]        groups;
+    private       boolean[]    failed;
+
+
+    private SemverScanner(final CharSequence text, final int[] groups) {
+        this.text   = text;
+        this.length = text.length();
+        this.groups = groups;
+    }
+
+
+    /**
+     * Matches the whole text against the semver grammar
+     * @param text   Text to match
+     * @param groups Array of size GROUPS_SIZE that will be filled with the element indices
+     * @return true if the whole text matches
+     */
+    static boolean matches(final CharSequence text, final int[] groups) {
+        Arrays.fill(groups, -1);
+        final SemverScanner scanner = new SemverScanner(text, groups);
+        if (!scanner.match(OPERATOR, 0)) { return false; }
+        if (groups[SECOND * 2] < 0) { Arrays.fill(groups, SIDE_OFFSET * 2, END * 2, -1); }
+        return true;
+    }
+
+    static boolean has(final int[] groups, final int element) { return groups[element * 2] >= 0; }
+
+    static int start(final int[] groups, final int element) { return groups[element * 2]; }
+
+    static int end(final int[] groups, final int element) { return groups[element * 2 + 1]; }
+
+    static String group(final CharSequence text, final int[] groups, final int element) {
+        return has(groups, element) ? text.subSequence(groups[element * 2], groups[element * 2 + 1]).toString() : null;
+    }
+
+    /**
+     * Parses the digits in the given region, in case the value does not fit into an int the
+     * same NumberFormatException as Integer.parseInt(String) will be thrown.
+     */
+    static int parseInt(final CharSequence text, final int start, final int end) throws NumberFormatException {
+        long value = 0;
+        for (int i = start ; i < end ; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+            if (value > Integer.MAX_VALUE) { return Integer.parseInt(text.subSequence(start, end).toString()); }
+        }
+        return (int) value;
+    }
+
+    static boolean isDigit(final char c) { return c >= '0' && c <= '9'; }
+
+    static boolean isLetter(final char c) { return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'); }
+
+    static boolean isIdentifierChar(final char c) { return isLetter(c) || isDigit(c) || c == '-'; }
+
+
+    private boolean match(final int element, final int pos) {
+        if (null != failed && failed[element * (length + 1) + pos]) { return false; }
+        final int kind = element < SIDE_OFFSET || element == END ? element : element - SIDE_OFFSET;
+        switch (kind) {
+            case OPERATOR -> {
+                final char c = pos < length ? text.charAt(pos) : 0;
+                if (c == '<' || c == '>') {
+                    if (take(element, pos, pos + 1)) { return true; }
+                    if (pos + 1 < length && text.charAt(pos + 1) == '=' && take(element, pos, pos + 2)) { return true; }
+                } else if (c == '=') {
+                    if (take(element, pos, pos + 1)) { return true; }
+                }
+                if (skip(element, pos)) { return true; }
+            }
+            case V -> {
+                if (pos < length && text.charAt(pos) == 'v' && take(element, pos, pos + 1)) { return true; }
+                if (skip(element, pos)) { return true; }
+            }
+            case FEATURE -> {
+                for (int i = skipDigits(pos) ; i > pos ; i--) {
+                    if (take(element, pos, i)) { return true; }
+                }
+            }
+            case INTERIM, UPDATE, PATCH, FIFTH, SIXTH -> {
+                if (pos < length && text.charAt(pos) == '.') {
+                    for (int i = skipDigits(pos + 1) ; i > pos + 1 ; i--) {
+                        if (take(element, pos, i)) { return true; }
+                    }
+                }
+                if (skip(element, pos)) { return true; }
+            }
+            case PRE, METADATA -> {
+                if (pos + 1 < length && text.charAt(pos) == (PRE == kind ? '-' : '+')) {
+                    for (int i = skipIdentifiers(pos + 1) ; i > pos + 1 ; i--) {
+                        if (text.charAt(i - 1) != '.' && take(element, pos + 1, i)) { return true; }
+                    }
+                }
+                if (skip(element, pos)) { return true; }
+            }
+            case SECOND -> {
+                groups[element * 2] = pos;
+                if (match(element + 1, pos)) { return true; }
+                groups[element * 2] = -1;
+                if (match(END, pos)) { return true; }
+            }
+            case END -> {
+                if (isEnd(pos)) { return true; }
+            }
+        }
+        if (null == failed) { failed = new boolean[(END + 1) * (length + 1)]; }
+        failed[element * (length + 1) + pos] = true;
+        return false;
+    }
+
+    private boolean take(final int element, final int start, final int end) {
+        groups[element * 2]     = start;
+        groups[element * 2 + 1] = end;
+        return match(element + 1, end);
+    }
+
+    private boolean skip(final int element, final int pos) {
+        groups[element * 2]     = -1;
+        groups[element * 2 + 1] = -1;
+        return match(element + 1, pos);
+    }
+
+    // Same as $ without MULTILINE flag, the end of the text or a final line terminator
+    private boolean isEnd(final int pos) {
+        if (pos == length) { return true; }
+        if (pos == length - 2) { return text.charAt(pos) == '\r' && text.charAt(pos + 1) == '\n'; }
+        if (pos == length - 1) {
+            final char c = text.charAt(pos);
+            if (c == '\n') { return pos == 0 || text.charAt(pos - 1) != '\r'; }
+            return c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+        }
+        return false;
+    }
+
+    private int skipDigits(final int from) {
+        int pos = from;
+        while (pos < length && isDigit(text.charAt(pos))) { pos++; }
+        return pos;
+    }
+
+    // Returns the end of the longest ID(.ID)* sequence that starts at the given position
+    private int skipIdentifiers(final int from) {
+        int pos = from;
+        int end = from;
+        while (pos < length && isIdentifierChar(text.charAt(pos))) {
+            while (pos < length && isIdentifierChar(text.charAt(pos))) { pos++; }
+            end = pos;
+            if (pos + 1 < length && text.charAt(pos) == '.' && isIdentifierChar(text.charAt(pos + 1))) { pos++; } else { break; }
+        }
+        return end;
+    }
+}
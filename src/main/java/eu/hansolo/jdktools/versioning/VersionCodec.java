@@ -0,0 +1,467 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import eu.hansolo.jdktools.ReleaseStatus;
+import eu.hansolo.jdktools.util.Comparison;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+
+/**
+ * Compact binary encoding of VersionNumber, Semver and SemverParsingResult that can be decoded
+ * without parsing text. Each encoded value starts with a header byte that contains the format
+ * version in the upper and the type of the value in the lower 4 bits.
+ *
+ * VersionNumber: a flag byte with the present segments (bit 0 = feature ... bit 5 = sixth), the
+ *                presence of the build number (bit 6) and of the release status (bit 7), followed
+ *                by the present numbers as unsigned varints and the release status code.
+ * Semver:        the VersionNumber without header, a byte with the release status (lower 4 bits)
+ *                and the comparison (upper 4 bits) followed by pre, preBuild, metadata, build and
+ *                opt as varint length (0 = null, n + 1 = n bytes) prefixed UTF-8 strings.
+ * Result:        a flag byte with the present parts (semver1, error1, semver2, error2, range, filter)
+ *                followed by the semvers without header, the error messages as strings and the range.
+ *
+ * The codes of the release statuses and comparisons are fixed by the tables in this class, new
+ * values have to be appended to keep encoded data readable. Strings are limited to MAX_STRING_LENGTH
+ * bytes and string lengths are checked before anything is allocated. Truncated input makes the
+ * decode methods throw an EOFException when reading a DataInput and a BufferUnderflowException
+ * when reading a ByteBuffer. Example:
+ *   VersionCodec.encode(semver, dataOutput);
+ *   Semver semver = VersionCodec.decodeSemver(dataInput);
+ */
+public final class VersionCodec {
+    public  static final int             FORMAT_VERSION       = 1;
+    public  static final int             MAX_STRING_LENGTH    = 1 << 16;
+    private static final int             TYPE_VERSION_NUMBER  = 1;
+    private static final int             TYPE_SEMVER          = 2;
+    private static final int             TYPE_PARSING_RESULT  = 3;
+    private static final int             SEGMENTS             = 6;
+    private static final int             BUILD_FLAG           = 1 << 6;
+    private static final int             RELEASE_STATUS_FLAG  = 1 << 7;
+    private static final int             SEMVER1_FLAG         = 1;
+    private static final int             ERROR1_FLAG          = 1 << 1;
+    private static final int             SEMVER2_FLAG         = 1 << 2;
+    private static final int             ERROR2_FLAG          = 1 << 3;
+    private static final int             RANGE_FLAG           = 1 << 4;
+    private static final int             FILTER_IS_RANGE_FLAG = 1 << 5;
+    private static final int             BOUND_SEMVER1        = 1;
+    private static final int             BOUND_SEMVER2        = 2;
+    private static final int             BOUND_INLINE         = 3;
+    private static final ReleaseStatus[] RELEASE_STATUSES     = { null, ReleaseStatus.GA, ReleaseStatus.EA, ReleaseStatus.NONE, ReleaseStatus.NOT_FOUND };
+    private static final Comparison[]    COMPARISONS          = { null, Comparison.LESS_THAN, Comparison.LESS_THAN_OR_EQUAL, Comparison.EQUAL, Comparison.GREATER_THAN_OR_EQUAL, Comparison.GREATER_THAN,
+                                                                  Comparison.RANGE_INCLUDING, Comparison.RANGE_EXCLUDING_TO, Comparison.RANGE_EXCLUDING_FROM, Comparison.RANGE_EXCLUDING };
+    private static final OptionalInt[]   SMALL_NUMBERS        = new OptionalInt[32];
+    static {
+        for (int i = 0 ; i < SMALL_NUMBERS.length ; i++) { SMALL_NUMBERS[i] = OptionalInt.of(i); }
+    }
+
+
+    private VersionCodec() {}
+
+
+    public static void encode(final VersionNumber versionNumber, final DataOutput output) throws IOException {
+        final DataOutputOutput out = new DataOutputOutput(output);
+        out.writeByte(header(TYPE_VERSION_NUMBER));
+        writeVersionNumber(versionNumber, out);
+    }
+    public static void encode(final VersionNumber versionNumber, final ByteBuffer buffer) {
+        final BufferOutput out = new BufferOutput(buffer);
+        out.writeByte(header(TYPE_VERSION_NUMBER));
+        writeVersionNumber(versionNumber, out);
+    }
+
+    public static void encode(final Semver semver, final DataOutput output) throws IOException {
+        final DataOutputOutput out = new DataOutputOutput(output);
+        out.writeByte(header(TYPE_SEMVER));
+        writeSemver(semver, out);
+    }
+    public static void encode(final Semver semver, final ByteBuffer buffer) {
+        final BufferOutput out = new BufferOutput(buffer);
+        out.writeByte(header(TYPE_SEMVER));
+        writeSemver(semver, out);
+    }
+
+    /**
+     * Encodes the given parsing result, the filter can only be encoded if it is null or the range of the result
+     * @param result Parsing result to encode
+     * @param output Output to write to
+     * @throws IOException if the output cannot be written to
+     * @throws IllegalArgumentException if the filter of the result is not its range or a string is longer than MAX_STRING_LENGTH bytes
+     */
+    public static void encode(final SemverParsingResult result, final DataOutput output) throws IOException, IllegalArgumentException {
+        final DataOutputOutput out = new DataOutputOutput(output);
+        out.writeByte(header(TYPE_PARSING_RESULT));
+        writeParsingResult(result, out);
+    }
+    public static void encode(final SemverParsingResult result, final ByteBuffer buffer) throws IllegalArgumentException {
+        final BufferOutput out = new BufferOutput(buffer);
+        out.writeByte(header(TYPE_PARSING_RESULT));
+        writeParsingResult(result, out);
+    }
+
+    public static byte[] toBytes(final VersionNumber versionNumber) {
+        final ArrayOutput out = new ArrayOutput();
+        out.writeByte(header(TYPE_VERSION_NUMBER));
+        writeVersionNumber(versionNumber, out);
+        return out.toByteArray();
+    }
+
+    public static byte[] toBytes(final Semver semver) {
+        final ArrayOutput out = new ArrayOutput();
+        out.writeByte(header(TYPE_SEMVER));
+        writeSemver(semver, out);
+        return out.toByteArray();
+    }
+
+    public static byte[] toBytes(final SemverParsingResult result) throws IllegalArgumentException {
+        final ArrayOutput out = new ArrayOutput();
+        out.writeByte(header(TYPE_PARSING_RESULT));
+        writeParsingResult(result, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a VersionNumber that has been encoded with encode(VersionNumber, ...)
+     * @param input Input to read from
+     * @return the decoded VersionNumber
+     * @throws IOException if the input cannot be read e.g. EOFException if the input is truncated
+     * @throws IllegalArgumentException if the data is not an encoded VersionNumber of a supported format version
+     */
+    public static VersionNumber decodeVersionNumber(final DataInput input) throws IOException, IllegalArgumentException {
+        final DataInputInput in = new DataInputInput(input);
+        checkHeader(in.readByte(), TYPE_VERSION_NUMBER);
+        return readVersionNumber(in);
+    }
+    public static VersionNumber decodeVersionNumber(final ByteBuffer buffer) throws IllegalArgumentException {
+        final BufferInput in = new BufferInput(buffer);
+        checkHeader(in.readByte(), TYPE_VERSION_NUMBER);
+        return readVersionNumber(in);
+    }
+
+    public static Semver decodeSemver(final DataInput input) throws IOException, IllegalArgumentException {
+        final DataInputInput in = new DataInputInput(input);
+        checkHeader(in.readByte(), TYPE_SEMVER);
+        return readSemver(in);
+    }
+    public static Semver decodeSemver(final ByteBuffer buffer) throws IllegalArgumentException {
+        final BufferInput in = new BufferInput(buffer);
+        checkHeader(in.readByte(), TYPE_SEMVER);
+        return readSemver(in);
+    }
+
+    public static SemverParsingResult decodeParsingResult(final DataInput input) throws IOException, IllegalArgumentException {
+        final DataInputInput in = new DataInputInput(input);
+        checkHeader(in.readByte(), TYPE_PARSING_RESULT);
+        return readParsingResult(in);
+    }
+    public static SemverParsingResult decodeParsingResult(final ByteBuffer buffer) throws IllegalArgumentException {
+        final BufferInput in = new BufferInput(buffer);
+        checkHeader(in.readByte(), TYPE_PARSING_RESULT);
+        return readParsingResult(in);
+    }
+
+
+    // ******************** Encoding ******************************************
+    private static int header(final int type) { return FORMAT_VERSION << 4 | type; }
+
+    private static <E extends Exception> void writeVersionNumber(final VersionNumber versionNumber, final Output<E> out) throws E {
+        Objects.requireNonNull(versionNumber, "VersionNumber cannot be null");
+        final OptionalInt[]           segments      = { versionNumber.getFeature(), versionNumber.getInterim(), versionNumber.getUpdate(), versionNumber.getPatch(), versionNumber.getFifth(), versionNumber.getSixth() };
+        final OptionalInt             build         = versionNumber.getBuild();
+        final Optional<ReleaseStatus> releaseStatus = versionNumber.getReleaseStatus();
+        int flags = 0;
+        for (int i = 0 ; i < SEGMENTS ; i++) {
+            if (segments[i].isPresent()) { flags |= 1 << i; }
+        }
+        if (build.isPresent())         { flags |= BUILD_FLAG; }
+        if (releaseStatus.isPresent()) { flags |= RELEASE_STATUS_FLAG; }
+        out.writeByte(flags);
+        for (OptionalInt segment : segments) {
+            if (segment.isPresent()) { writeVarint(segment.getAsInt(), out); }
+        }
+        if (build.isPresent())         { writeVarint(build.getAsInt(), out); }
+        if (releaseStatus.isPresent()) { out.writeByte(code(RELEASE_STATUSES, releaseStatus.get())); }
+    }
+
+    private static <E extends Exception> void writeSemver(final Semver semver, final Output<E> out) throws E {
+        Objects.requireNonNull(semver, "Semver cannot be null");
+        writeVersionNumber(semver.getVersionNumber(), out);
+        out.writeByte(code(RELEASE_STATUSES, semver.getReleaseStatus()) | code(COMPARISONS, semver.getComparison()) << 4);
+        writeString(semver.getPre(), out);
+        writeString(semver.getPreBuild(), out);
+        writeString(semver.getMetadata(), out);
+        writeString(semver.getBuild(), out);
+        writeString(semver.getOpt(), out);
+    }
+
+    private static <E extends Exception> void writeParsingResult(final SemverParsingResult result, final Output<E> out) throws E {
+        Objects.requireNonNull(result, "Parsing result cannot be null");
+        final SemverRange range = result.getRange();
+        if (null != result.getFilter() && result.getFilter() != range) { throw new IllegalArgumentException("Only a filter that is the range of the parsing result can be encoded"); }
+        int flags = 0;
+        if (null != result.getSemver1())  { flags |= SEMVER1_FLAG; }
+        if (null != result.getError1())   { flags |= ERROR1_FLAG; }
+        if (null != result.getSemver2())  { flags |= SEMVER2_FLAG; }
+        if (null != result.getError2())   { flags |= ERROR2_FLAG; }
+        if (null != range)                { flags |= RANGE_FLAG; }
+        if (null != result.getFilter())   { flags |= FILTER_IS_RANGE_FLAG; }
+        out.writeByte(flags);
+        if (null != result.getSemver1()) { writeSemver(result.getSemver1(), out); }
+        if (null != result.getError1())  { writeString(result.getError1().getMessage(), out); }
+        if (null != result.getSemver2()) { writeSemver(result.getSemver2(), out); }
+        if (null != result.getError2())  { writeString(result.getError2().getMessage(), out); }
+        if (null != range) {
+            final int lower = boundCode(range.getLower(), result);
+            final int upper = boundCode(range.getUpper(), result);
+            out.writeByte(lower | (range.isLowerInclusive() ? 1 : 0) << 2 | upper << 3 | (range.isUpperInclusive() ? 1 : 0) << 5);
+            if (BOUND_INLINE == lower) { writeSemver(range.getLower(), out); }
+            if (BOUND_INLINE == upper) { writeSemver(range.getUpper(), out); }
+        }
+    }
+
+    // Range bounds are usually the semvers of the result and are only written once
+    private static int boundCode(final Semver bound, final SemverParsingResult result) {
+        if (null == bound)                { return 0; }
+        if (bound == result.getSemver1()) { return BOUND_SEMVER1; }
+        if (bound == result.getSemver2()) { return BOUND_SEMVER2; }
+        return BOUND_INLINE;
+    }
+
+    private static <T> int code(final T[] table, final T value) {
+        for (int i = 0 ; i < table.length ; i++) {
+            if (table[i] == value) { return i; }
+        }
+        throw new IllegalArgumentException("No code for " + value);
+    }
+
+    private static <E extends Exception> void writeVarint(final int value, final Output<E> out) throws E {
+        int rest = value;
+        while ((rest & ~0x7F) != 0) {
+            out.writeByte((rest & 0x7F) | 0x80);
+            rest >>>= 7;
+        }
+        out.writeByte(rest);
+    }
+
+    private static <E extends Exception> void writeString(final String text, final Output<E> out) throws E {
+        if (null == text) {
+            out.writeByte(0);
+            return;
+        }
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_LENGTH) { throw new IllegalArgumentException("String length " + bytes.length + " exceeds " + MAX_STRING_LENGTH); }
+        writeVarint(bytes.length + 1, out);
+        out.write(bytes);
+    }
+
+
+    // ******************** Decoding ******************************************
+    private static void checkHeader(final int header, final int type) {
+        if (header >>> 4 != FORMAT_VERSION) { throw new IllegalArgumentException("Unsupported format version " + (header >>> 4)); }
+        if ((header & 0x0F) != type)        { throw new IllegalArgumentException("Unexpected type " + (header & 0x0F) + " instead of " + type); }
+    }
+
+    private static <E extends Exception> VersionNumber readVersionNumber(final Input<E> in) throws E {
+        final int           flags    = in.readByte();
+        final OptionalInt[] segments = new OptionalInt[SEGMENTS];
+        for (int i = 0 ; i < SEGMENTS ; i++) {
+            segments[i] = 0 == (flags & (1 << i)) ? OptionalInt.empty() : optionalInt(readVarint(in));
+        }
+        final OptionalInt             build         = 0 == (flags & BUILD_FLAG) ? OptionalInt.empty() : optionalInt(readVarint(in));
+        final Optional<ReleaseStatus> releaseStatus = 0 == (flags & RELEASE_STATUS_FLAG) ? Optional.empty() : Optional.of(nonNull(lookup(RELEASE_STATUSES, in.readByte())));
+        return new VersionNumber(segments[0], segments[1], segments[2], segments[3], segments[4], segments[5], build, releaseStatus);
+    }
+
+    private static <E extends Exception> Semver readSemver(final Input<E> in) throws E {
+        final VersionNumber versionNumber = readVersionNumber(in);
+        final int           codes         = in.readByte();
+        final String        pre           = readString(in);
+        final String        preBuild      = readString(in);
+        final String        metadata      = readString(in);
+        final String        build         = readString(in);
+        final String        opt           = readString(in);
+        return new Semver(versionNumber, lookup(RELEASE_STATUSES, codes & 0x0F), pre, preBuild, metadata, build, opt, lookup(COMPARISONS, codes >>> 4));
+    }
+
+    private static <E extends Exception> SemverParsingResult readParsingResult(final Input<E> in) throws E {
+        final int                 flags  = in.readByte();
+        final SemverParsingResult result = new SemverParsingResult();
+        if (0 != (flags & SEMVER1_FLAG)) { result.setSemver1(readSemver(in)); }
+        if (0 != (flags & ERROR1_FLAG))  { result.setError1(new Error(readString(in))); }
+        if (0 != (flags & SEMVER2_FLAG)) { result.setSemver2(readSemver(in)); }
+        if (0 != (flags & ERROR2_FLAG))  { result.setError2(new Error(readString(in))); }
+        if (0 != (flags & RANGE_FLAG)) {
+            final int         bounds = in.readByte();
+            final Semver      lower  = readBound(bounds & 0x03, result, in);
+            final Semver      upper  = readBound(bounds >>> 3 & 0x03, result, in);
+            final SemverRange range  = new SemverRange(lower, 0 != (bounds & 1 << 2), upper, 0 != (bounds & 1 << 5));
+            result.setRange(range);
+            if (0 != (flags & FILTER_IS_RANGE_FLAG)) { result.setFilter(range); }
+        }
+        return result;
+    }
+
+    private static <E extends Exception> Semver readBound(final int code, final SemverParsingResult result, final Input<E> in) throws E {
+        return switch (code) {
+            case BOUND_SEMVER1 -> result.getSemver1();
+            case BOUND_SEMVER2 -> result.getSemver2();
+            case BOUND_INLINE  -> readSemver(in);
+            default            -> null;
+        };
+    }
+
+    private static <T> T lookup(final T[] table, final int code) {
+        if (code >= table.length) { throw new IllegalArgumentException("Unknown code " + code); }
+        return table[code];
+    }
+
+    private static <T> T nonNull(final T value) {
+        if (null == value) { throw new IllegalArgumentException("Release status cannot be null"); }
+        return value;
+    }
+
+    private static OptionalInt optionalInt(final int value) {
+        // Numbers are encoded unsigned, a 5 byte varint can still carry the sign bit
+        if (value < 0) { throw new IllegalArgumentException("Malformed varint"); }
+        return value < SMALL_NUMBERS.length ? SMALL_NUMBERS[value] : OptionalInt.of(value);
+    }
+
+    private static <E extends Exception> int readVarint(final Input<E> in) throws E {
+        int value = 0;
+        for (int shift = 0 ; shift < 35 ; shift += 7) {
+            final int b = in.readByte();
+            if (shift == 28 && (b & 0xF0) != 0) { break; }
+            value |= (b & 0x7F) << shift;
+            if (0 == (b & 0x80)) { return value; }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private static <E extends Exception> String readString(final Input<E> in) throws E {
+        final int length = readVarint(in) - 1;
+        if (length < 0) {
+            if (-1 == length) { return null; }
+            throw new IllegalArgumentException("Invalid string length");
+        }
+        if (0 == length) { return ""; }
+        in.checkLength(length);
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    // Byte sinks and sources, the ByteBuffer based ones don't throw checked exceptions
+    private interface Output<E extends Exception> {
+        void writeByte(int b) throws E;
+
+        void write(byte[] bytes) throws E;
+    }
+
+    private interface Input<E extends Exception> {
+        int readByte() throws E;
+
+        // Throws before a byte array of the given length is allocated for data that cannot contain it
+        void checkLength(int length) throws E;
+
+        void readFully(byte[] bytes) throws E;
+    }
+
+    private static final class DataOutputOutput implements Output<IOException> {
+        private final DataOutput output;
+
+        private DataOutputOutput(final DataOutput output) { this.output = Objects.requireNonNull(output, "Output cannot be null"); }
+
+        @Override public void writeByte(final int b) throws IOException { output.writeByte(b); }
+
+        @Override public void write(final byte[] bytes) throws IOException { output.write(bytes); }
+    }
+
+    private static final class BufferOutput implements Output<RuntimeException> {
+        private final ByteBuffer buffer;
+
+        private BufferOutput(final ByteBuffer buffer) { this.buffer = Objects.requireNonNull(buffer, "Buffer cannot be null"); }
+
+        @Override public void writeByte(final int b) { buffer.put((byte) b); }
+
+        @Override public void write(final byte[] bytes) { buffer.put(bytes); }
+    }
+
+    private static final class ArrayOutput implements Output<RuntimeException> {
+        private byte[] bytes = new byte[32];
+        private int    size;
+
+        @Override public void writeByte(final int b) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) b;
+        }
+
+        @Override public void write(final byte[] source) {
+            ensureCapacity(source.length);
+            System.arraycopy(source, 0, bytes, size, source.length);
+            size += source.length;
+        }
+
+        private void ensureCapacity(final int additional) {
+            if (size + additional > bytes.length) { bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional)); }
+        }
+
+        private byte[] toByteArray() { return Arrays.copyOf(bytes, size); }
+    }
+
+    private static final class DataInputInput implements Input<IOException> {
+        private final DataInput input;
+
+        private DataInputInput(final DataInput input) { this.input = Objects.requireNonNull(input, "Input cannot be null"); }
+
+        @Override public int readByte() throws IOException { return input.readUnsignedByte(); }
+
+        @Override public void checkLength(final int length) {
+            if (length > MAX_STRING_LENGTH) { throw new IllegalArgumentException("String length " + length + " exceeds " + MAX_STRING_LENGTH); }
+        }
+
+        @Override public void readFully(final byte[] bytes) throws IOException { input.readFully(bytes); }
+    }
+
+    private static final class BufferInput implements Input<RuntimeException> {
+        private final ByteBuffer buffer;
+
+        private BufferInput(final ByteBuffer buffer) { this.buffer = Objects.requireNonNull(buffer, "Buffer cannot be null"); }
+
+        @Override public int readByte() { return buffer.get() & 0xFF; }
+
+        @Override public void checkLength(final int length) {
+            if (length > MAX_STRING_LENGTH) { throw new IllegalArgumentException("String length " + length + " exceeds " + MAX_STRING_LENGTH); }
+            if (length > buffer.remaining()) { throw new BufferUnderflowException(); }
+        }
+
+        @Override public void readFully(final byte[] bytes) { buffer.get(bytes); }
+    }
+}
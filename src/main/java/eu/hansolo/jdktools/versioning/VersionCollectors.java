@@ -0,0 +1,196 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+
+/**
+ * Collectors for streams of versions like VersionNumber, Semver or ImmutableVersionNumber.
+ * Each collector keeps only what is needed for its result (e.g. the running maximum instead of all
+ * elements) and can be combined in parallel streams.
+ *
+ * The grouping collectors look up the groups by the primitive feature version, the keys are only
+ * boxed once per group when the resulting map is created. Examples:
+ *   semvers.stream().collect(VersionCollectors.groupingByFeature(Semver::getFeature, VersionCollectors.maxVersion()))
+ *   versionNumbers.parallelStream().collect(VersionCollectors.groupingBySimpleMajorVersion(versionNumber -> versionNumber.getFeature().getAsInt()))
+ */
+public final class VersionCollectors {
+    private static final int[] EMPTY_KEYS = new int[0];
+
+
+    private VersionCollectors() {}
+
+
+    /**
+     * Returns a collector that finds the latest version, of equal versions the first one is kept
+     * @return a collector that finds the latest version
+     */
+    public static <V extends Comparable<? super V>> Collector<V, ?, Optional<V>> maxVersion() {
+        return Collector.of(Extremum<V>::new, (extremum, version) -> extremum.add(version, 1), (extremum, other) -> extremum.combine(other, 1), Extremum::get);
+    }
+
+    /**
+     * Returns a collector that finds the oldest version, of equal versions the first one is kept
+     * @return a collector that finds the oldest version
+     */
+    public static <V extends Comparable<? super V>> Collector<V, ?, Optional<V>> minVersion() {
+        return Collector.of(Extremum<V>::new, (extremum, version) -> extremum.add(version, -1), (extremum, other) -> extremum.combine(other, -1), Extremum::get);
+    }
+
+    /**
+     * Returns a collector that finds the k latest versions. Only k versions are kept while collecting.
+     * @param k Number of versions to find
+     * @return a collector that returns the k latest versions in descending order
+     * @throws IllegalArgumentException if k is negative
+     */
+    public static <V extends Comparable<? super V>> Collector<V, ?, List<V>> topK(final int k) throws IllegalArgumentException {
+        if (k < 0) { throw new IllegalArgumentException("k cannot be negative"); }
+        final BiConsumer<PriorityQueue<V>, V> accumulator = (queue, version) -> {
+            if (queue.size() < k) {
+                queue.add(version);
+            } else if (k > 0 && version.compareTo(queue.peek()) > 0) {
+                queue.poll();
+                queue.add(version);
+            }
+        };
+        return Collector.of(PriorityQueue<V>::new, accumulator, (queue, other) -> {
+            for (V version : other) { accumulator.accept(queue, version); }
+            return queue;
+        }, queue -> {
+            final List<V> versions = new ArrayList<>(queue);
+            versions.sort(Collections.reverseOrder());
+            return versions;
+        });
+    }
+
+    /**
+     * Returns a collector that groups the elements by their feature version and reduces each group with the given downstream collector
+     * @param featureOf  Function that returns the feature version of an element e.g. Semver::getFeature
+     * @param downstream Collector that is used for the elements of each group e.g. maxVersion()
+     * @return a collector that returns a map with the feature versions in ascending order as keys and the results of the downstream collector as values
+     */
+    public static <T, A, D> Collector<T, ?, Map<Integer, D>> groupingByFeature(final ToIntFunction<? super T> featureOf, final Collector<? super T, A, D> downstream) {
+        final Supplier<A>              supplier    = downstream.supplier();
+        final BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        final BinaryOperator<A>        combiner    = downstream.combiner();
+        final Function<A, D>           finisher    = downstream.finisher();
+        return Collector.of(FeatureGroups<A>::new,
+                            (groups, element) -> accumulator.accept(groups.getOrCreate(featureOf.applyAsInt(element), supplier), element),
+                            (groups, other) -> groups.combine(other, combiner),
+                            groups -> {
+                                final Map<Integer, D> result = new TreeMap<>();
+                                for (int i = 0 ; i < groups.size ; i++) { result.put(groups.keys[i], finisher.apply(groups.get(i))); }
+                                return result;
+                            });
+    }
+
+    /**
+     * Returns a collector that finds the latest version of each major version
+     * @param featureOf Function that returns the feature version of a version e.g. Semver::getFeature
+     * @return a collector that returns a map with the major versions in ascending order as keys and their latest versions as values
+     * @throws IllegalArgumentException while collecting if a feature version is smaller than 1
+     */
+    public static <V extends Comparable<? super V>> Collector<V, ?, Map<SimpleMajorVersion, V>> groupingBySimpleMajorVersion(final ToIntFunction<? super V> featureOf) {
+        return Collector.of(FeatureGroups<Extremum<V>>::new,
+                            (groups, version) -> groups.getOrCreate(featureOf.applyAsInt(version), Extremum::new).add(version, 1),
+                            (groups, other) -> groups.combine(other, (extremum, otherExtremum) -> extremum.combine(otherExtremum, 1)),
+                            groups -> {
+                                final Map<SimpleMajorVersion, V> result = new TreeMap<>();
+                                for (int i = 0 ; i < groups.size ; i++) { result.put(new SimpleMajorVersion(groups.keys[i]), groups.get(i).value); }
+                                return result;
+                            });
+    }
+
+
+    // Running minimum (direction -1) or maximum (direction 1)
+    private static final class Extremum<V extends Comparable<? super V>> {
+        private V value;
+
+
+        private void add(final V version, final int direction) {
+            if (null == value || Integer.signum(version.compareTo(value)) == direction) { value = version; }
+        }
+
+        private Extremum<V> combine(final Extremum<V> other, final int direction) {
+            if (null != other.value) { add(other.value, direction); }
+            return this;
+        }
+
+        private Optional<V> get() { return Optional.ofNullable(value); }
+    }
+
+
+    // Containers of the groups in ascending order of their feature versions, found by a binary search over the primitive keys
+    private static final class FeatureGroups<A> {
+        private int[]    keys       = EMPTY_KEYS;
+        private Object[] containers = new Object[0];
+        private int      size;
+
+
+        @SuppressWarnings("unchecked")
+        private A get(final int index) { return (A) containers[index]; }
+
+        private A getOrCreate(final int feature, final Supplier<A> supplier) {
+            final int index = Arrays.binarySearch(keys, 0, size, feature);
+            if (index >= 0) { return get(index); }
+            final A container = supplier.get();
+            insert(-index - 1, feature, container);
+            return container;
+        }
+
+        private FeatureGroups<A> combine(final FeatureGroups<A> other, final BinaryOperator<A> combiner) {
+            for (int i = 0 ; i < other.size ; i++) {
+                final int index = Arrays.binarySearch(keys, 0, size, other.keys[i]);
+                if (index >= 0) {
+                    containers[index] = combiner.apply(get(index), other.get(i));
+                } else {
+                    insert(-index - 1, other.keys[i], other.get(i));
+                }
+            }
+            return this;
+        }
+
+        private void insert(final int index, final int feature, final A container) {
+            if (size == keys.length) {
+                final int capacity = Math.max(8, size * 2);
+                keys       = Arrays.copyOf(keys, capacity);
+                containers = Arrays.copyOf(containers, capacity);
+            }
+            System.arraycopy(keys, index, keys, index + 1, size - index);
+            System.arraycopy(containers, index, containers, index + 1, size - index);
+            keys[index]       = feature;
+            containers[index] = container;
+            size++;
+        }
+    }
+}
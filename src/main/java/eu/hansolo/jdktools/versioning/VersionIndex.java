@@ -0,0 +1,276 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import eu.hansolo.jdktools.ReleaseStatus;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+
+/**
+ * Immutable index of payloads (e.g. packages) sorted by their versions. The versions are stored
+ * as the two longs of a PackedVersion in sorted primitive arrays, so floor, ceiling, range and
+ * latest queries are binary searches that don't touch the payloads.
+ * The order is the order of PackedVersion, entries with the same version keep the order in which
+ * they were given. Versions have to be packable (see PackedVersion.isPackable()).
+ */
+public final class VersionIndex<T> {
+    private final long[]  highs;
+    private final long[]  lows;
+    private final List<T> payloads;
+    private final int[]   gaIndices;
+    private final int[]   eaIndices;
+
+
+    private VersionIndex(final long[] highs, final long[] lows, final List<T> payloads) {
+        this.highs    = highs;
+        this.lows     = lows;
+        this.payloads = payloads;
+        int noOfEa = 0;
+        for (long low : lows) { if (isEarlyAccess(low)) { noOfEa++; } }
+        this.gaIndices = new int[lows.length - noOfEa];
+        this.eaIndices = new int[noOfEa];
+        int ga = 0;
+        int ea = 0;
+        for (int i = 0 ; i < lows.length ; i++) {
+            if (isEarlyAccess(lows[i])) { eaIndices[ea++] = i; } else { gaIndices[ga++] = i; }
+        }
+    }
+
+
+    /**
+     * Returns an index of the given payloads sorted by the version number of each payload
+     * @param payloads        Payloads to index e.g. packages
+     * @param versionNumberOf Function that returns the version number of a payload
+     * @return an index of the given payloads sorted by their version numbers
+     * @throws IllegalArgumentException if a version number is not packable
+     */
+    public static <T> VersionIndex<T> fromVersionNumbers(final Collection<? extends T> payloads, final Function<? super T, VersionNumber> versionNumberOf) throws IllegalArgumentException {
+        return create(payloads, payload -> PackedVersion.fromVersionNumber(versionNumberOf.apply(payload)));
+    }
+
+    /**
+     * Returns an index of the given payloads sorted by the semver of each payload. Only the parts of
+     * the semvers that are stored in a PackedVersion are taken into account.
+     * @param payloads Payloads to index e.g. packages
+     * @param semverOf Function that returns the semver of a payload
+     * @return an index of the given payloads sorted by their semvers
+     * @throws IllegalArgumentException if a semver is not packable
+     */
+    public static <T> VersionIndex<T> fromSemvers(final Collection<? extends T> payloads, final Function<? super T, Semver> semverOf) throws IllegalArgumentException {
+        return create(payloads, payload -> PackedVersion.fromSemver(semverOf.apply(payload)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> VersionIndex<T> create(final Collection<? extends T> payloads, final Function<T, PackedVersion> packedVersionOf) {
+        Objects.requireNonNull(payloads, "Payloads cannot be null");
+        final T[]    input = (T[]) payloads.toArray();
+        final int    size  = input.length;
+        final long[] highs = new long[size];
+        final long[] lows  = new long[size];
+        for (int i = 0 ; i < size ; i++) {
+            final PackedVersion packedVersion = packedVersionOf.apply(input[i]);
+            highs[i] = packedVersion.getHigh();
+            lows[i]  = packedVersion.getLow();
+        }
+        // Stable sort keeps entries with the same version in the given order
+        final int[] order = VersionSorter.sortedPermutation(highs, lows);
+
+        final long[]   sortedHighs    = new long[size];
+        final long[]   sortedLows     = new long[size];
+        final Object[] sortedPayloads = new Object[size];
+        for (int i = 0 ; i < size ; i++) {
+            sortedHighs[i]    = highs[order[i]];
+            sortedLows[i]     = lows[order[i]];
+            sortedPayloads[i] = input[order[i]];
+        }
+        return new VersionIndex<>(sortedHighs, sortedLows, (List<T>) Collections.unmodifiableList(Arrays.asList(sortedPayloads)));
+    }
+
+
+    public int size() { return highs.length; }
+
+    public boolean isEmpty() { return 0 == highs.length; }
+
+    /**
+     * Returns an unmodifiable list of all payloads sorted by their versions
+     * @return an unmodifiable list of all payloads sorted by their versions
+     */
+    public List<T> getPayloads() { return payloads; }
+
+    public T getPayload(final int index) { return payloads.get(index); }
+
+    public PackedVersion getVersion(final int index) {
+        Objects.checkIndex(index, highs.length);
+        return new PackedVersion(highs[index], lows[index]);
+    }
+
+    /**
+     * Returns the index of the last entry with a version that is smaller or equal to the given version number
+     * @param versionNumber Version number to search for
+     * @return the index of the last entry with a version that is smaller or equal to the given version number or -1 if there is none
+     */
+    public int floorIndex(final VersionNumber versionNumber) { return upperBound(PackedVersion.high(versionNumber), PackedVersion.low(versionNumber)) - 1; }
+
+    /**
+     * Returns the index of the first entry with a version that is larger or equal to the given version number
+     * @param versionNumber Version number to search for
+     * @return the index of the first entry with a version that is larger or equal to the given version number or -1 if there is none
+     */
+    public int ceilingIndex(final VersionNumber versionNumber) {
+        final int index = lowerBound(PackedVersion.high(versionNumber), PackedVersion.low(versionNumber));
+        return index == highs.length ? -1 : index;
+    }
+
+    public Optional<T> floor(final VersionNumber versionNumber) { return payloadAt(floorIndex(versionNumber)); }
+
+    public Optional<T> ceiling(final VersionNumber versionNumber) { return payloadAt(ceilingIndex(versionNumber)); }
+
+    /**
+     * Returns the payloads with versions between the given version numbers as a view of the index
+     * @param from          Lower bound or null for no lower bound
+     * @param fromInclusive True if entries with the version of the lower bound should be part of the result
+     * @param to            Upper bound or null for no upper bound
+     * @param toInclusive   True if entries with the version of the upper bound should be part of the result
+     * @return the payloads with versions between the given version numbers in ascending order
+     */
+    public List<T> range(final VersionNumber from, final boolean fromInclusive, final VersionNumber to, final boolean toInclusive) {
+        return range(null == from ? null : PackedVersion.fromVersionNumber(from), fromInclusive, null == to ? null : PackedVersion.fromVersionNumber(to), toInclusive);
+    }
+
+    /**
+     * Returns the payloads with versions in the given semver range as a view of the index
+     * @param range Range of semvers
+     * @return the payloads with versions in the given semver range in ascending order
+     */
+    public List<T> range(final SemverRange range) {
+        return range(range.hasLowerBound() ? PackedVersion.fromSemver(range.getLower()) : null, range.isLowerInclusive(),
+                     range.hasUpperBound() ? PackedVersion.fromSemver(range.getUpper()) : null, range.isUpperInclusive());
+    }
+
+    public Optional<T> latest() { return payloadAt(highs.length - 1); }
+
+    /**
+     * Returns the payload with the latest version of the given feature version e.g. the latest 17.x.x
+     * @param feature Feature version
+     * @return the payload with the latest version of the given feature version
+     */
+    public Optional<T> latest(final int feature) {
+        final int index = lastIndexOfFeature(feature, null);
+        return payloadAt(index);
+    }
+
+    /**
+     * Returns the payload with the latest version that has the given release status where GA stands for all versions that are not EA
+     * @param releaseStatus Either ReleaseStatus.GA or ReleaseStatus.EA
+     * @return the payload with the latest version that has the given release status
+     */
+    public Optional<T> latest(final ReleaseStatus releaseStatus) {
+        final int[] indices = indicesOf(releaseStatus);
+        return 0 == indices.length ? Optional.empty() : payloadAt(indices[indices.length - 1]);
+    }
+
+    /**
+     * Returns the payload with the latest version of the given feature version that has the given release status
+     * @param feature       Feature version
+     * @param releaseStatus Either ReleaseStatus.GA or ReleaseStatus.EA
+     * @return the payload with the latest version of the given feature version that has the given release status
+     */
+    public Optional<T> latest(final int feature, final ReleaseStatus releaseStatus) {
+        return payloadAt(lastIndexOfFeature(feature, indicesOf(releaseStatus)));
+    }
+
+    /**
+     * Returns the payload with the latest version for each feature version in descending order of the feature versions
+     * @return a map with the feature version as key and the payload with the latest version of that feature version as value
+     */
+    public Map<Integer, T> latestPerFeature() {
+        final Map<Integer, T> latestPerFeature = new LinkedHashMap<>();
+        int index = highs.length - 1;
+        while (index >= 0) {
+            final int featureKey = (int) (highs[index] >>> 48);
+            latestPerFeature.put(featureKey - 1, payloads.get(index));
+            // Continue with the last entry of the previous feature version
+            index = lowerBound((long) featureKey << 48, 0L) - 1;
+        }
+        return latestPerFeature;
+    }
+
+
+    private List<T> range(final PackedVersion from, final boolean fromInclusive, final PackedVersion to, final boolean toInclusive) {
+        final int fromIndex = null == from ? 0            : (fromInclusive ? lowerBound(from.getHigh(), from.getLow()) : upperBound(from.getHigh(), from.getLow()));
+        final int toIndex   = null == to   ? highs.length : (toInclusive   ? upperBound(to.getHigh(), to.getLow())     : lowerBound(to.getHigh(), to.getLow()));
+        return fromIndex >= toIndex ? Collections.emptyList() : payloads.subList(fromIndex, toIndex);
+    }
+
+    private int lastIndexOfFeature(final int feature, final int[] indices) {
+        if (feature < 0 || feature > PackedVersion.MAX_SEGMENT) { return -1; }
+        final long featureKey = (long) (feature + 1) << 48;
+        final int  index      = upperBound(indices, featureKey | 0xFFFFFFFFFFFFL, -1L) - 1;
+        if (index < 0) { return -1; }
+        final int i = null == indices ? index : indices[index];
+        return (highs[i] >>> 48) == feature + 1 ? i : -1;
+    }
+
+    private int[] indicesOf(final ReleaseStatus releaseStatus) {
+        switch (releaseStatus) {
+            case GA : return gaIndices;
+            case EA : return eaIndices;
+            default : throw new IllegalArgumentException("Release status has to be GA or EA");
+        }
+    }
+
+    private Optional<T> payloadAt(final int index) { return index < 0 ? Optional.empty() : Optional.ofNullable(payloads.get(index)); }
+
+    // Index of the first entry that is larger or equal to the given key
+    private int lowerBound(final long high, final long low) {
+        int from = 0;
+        int to   = highs.length;
+        while (from < to) {
+            final int mid = (from + to) >>> 1;
+            if (PackedVersion.compare(highs[mid], lows[mid], high, low) < 0) { from = mid + 1; } else { to = mid; }
+        }
+        return from;
+    }
+
+    // Index of the first entry that is larger than the given key
+    private int upperBound(final long high, final long low) { return upperBound(null, high, low); }
+
+    // Position in the given indices (or in all entries if indices is null) of the first entry that is larger than the given key
+    private int upperBound(final int[] indices, final long high, final long low) {
+        int from = 0;
+        int to   = null == indices ? highs.length : indices.length;
+        while (from < to) {
+            final int mid = (from + to) >>> 1;
+            final int i   = null == indices ? mid : indices[mid];
+            if (PackedVersion.compare(highs[i], lows[i], high, low) <= 0) { from = mid + 1; } else { to = mid; }
+        }
+        return from;
+    }
+
+    private static boolean isEarlyAccess(final long low) { return 0 == ((low >>> 31) & 1); }
+}
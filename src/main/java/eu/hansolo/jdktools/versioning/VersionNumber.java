@@ -19,19 +19,23 @@
 package eu.hansolo.jdktools.versioning;
 
 import eu.hansolo.jdktools.ReleaseStatus;
-import eu.hansolo.jdktools.util.Helper;
 import eu.hansolo.jdktools.util.OutputFormat;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
-import java.util.regex.MatchResult;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 public class VersionNumber implements Comparable<VersionNumber> {
@@ -48,6 +52,7 @@ public class VersionNumber implements Comparable<VersionNumber> {
     private             OptionalInt             sixth;
     private             OptionalInt             build;
     private             Optional<ReleaseStatus> releaseStatus;
+    private             OrderingKey             orderingKey;
 
 
     public VersionNumber() {
@@ -124,36 +129,42 @@ public class VersionNumber implements Comparable<VersionNumber> {
         if (null == feature) { throw new IllegalArgumentException("Feature version cannot be null"); }
         if (0 >= feature) { throw new IllegalArgumentException("Feature version cannot be smaller than 0 (" + feature + ")"); }
         this.feature = OptionalInt.of(feature);
+        this.orderingKey = null;
     }
 
     public OptionalInt getInterim() { return interim; }
     public void setInterim(final Integer interim) throws IllegalArgumentException {
         if (null != interim && 0 > interim) { throw new IllegalArgumentException("Interim version cannot be smaller than 0"); }
         this.interim = null == interim ? OptionalInt.empty() : OptionalInt.of(interim);
+        this.orderingKey = null;
     }
 
     public OptionalInt getUpdate() { return update; }
     public void setUpdate(final Integer update) throws IllegalArgumentException {
         if (null != update &&  0 > update) { throw new IllegalArgumentException("Update version cannot be smaller than 0"); }
         this.update = null == update ? OptionalInt.empty() : OptionalInt.of(update);
+        this.orderingKey = null;
     }
 
     public OptionalInt getPatch() { return patch; }
     public void setPatch(final Integer patch) throws IllegalArgumentException {
         if (null != patch && 0 > patch) { throw new IllegalArgumentException("Patch version cannot be smaller than 0"); }
         this.patch = null == patch ? OptionalInt.empty() : OptionalInt.of(patch);
+        this.orderingKey = null;
     }
 
     public OptionalInt getFifth() { return fifth; }
     public void setFifth(final Integer fifth) throws IllegalArgumentException {
         if (null != fifth && 0 > fifth) { throw new IllegalArgumentException("Fifth number cannot be smaller than 0"); }
         this.fifth = null == fifth ? OptionalInt.empty() : OptionalInt.of(fifth);
+        this.orderingKey = null;
     }
 
     public OptionalInt getSixth() { return sixth; }
     public void setSixth(final Integer sixth) throws IllegalArgumentException {
         if (null != sixth && 0 > sixth) { throw new IllegalArgumentException("Sixth number cannot be smaller than 0"); }
         this.sixth = null == sixth ? OptionalInt.empty() : OptionalInt.of(sixth);
+        this.orderingKey = null;
     }
 
     public OptionalInt getBuild() { return build; }
@@ -163,16 +174,24 @@ public class VersionNumber implements Comparable<VersionNumber> {
         } else {
             this.build = null == build ? OptionalInt.empty() : OptionalInt.of(build);
         }
+        this.orderingKey = null;
     }
 
     public Optional<ReleaseStatus> getReleaseStatus() { return releaseStatus; }
     public void setReleaseStatus(final ReleaseStatus releaseStatus) {
         if (null == releaseStatus) { throw new IllegalArgumentException("Release status cannot be null"); }
         this.releaseStatus = Optional.of(releaseStatus);
+        this.orderingKey = null;
     }
 
     public SimpleMajorVersion getMajorVersion() { return new SimpleMajorVersion(feature.isPresent() ? feature.getAsInt() : 0); }
 
+    /**
+     * Returns an immutable copy of this version number that can be shared between threads
+     * @return an immutable copy of this version number
+     */
+    public ImmutableVersionNumber toImmutable() { return ImmutableVersionNumber.fromVersionNumber(this); }
+
     public String getNormalizedVersionNumber() {
         StringBuilder versionBuilder = new StringBuilder();
         if (feature.isPresent()) {
@@ -192,7 +211,7 @@ public class VersionNumber implements Comparable<VersionNumber> {
         return fromText(text, 0);
     }
     /**
-     * Returns a version number parsed from the given text. If the matcher finds more than 1 result, the
+     * Returns a version number parsed from the given text. If the scanner finds more than 1 result, the
      * resultToMatch variable will be taken into account. For example if the given text matches 2 times,
      * the resultToMatch variable defines which result should be taken to parse the version number.
      * @param text           Text to parse
@@ -204,174 +223,135 @@ public class VersionNumber implements Comparable<VersionNumber> {
         if (null == text || text.isEmpty()) {
             throw new IllegalArgumentException("No version number can be parsed because given text is null or empty.");
         }
+        return fromText(text, 0, text.length(), resultToMatch);
+    }
+    /**
+     * Returns a version number parsed from the given region of the text without creating a substring
+     * @param text  Text that contains the region to parse (e.g. a StringBuilder, CharBuffer or String)
+     * @param start Start index of the region (inclusive)
+     * @param end   End index of the region (exclusive)
+     * @return Returns a version number parsed from the given region of the text
+     * @throws IllegalArgumentException Throws IllegalArgumentException in case the given region was null or empty
+     */
+    public static VersionNumber fromText(final CharSequence text, final int start, final int end) throws IllegalArgumentException {
+        return fromText(text, start, end, 0);
+    }
+    /**
+     * Returns a version number parsed from the given region of the text without creating a substring.
+     * If the scanner finds more than 1 result, the resultToMatch variable defines which result should
+     * be taken to parse the version number.
+     * @param text           Text that contains the region to parse (e.g. a StringBuilder, CharBuffer or String)
+     * @param start          Start index of the region (inclusive)
+     * @param end            End index of the region (exclusive)
+     * @param resultToMatch  The result that should be taken for parsing if there are more than 1
+     * @return Returns a version number parsed from the given region of the text
+     * @throws IllegalArgumentException Throws IllegalArgumentException in case the given region was null or empty
+     */
+    public static VersionNumber fromText(final CharSequence text, final int start, final int end, final int resultToMatch) throws IllegalArgumentException {
+        if (null == text || start >= end) {
+            throw new IllegalArgumentException("No version number can be parsed because given text is null or empty.");
+        }
+        Objects.checkFromToIndex(start, end, text.length());
 
         // Remove leading "1." to get correct version number e.g. 1.8u262 -> 8u262
-        String version = text.startsWith("1.") ? text.replace("1.", "") : text;
-
-        final Matcher           versionNoMatcher = VERSION_NO_PATTERN.matcher(version);
-        final List<MatchResult> results          = versionNoMatcher.results().toList();
-        final int               noOfResults      = results.size();
-        final int               resultToTake     = noOfResults > resultToMatch ? resultToMatch : 0;
-        List<VersionNumber>     numbersFound     = new ArrayList<>();
-        if (noOfResults > 0) {
-            MatchResult result = results.get(resultToTake);
-            VersionNumber versionNumber = new VersionNumber(Integer.valueOf(result.group(1)));
-            if (null != result.group(1) && null != result.group(2) && null != result.group(5) && null != result.group(6) && null != result.group(7) && null != result.group(9) && null != result.group(10) && null != result.group(11) && null != result.group(12) && null != result.group(13) && null != result.group(14) && null != result.group(15)) {
-                //System.out.println("match: 1, 2, 5, 6, 7, 9, 10, 11, 12, 13, 14, 15");
-                versionNumber.setInterim(getPositiveIntFromText(result.group(6)));
-                versionNumber.setUpdate(getPositiveIntFromText(result.group(7)));
-                versionNumber.setPatch(getPositiveIntFromText(result.group(9)));
-            } else if (null != result.group(1) && null != result.group(2) && null != result.group(5) && null != result.group(6) && null != result.group(7) && null != result.group(10) && null != result.group(11) && null != result.group(12) && null != result.group(13) && null != result.group(14) && null != result.group(15) && null != result.group(16)) {
-                //System.out.println("match: 1, 2, 5, 6, 7, 10, 11, 12, 13, 14, 15, 16");
-                versionNumber.setInterim(getPositiveIntFromText(result.group(6)));
-                versionNumber.setUpdate(getPositiveIntFromText(result.group(7)));
-                versionNumber.setPatch(getPositiveIntFromText(result.group(10)));
-            } else if (null != result.group(1) && null != result.group(2) && null != result.group(5) && null != result.group(6) && null != result.group(7) && null != result.group(8) && null != result.group(9) && null != result.group(10) && null != result.group(14) && null != result.group(15) && null != result.group(16)) {
-                //System.out.println("match: 1, 2, 5, 6, 7, 8, 9, 10, 14, 15, 16");
-                versionNumber.setInterim(getPositiveIntFromText(result.group(6)));
-                versionNumber.setUpdate(getPositiveIntFromText(result.group(7)));
-                versionNumber.setPatch(getPositiveIntFromText(result.group(8)));
-                versionNumber.setFifth(getPositiveIntFromText(result.group(9)));
-                versionNumber.setSixth(getPositiveIntFromText(result.group(10)));
-            } else if (null != result.group(1) && null != result.group(2) && null != result.group(5) && null != result.group(6) && null != result.group(7) && null != result.group(8) && null != result.group(10) && null != result.group(14) && null != result.group(15) && null != result.group(16)) {
-                //System.out.println("match: 1, 2, 5, 6, 7, 8, 10, 14, 15, 16");
-                versionNumber.setInterim(getPositiveIntFromText(result.group(6)));
-                versionNumber.setUpdate(getPositiveIntFromText(result.group(7)));
-                versionNumber.setPatch(getPositiveIntFromText(result.group(8)));
-                versionNumber.setFifth(getPositiveIntFromText(result.group(10)));
-            } else if (null != result.group(1) && null != result.group(2) && null != result.group(5) && null != result.group(10) && null != result.group(11) && null != result.group(12) && null != result.group(13) && null != result.group(14) && null != result.group(15) && null != result.group(16)) {
-                //System.out.println("match: 1, 2, 5, 10, 11, 12, 13, 14, 15, 16");
-                versionNumber.setInterim(getPositiveIntFromText(result.group(10)));
-                versionNumber.setUpdate(getPositiveIntFromText(result.group(13)));
-            } else if (null != result.group(1) && null != result.group(2) && null != result.group(5) && null != result.group(6) && null != result.group(7) && null != result.group(10) && null != result.group(14) && null != result.group(15) && null != result.group(16)) {
-                //System.out.println("match: 1, 2, 5, 6, 7, 10, 14, 15, 16");
-                versionNumber.setInterim(getPositiveIntFromText(result.group(6)));
-                versionNumber.setUpdate(getPositiveIntFromText(result.group(7)));
-                versionNumber.setPatch(getPositiveIntFromText(result.group(10)));
-            } else if (null != result.group(1) && null != result.group(2) && null != result.group(5) && null != result.group(6) && null != result.group(10) && null != result.group(14) && null != result.group(15) && null != result.group(16)) {
-                //System.out.println("match: 1, 2, 5, 6, 10, 14, 15, 16");
-                versionNumber.setInterim(getPositiveIntFromText(result.group(6)));
-                versionNumber.setUpdate(getPositiveIntFromText(result.group(10)));
-            } else if (null != result.group(1) && null != result.group(2) && null != result.group(5) && null != result.group(6) && null != result.group(7) && null != result.group(8) && null != result.group(9) && null != result.group(10)) {
-                //System.out.println("match: 1, 2, 5, 6, 7, 8, 9, 10");
-                versionNumber.setInterim(getPositiveIntFromText(result.group(6)));
-                versionNumber.setUpdate(getPositiveIntFromText(result.group(7)));
-                versionNumber.setPatch(getPositiveIntFromText(result.group(8)));
-                versionNumber.setFifth(getPositiveIntFromText(result.group(9)));
-                versionNumber.setSixth(getPositiveIntFromText(result.group(10)));
-            } else if (null != result.group(1) && null != result.group(2) && null != result.group(5) && null != result.group(6) && null != result.group(7) && null != result.group(8) && null != result.group(10)) {
-                //System.out.println("match: 1, 2, 5, 6, 7, 8, 10");
-                versionNumber.setInterim(getPositiveIntFromText(result.group(6)));
-                versionNumber.setUpdate(getPositiveIntFromText(result.group(7)));
-                versionNumber.setPatch(getPositiveIntFromText(result.group(8)));
-                versionNumber.setFifth(getPositiveIntFromText(result.group(10)));
-            } else if (null != result.group(1) && null != result.group(2) && null != result.group(3) && null != result.group(4) && null != result.group(14) && null != result.group(15) && null != result.group(16)) {
-                //System.out.println("match: 1, 2, 3, 4, 14, 15, 16");
-                versionNumber.setInterim(0);
-                versionNumber.setUpdate(getPositiveIntFromText(result.group(4)));
-            } else if (null != result.group(1) && null != result.group(2) && null != result.group(3) && null != result.group(4) && null != result.group(11) && null != result.group(12) && null != result.group(13)) {
-                //System.out.println("match: 1, 2, 3, 4, 11, 12, 13");
-                versionNumber.setInterim(0);
-                versionNumber.setUpdate(getPositiveIntFromText(result.group(4)));
-            } /*else if (null != result.group(1) && null != result.group(2) && null != result.group(5) && null != result.group(6) && null != result.group(10) && null != result.group(14) && null != result.group(15) && null != result.group(16)) {
-                //System.out.println("match: 1, 2, 5, 6, 10, 14, 15, 16");
-                versionNumber.setInterim(getPositiveIntFromText(result.group(6), version));
-                versionNumber.setUpdate(getPositiveIntFromText(result.group(10), version));
-            } */else if (null != result.group(1) && null != result.group(2) && null != result.group(5) && null != result.group(10) && null != result.group(11) && null != result.group(12) && null != result.group(13)) {
-                //System.out.println("match: 1, 2, 5, 10, 11, 12, 13");
-                versionNumber.setInterim(0);
-                versionNumber.setUpdate(getPositiveIntFromText(result.group(13)));
-            } else if (null != result.group(1) && null != result.group(2) && null != result.group(5) && null != result.group(6) && null != result.group(7) && null != result.group(10)) {
-                //System.out.println("match: 1, 2, 5, 6, 7, 10");
-                versionNumber.setInterim(getPositiveIntFromText(result.group(6)));
-                versionNumber.setUpdate(getPositiveIntFromText(result.group(7)));
-                versionNumber.setPatch(getPositiveIntFromText(result.group(10)));
-            } else if (null != result.group(1) && null != result.group(2) && null != result.group(5) && null != result.group(6) && null != result.group(10)) {
-                //System.out.println("match: 1, 2, 5, 6, 10");
-                versionNumber.setInterim(getPositiveIntFromText(result.group(6)));
-                versionNumber.setUpdate(getPositiveIntFromText(result.group(10)));
-            } else if (null != result.group(1) && null != result.group(2) && null != result.group(3) && null != result.group(4)) {
-                //System.out.println("match: 1, 2, 3, 4");
-                versionNumber.setInterim(0);
-                versionNumber.setUpdate(getPositiveIntFromText(result.group(4)));
-            } else if (null != result.group(1) && null != result.group(2) && null != result.group(5) && null != result.group(10)) {
-                //System.out.println("match: 1, 2, 5, 9");
-                versionNumber.setInterim(getPositiveIntFromText(result.group(10)));
-            } else if (null != result.group(1) && null != result.group(14) && null != result.group(15) && null != result.group(16)) {
-                //System.out.println("match: 1, 14, 15, 16");
-                versionNumber.setInterim(0);
-                if (result.group(15).equals("+")) {
-                    if (result.group(16).startsWith("b")) {
-                        String buildNumber = result.group(16).replaceAll("[^\\d.]", "");
-                        versionNumber.setBuild(Integer.parseInt(buildNumber));
-                    } else {
-                        String buildNumber = result.group(16).replaceAll("[^\\d.]", "");
-                        versionNumber.setBuild(Integer.parseInt(buildNumber));
-                    }
-                    versionNumber.setReleaseStatus(ReleaseStatus.GA);
-                }
-            }
-
-            // Extract early access preBuild
-            if (null != result.group(16)) {
-                final Matcher           eaMatcher = EA_PATTERN.matcher(result.group(16));
-                final List<MatchResult> eaResults = eaMatcher.results().toList();
-                if (!eaResults.isEmpty()) {
-                    final MatchResult eaResult = eaResults.get(0);
-                    if (null != eaResult.group(1)) {
-                        versionNumber.setReleaseStatus(ReleaseStatus.EA);
-                        if (null == eaResult.group(4)) {
-                            if (null != result.group(17)) {
-                                final Matcher           eaBuildNumberMatcher = EA_BUILD_NUMBER_PATTERN.matcher(result.group(17));
-                                final List<MatchResult> eaBuildNumberResults = eaBuildNumberMatcher.results().toList();
-                                if (!eaBuildNumberResults.isEmpty()) {
-                                    final MatchResult eaBuildNumberResult = eaBuildNumberResults.get(0);
-                                    versionNumber.setBuild(Integer.parseInt(eaBuildNumberResult.group(2)));
-                                }
-                            }
-                        } else {
-                            versionNumber.setBuild(Integer.parseInt(eaResult.group(4)));
-                        }
-                    }
-                }
-            } else {
-                versionNumber.setReleaseStatus(ReleaseStatus.GA);
-            }
+        final CharSequence version;
+        final int          versionStart;
+        final int          versionEnd;
+        if (VersionNumberScanner.hasLegacyPrefix(text, start, end)) {
+            version      = VersionNumberScanner.removeLegacyPrefix(text, start, end);
+            versionStart = 0;
+            versionEnd   = version.length();
+        } else {
+            version      = text;
+            versionStart = start;
+            versionEnd   = end;
+        }
 
-            // Extract build number
-            final Matcher           buildNumberMatcher = BUILD_NUMBER_PATTERN.matcher(version);
-            final List<MatchResult> buildNumberResults = buildNumberMatcher.results().toList();
-            if (!buildNumberResults.isEmpty()) {
-                final MatchResult buildNumberResult = buildNumberResults.get(0);
-                if (null != buildNumberResult.group(2)) {
-                    versionNumber.setBuild(Integer.parseInt(buildNumberResult.group(2)));
-                }
-            }
+        int[] groups   = new int[VersionNumberScanner.GROUPS_SIZE];
+        int   matchEnd = VersionNumberScanner.find(version, versionStart, versionEnd, groups);
+        if (matchEnd < 0) {
+            throw new IllegalArgumentException("No suitable version number found in String: " + text.subSequence(start, end));
+        }
 
-            if (versionNumber.getInterim().isEmpty()) {
-                versionNumber.setInterim(0);
-            }
-            if (versionNumber.getUpdate().isEmpty()) {
-                versionNumber.setUpdate(0);
-            }
-            if (versionNumber.getPatch().isEmpty()) {
-                versionNumber.setPatch(0);
+        // Take the requested result if there are enough results, otherwise take the first one
+        if (resultToMatch > 0) {
+            final int[] resultGroups = new int[VersionNumberScanner.GROUPS_SIZE];
+            int         noOfResults  = 1;
+            while (noOfResults <= resultToMatch && matchEnd >= 0) {
+                matchEnd = VersionNumberScanner.find(version, matchEnd, versionEnd, resultGroups);
+                if (matchEnd >= 0) { noOfResults++; }
             }
-            if (versionNumber.getFifth().isEmpty()) {
-                versionNumber.setFifth(0);
-            }
-            if (versionNumber.getSixth().isEmpty()) {
-                versionNumber.setSixth(0);
-            }
-
-            numbersFound.add(versionNumber);
+            if (noOfResults > resultToMatch) { groups = resultGroups; }
         }
 
-        if (numbersFound.isEmpty()) {
-            throw new IllegalArgumentException("No suitable version number found in String: " + text);
-        } else {
-            return numbersFound.stream().max(Comparator.comparingInt(VersionNumber::numbersAvailable)).get();
-        }
+        return VersionNumberScanner.toVersionNumber(version, versionStart, versionEnd, groups);
+    }
+    /**
+     * Returns a version number parsed from the given region of ASCII encoded bytes without creating a String
+     * @param bytes  Bytes that contain the ASCII encoded text
+     * @param offset Index of the first byte of the region
+     * @param length Number of bytes in the region
+     * @return Returns a version number parsed from the given region of the bytes
+     * @throws IllegalArgumentException Throws IllegalArgumentException in case the given region was null or empty
+     */
+    public static VersionNumber fromAscii(final byte[] bytes, final int offset, final int length) throws IllegalArgumentException {
+        if (null == bytes) { throw new IllegalArgumentException("No version number can be parsed because given text is null or empty."); }
+        return fromText(new AsciiCharSequence(bytes, offset, length), 0, length, 0);
+    }
+    /**
+     * Returns a version number parsed from the remaining ASCII encoded bytes of the given buffer (position to limit).
+     * The position and limit of the buffer will not be changed, which makes it possible to parse directly from
+     * NIO read buffers and memory mapped files.
+     * @param buffer Buffer that contains the ASCII encoded text
+     * @return Returns a version number parsed from the remaining bytes of the buffer
+     * @throws IllegalArgumentException Throws IllegalArgumentException in case the given buffer was null or empty
+     */
+    public static VersionNumber fromAscii(final ByteBuffer buffer) throws IllegalArgumentException {
+        if (null == buffer) { throw new IllegalArgumentException("No version number can be parsed because given text is null or empty."); }
+        final AsciiCharSequence text = new AsciiCharSequence(buffer);
+        return fromText(text, 0, text.length(), 0);
+    }
+    /**
+     * Returns a lazy stream of all version numbers that can be found in the given text in the order
+     * they appear. The text is scanned while the stream is consumed, as a parallel stream the text
+     * will be split at whitespace characters.
+     * @param text Text to scan for version numbers
+     * @return a lazy stream of all version numbers found in the given text
+     * @throws IllegalArgumentException Throws IllegalArgumentException in case the given text was null
+     */
+    public static Stream<VersionNumber> findAll(final CharSequence text) throws IllegalArgumentException {
+        if (null == text) { throw new IllegalArgumentException("No version number can be parsed because given text is null or empty."); }
+        return StreamSupport.stream(new VersionNumberSpliterator(text, 0, text.length()), false);
+    }
+    /**
+     * Returns a parallel stream of all version numbers that can be found in the given ASCII (or UTF-8)
+     * encoded file in the order they appear. The file is memory mapped in chunks that end at line
+     * boundaries and the chunks are scanned in parallel.
+     * @param path Path to the file to scan for version numbers
+     * @return a parallel stream of all version numbers found in the given file
+     * @throws IOException if the file could not be mapped
+     */
+    public static Stream<VersionNumber> findAll(final Path path) throws IOException {
+        return VersionNumberSpliterator.mapLines(path).parallelStream().flatMap(chunk -> findAll(new AsciiCharSequence(chunk)));
+    }
+    /**
+     * Parses all given texts in parallel on the common ForkJoinPool. Texts that cannot be parsed
+     * do not stop the batch, their index and error message are collected in the returned ParseResults.
+     * @param texts Texts to parse
+     * @return the version numbers aligned with the given texts and a report of all texts that could not be parsed
+     */
+    public static ParseResults<VersionNumber> parseAll(final Collection<? extends CharSequence> texts) {
+        return parseAll(texts, ForkJoinPool.commonPool());
+    }
+    /**
+     * Parses all given texts in parallel on the given executor. Texts that cannot be parsed
+     * do not stop the batch, their index and error message are collected in the returned ParseResults.
+     * @param texts    Texts to parse
+     * @param executor Executor that will be used to parse chunks of the texts
+     * @return the version numbers aligned with the given texts and a report of all texts that could not be parsed
+     */
+    public static ParseResults<VersionNumber> parseAll(final Collection<? extends CharSequence> texts, final Executor executor) {
+        return ParseResults.parseAll(texts, executor, text -> fromText(text, 0, null == text ? 0 : text.length(), 0));
     }
 
     /**
@@ -388,15 +368,6 @@ public class VersionNumber implements Comparable<VersionNumber> {
         return 1 + (interim.isPresent() ? 1 : 0) + (update.isPresent() ? 1 : 0) + (patch.isPresent() ? 1 : 0) + (fifth.isPresent() ? 1 : 0) + (sixth.isPresent() ? 1 : 0);
     }
 
-    private static Integer getPositiveIntFromText(final String text) {
-        if (Helper.isPositiveInteger(text)) {
-            return Integer.valueOf(text);
-        } else {
-            //LOGGER.info("Given text {} did not contain positive integer. Full text to parse was: {}", text, fullTextToParse);
-            return -1;
-        }
-    }
-
     private static Integer getLeadingIntFromText(final String text) {
         if (null == text || text.isEmpty()) { return -1; }
         Matcher matcher = LEADING_INT_PATTERN.matcher(text);
@@ -416,22 +387,68 @@ public class VersionNumber implements Comparable<VersionNumber> {
      * @return 0 if given version number is equal to this. But also returns 0 if only feature number is equal to given feature number
      */
     public int compareForFilterTo(final VersionNumber otherVersionNumber) {
-        int comparisonResult = 0;
-        if (feature.isEmpty() || otherVersionNumber.getFeature().isEmpty()) { return comparisonResult; }
-        String[] version1Splits = toString().split("\\.");
-        String[] version2Splits = otherVersionNumber.toString().split("\\.");
-        int maxLengthOfVersionSplits = Math.min(version1Splits.length, version2Splits.length);
-
-        for (int i = 0; i < maxLengthOfVersionSplits; i++) {
-            Integer v1      = i < version1Splits.length ? Integer.parseInt(version1Splits[i]) : 0;
-            Integer v2      = i < version2Splits.length ? Integer.parseInt(version2Splits[i]) : 0;
-            int     compare = v1.compareTo(v2);
-            if (compare != 0) {
-                comparisonResult = compare;
-                break;
-            }
+        if (feature.isEmpty() || otherVersionNumber.getFeature().isEmpty()) { return 0; }
+        // Compares the present numbers of feature, interim, update and patch pairwise as long as both have numbers left
+        int i = 0;
+        int j = 0;
+        while (i < 4 && j < 4) {
+            final OptionalInt segment = getFilterSegment(i);
+            if (segment.isEmpty()) { i++; continue; }
+            final OptionalInt otherSegment = otherVersionNumber.getFilterSegment(j);
+            if (otherSegment.isEmpty()) { j++; continue; }
+            final int compare = Integer.compare(segment.getAsInt(), otherSegment.getAsInt());
+            if (compare != 0) { return compare; }
+            i++;
+            j++;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns all version numbers of the given array for which compareForFilterTo(reference) returns 0 in
+     * the order of the array. The present numbers of the reference are extracted once, so filtering does not
+     * create any objects per element.
+     * @param versionNumbers Version numbers to filter
+     * @param reference      Version number to compare to e.g. 17 to get all 17.x.x version numbers
+     * @return all version numbers of the given array that are equal to the reference in the numbers that are present in both
+     */
+    public static VersionNumber[] filterMatching(final VersionNumber[] versionNumbers, final VersionNumber reference) {
+        if (reference.getFeature().isEmpty()) { return versionNumbers.clone(); }
+        final int[] referenceNumbers = new int[4];
+        int         noOfNumbers      = 0;
+        for (int i = 0 ; i < 4 ; i++) {
+            final OptionalInt segment = reference.getFilterSegment(i);
+            if (segment.isPresent()) { referenceNumbers[noOfNumbers++] = segment.getAsInt(); }
+        }
+
+        final VersionNumber[] matches     = new VersionNumber[versionNumbers.length];
+        int                   noOfMatches = 0;
+        for (VersionNumber versionNumber : versionNumbers) {
+            if (versionNumber.matchesForFilter(referenceNumbers, noOfNumbers)) { matches[noOfMatches++] = versionNumber; }
+        }
+        return Arrays.copyOf(matches, noOfMatches);
+    }
+
+    private boolean matchesForFilter(final int[] numbers, final int noOfNumbers) {
+        if (feature.isEmpty()) { return true; }
+        int j = 0;
+        for (int i = 0 ; i < 4 && j < noOfNumbers ; i++) {
+            final OptionalInt segment = getFilterSegment(i);
+            if (segment.isEmpty()) { continue; }
+            if (segment.getAsInt() != numbers[j]) { return false; }
+            j++;
+        }
+        return true;
+    }
+
+    // Numbers that are part of toString() and therefore taken into account by compareForFilterTo()
+    private OptionalInt getFilterSegment(final int index) {
+        switch (index) {
+            case 0 : return feature;
+            case 1 : return interim;
+            case 2 : return update;
+            default: return patch;
         }
-        return comparisonResult;
     }
 
     @Override public int hashCode() {
@@ -522,69 +539,115 @@ public class VersionNumber implements Comparable<VersionNumber> {
     }
 
     public String toString(final OutputFormat outputFormat, final boolean javaFormat, final boolean includeReleaseStatusAndBuild) {
-        String pre   = this.releaseStatus.isPresent() ? (ReleaseStatus.EA == this.releaseStatus.get() ? "-ea" : "") : "";
-        String build = (this.build.isPresent() && this.build.getAsInt() > 0) ? ("+" + this.build.getAsInt()) : "";
+        return appendTo(new StringBuilder(24), outputFormat, javaFormat, includeReleaseStatusAndBuild).toString();
+    }
 
-        StringBuilder versionBuilder = new StringBuilder();
-        switch(outputFormat) {
-            case REDUCED:
-            case REDUCED_COMPRESSED:
-                if (feature.isPresent()) { versionBuilder.append(feature.getAsInt()); }
-                if (sixth.isPresent() && sixth.getAsInt() != 0) {
-                    if (interim.isPresent()) { versionBuilder.append(".").append(interim.getAsInt()); }
-                    if (update.isPresent()) { versionBuilder.append(".").append(update.getAsInt()); }
-                    if (patch.isPresent()) { versionBuilder.append(".").append(patch.getAsInt()); }
-                    if (!javaFormat) {
-                        if (fifth.isPresent()) { versionBuilder.append(".").append(fifth.getAsInt()); }
-                        versionBuilder.append(".").append(sixth.getAsInt());
-                    }
-                    if (includeReleaseStatusAndBuild) { versionBuilder.append(pre).append(build); }
-                    return versionBuilder.toString();
-                } else if (fifth.isPresent() && fifth.getAsInt() != 0) {
-                    if (interim.isPresent()) { versionBuilder.append(".").append(interim.getAsInt()); }
-                    if (update.isPresent()) { versionBuilder.append(".").append(update.getAsInt()); }
-                    if (patch.isPresent()) { versionBuilder.append(".").append(patch.getAsInt()); }
-                    if (!javaFormat) { versionBuilder.append(".").append(fifth.getAsInt()); }
-                    if (includeReleaseStatusAndBuild) { versionBuilder.append(pre).append(build); }
-                    return versionBuilder.toString();
-                } else if (patch.isPresent() && patch.getAsInt() != 0) {
-                    if (interim.isPresent()) { versionBuilder.append(".").append(interim.getAsInt()); }
-                    if (update.isPresent()) { versionBuilder.append(".").append(update.getAsInt()); }
-                    versionBuilder.append(".").append(patch.getAsInt());
-                    if (includeReleaseStatusAndBuild) { versionBuilder.append(pre).append(build); }
-                    return versionBuilder.toString();
-                } else if (update.isPresent() && update.getAsInt() != 0) {
-                    if (interim.isPresent()) { versionBuilder.append(".").append(interim.getAsInt()); }
-                    versionBuilder.append(".").append(update.getAsInt());
-                    if (includeReleaseStatusAndBuild) { versionBuilder.append(pre).append(build); }
-                    return versionBuilder.toString();
-                } else if (interim.isPresent() && interim.getAsInt() != 0) {
-                    versionBuilder.append(".").append(interim.getAsInt());
-                    if (includeReleaseStatusAndBuild) { versionBuilder.append(pre).append(build); }
-                    return versionBuilder.toString();
-                } else {
-                    if (includeReleaseStatusAndBuild) { versionBuilder.append(pre).append(build); }
-                    return versionBuilder.toString();
-                }
-            default:
-                if (feature.isPresent()) { versionBuilder.append(feature.getAsInt()); }
-                if (interim.isPresent()) { versionBuilder.append(".").append(interim.getAsInt()); }
-                if (update.isPresent()) { versionBuilder.append(".").append(update.getAsInt()); }
-                if (patch.isPresent()) { versionBuilder.append(".").append(patch.getAsInt()); }
-                if (!javaFormat) {
-                    if (fifth.isPresent()) { versionBuilder.append(".").append(fifth.getAsInt()); }
-                    if (sixth.isPresent()) { versionBuilder.append(".").append(sixth.getAsInt()); }
-                }
-                if (includeReleaseStatusAndBuild) { versionBuilder.append(pre).append(build); }
-                return versionBuilder.toString();
+    /**
+     * Appends the same text as toString(outputFormat, javaFormat, includeReleaseStatusAndBuild) to the given StringBuilder without creating a String
+     * @param builder                      StringBuilder to append to
+     * @param outputFormat                 Output format e.g. OutputFormat.REDUCED
+     * @param javaFormat                   If true only the feature, interim, update and patch numbers will be appended
+     * @param includeReleaseStatusAndBuild If true "-ea" and the build number will be appended
+     * @return the given StringBuilder
+     */
+    public StringBuilder appendTo(final StringBuilder builder, final OutputFormat outputFormat, final boolean javaFormat, final boolean includeReleaseStatusAndBuild) {
+        try {
+            appendTo((Appendable) builder, outputFormat, javaFormat, includeReleaseStatusAndBuild);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder;
+    }
+
+    /**
+     * Appends the same text as toString(outputFormat, javaFormat, includeReleaseStatusAndBuild) to the given Appendable without creating a String
+     * @param appendable                   Appendable to append to e.g. a Writer
+     * @param outputFormat                 Output format e.g. OutputFormat.REDUCED
+     * @param javaFormat                   If true only the feature, interim, update and patch numbers will be appended
+     * @param includeReleaseStatusAndBuild If true "-ea" and the build number will be appended
+     * @return the given Appendable
+     * @throws IOException if the appendable cannot be appended to
+     */
+    public <A extends Appendable> A appendTo(final A appendable, final OutputFormat outputFormat, final boolean javaFormat, final boolean includeReleaseStatusAndBuild) throws IOException {
+        final int segments = getSegmentsInText(outputFormat, javaFormat);
+        for (int index = 0 ; index < 6 ; index++) {
+            if (0 == (segments & (1 << index))) { continue; }
+            if (index > 0) { appendable.append('.'); }
+            AsciiAppendable.appendInt(appendable, getSegment(index));
+        }
+        if (includeReleaseStatusAndBuild) {
+            if (releaseStatus.isPresent() && ReleaseStatus.EA == releaseStatus.get()) { appendable.append("-ea"); }
+            if (build.isPresent() && build.getAsInt() > 0) {
+                appendable.append('+');
+                AsciiAppendable.appendInt(appendable, build.getAsInt());
             }
+        }
+        return appendable;
+    }
+
+    /**
+     * Writes the same text as toString(outputFormat, javaFormat, includeReleaseStatusAndBuild) as ASCII bytes to the given buffer at its current position
+     * @param buffer                       Buffer to write to, its position will be moved behind the written bytes
+     * @param outputFormat                 Output format e.g. OutputFormat.REDUCED
+     * @param javaFormat                   If true only the feature, interim, update and patch numbers will be written
+     * @param includeReleaseStatusAndBuild If true "-ea" and the build number will be written
+     * @return the given buffer
+     * @throws java.nio.BufferOverflowException if the text doesn't fit into the remaining bytes of the buffer
+     */
+    public ByteBuffer writeAscii(final ByteBuffer buffer, final OutputFormat outputFormat, final boolean javaFormat, final boolean includeReleaseStatusAndBuild) {
+        try {
+            appendTo(new AsciiAppendable(buffer), outputFormat, javaFormat, includeReleaseStatusAndBuild);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer;
     }
 
+    // Bit i is set if segment i (feature, interim, update, patch, fifth, sixth) is part of the text,
+    // the reduced formats skip the trailing segments that are missing or 0
+    private int getSegmentsInText(final OutputFormat outputFormat, final boolean javaFormat) {
+        int last = 5;
+        if (OutputFormat.REDUCED == outputFormat || OutputFormat.REDUCED_COMPRESSED == outputFormat) {
+            while (last > 0 && (!isPresent(last) || getSegment(last) == 0)) { last--; }
+        }
+        if (javaFormat) { last = Math.min(last, 3); }
+        int segments = 0;
+        for (int index = 0 ; index <= last ; index++) {
+            if (isPresent(index)) { segments |= 1 << index; }
+        }
+        return segments;
+    }
+
+    private OptionalInt getSegmentOptional(final int index) {
+        return switch (index) {
+            case 0  -> feature;
+            case 1  -> interim;
+            case 2  -> update;
+            case 3  -> patch;
+            case 4  -> fifth;
+            default -> sixth;
+        };
+    }
+
+    private boolean isPresent(final int index) { return getSegmentOptional(index).isPresent(); }
+
+    private int getSegment(final int index) { return getSegmentOptional(index).getAsInt(); }
+
     @Override public String toString() {
         return toString(OutputFormat.FULL, true, true);
     }
 
     @Override public int compareTo(final VersionNumber otherVersionNumber) {
+        final OrderingKey key      = getOrderingKey();
+        final OrderingKey otherKey = otherVersionNumber.getOrderingKey();
+        if (OrderingKey.NONE != key && OrderingKey.NONE != otherKey) {
+            final int result = Long.compareUnsigned(key.high, otherKey.high);
+            return 0 == result ? Long.compareUnsigned(key.low, otherKey.low) : result;
+        }
+        return compareSegmentsTo(otherVersionNumber);
+    }
+
+    private int compareSegmentsTo(final VersionNumber otherVersionNumber) {
         final int equal       = 0;
         final int smallerThan = -1;
         final int largerThan  = 1;
@@ -718,4 +781,67 @@ public class VersionNumber implements Comparable<VersionNumber> {
     public boolean isLargerThan(final VersionNumber versionNumber) {
         return compareTo(versionNumber) > 0;
     }
+
+    OrderingKey getOrderingKey() {
+        OrderingKey key = orderingKey;
+        if (null == key) {
+            key         = OrderingKey.of(this);
+            orderingKey = key;
+        }
+        return key;
+    }
+
+
+    /**
+     * Primitive ordering key of a version number that has all six segments, a GA or EA release status and
+     * values that fit into the key. Comparing the keys unsigned gives the same result as compareSegmentsTo().
+     *
+     * high: feature (16 bit) | interim (16 bit) | update (16 bit) | patch (16 bit)
+     * low : fifth (16 bit) | sixth (16 bit) | GA (1 bit) | build (31 bit, EA builds are stored as build + 1 so that a missing build is smaller)
+     *
+     * Version numbers with missing segments or another release status keep using compareSegmentsTo()
+     * because their ordering can't be expressed by a key.
+     */
+    static final class OrderingKey {
+        static final         OrderingKey NONE        = new OrderingKey(0, 0);
+        private static final int         MAX_SEGMENT = 0xFFFF;
+        private static final int         MAX_BUILD   = 0x7FFFFFFE;
+        final                long        high;
+        final                long        low;
+
+
+        private OrderingKey(final long high, final long low) {
+            this.high = high;
+            this.low  = low;
+        }
+
+
+        private static OrderingKey of(final VersionNumber versionNumber) {
+            final OptionalInt feature = versionNumber.feature;
+            final OptionalInt interim = versionNumber.interim;
+            final OptionalInt update  = versionNumber.update;
+            final OptionalInt patch   = versionNumber.patch;
+            final OptionalInt fifth   = versionNumber.fifth;
+            final OptionalInt sixth   = versionNumber.sixth;
+            if (!fits(feature) || !fits(interim) || !fits(update) || !fits(patch) || !fits(fifth) || !fits(sixth)) { return NONE; }
+
+            final ReleaseStatus releaseStatus = versionNumber.releaseStatus.orElse(ReleaseStatus.GA);
+            if (ReleaseStatus.GA != releaseStatus && ReleaseStatus.EA != releaseStatus) { return NONE; }
+            final OptionalInt build = versionNumber.build;
+            if (build.isPresent() && (build.getAsInt() < 0 || build.getAsInt() > MAX_BUILD)) { return NONE; }
+
+            final long buildKey;
+            if (ReleaseStatus.EA == releaseStatus) {
+                buildKey = build.isPresent() ? build.getAsInt() + 1L : 0L;
+            } else {
+                buildKey = (1L << 31) | (build.isPresent() ? build.getAsInt() : 0L);
+            }
+            return new OrderingKey(((long) feature.getAsInt() << 48) | ((long) interim.getAsInt() << 32) | ((long) update.getAsInt() << 16) | patch.getAsInt(),
+                                   ((long) fifth.getAsInt() << 48) | ((long) sixth.getAsInt() << 32) | buildKey);
+        }
+
+        private static boolean fits(final OptionalInt segment) {
+            return segment.isPresent() && segment.getAsInt() >= 0 && segment.getAsInt() <= MAX_SEGMENT;
+        }
+    }
 }
@@ -0,0 +1,348 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import eu.hansolo.jdktools.ReleaseStatus;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+
+/**
+ * Hand written single pass scanner that produces exactly the same groups as
+ * VersionNumber.VERSION_NO_PATTERN would produce for the first match found at
+ * a given position. The groups are stored as start/end index pairs in an int
+ * array (group n at index 2n and 2n + 1) where -1 marks a group that did not
+ * participate in the match. This avoids creating Matcher, MatchResult and
+ * substring objects while parsing.
+ */
+final class VersionNumberScanner {
+    static final int NO_OF_GROUPS = 17;
+    static final int GROUPS_SIZE  = (NO_OF_GROUPS + 1) * 2;
+
+    private static final int NO_OF_OPTIONAL_SLOTS = 8;
+
+
+    private VersionNumberScanner() {}
+
+
+    /**
+     * Searches the next match of the version number pattern in the given region of the text
+     * @param text   Text to scan
+     * @param from   Index where the search starts (inclusive)
+     * @param end    Index where the region ends (exclusive)
+     * @param groups Array of size GROUPS_SIZE that will be filled with the group indices
+     * @return the end index of the match or -1 if no match was found
+     */
+    static int find(final CharSequence text, final int from, final int end, final int[] groups) {
+        int start = from;
+        while (start < end && !isNonZeroDigit(text.charAt(start))) { start++; }
+        if (start >= end) { return -1; }
+
+        Arrays.fill(groups, -1);
+        groups[0] = start;
+
+        // Group 1: feature ([1-9]\d*)
+        int pos = skipDigits(text, start + 1, end);
+        setGroup(groups, 1, start, pos);
+
+        // Group 2: (u(\d+)) or (\.?(\d+)?\.?(\d+)?\.?(\d+)?\.?(\d+)?\.(\d+))
+        if (pos + 1 < end && text.charAt(pos) == 'u' && isDigit(text.charAt(pos + 1))) {
+            final int digitsEnd = skipDigits(text, pos + 1, end);
+            setGroup(groups, 2, pos, digitsEnd);
+            setGroup(groups, 3, pos, digitsEnd);
+            setGroup(groups, 4, pos + 1, digitsEnd);
+            pos = digitsEnd;
+        } else {
+            pos = scanDottedNumbers(text, pos, end, groups);
+        }
+
+        // Group 11: ([_b])(\d+)
+        if (pos + 1 < end && (text.charAt(pos) == '_' || text.charAt(pos) == 'b') && isDigit(text.charAt(pos + 1))) {
+            final int digitsEnd = skipDigits(text, pos + 1, end);
+            setGroup(groups, 11, pos, digitsEnd);
+            setGroup(groups, 12, pos, pos + 1);
+            setGroup(groups, 13, pos + 1, digitsEnd);
+            pos = digitsEnd;
+        }
+
+        // Group 14: ([-+.])([a-zA-Z0-9\-\+]+)(\.[0-9]+)?
+        if (pos + 1 < end && isSeparator(text.charAt(pos)) && isPreChar(text.charAt(pos + 1))) {
+            int preEnd = pos + 2;
+            while (preEnd < end && isPreChar(text.charAt(preEnd))) { preEnd++; }
+            int groupEnd = preEnd;
+            if (preEnd + 1 < end && text.charAt(preEnd) == '.' && isDigit(text.charAt(preEnd + 1))) {
+                groupEnd = skipDigits(text, preEnd + 1, end);
+                setGroup(groups, 17, preEnd, groupEnd);
+            }
+            setGroup(groups, 14, pos, groupEnd);
+            setGroup(groups, 15, pos, pos + 1);
+            setGroup(groups, 16, pos + 1, preEnd);
+            pos = groupEnd;
+        }
+
+        groups[1] = pos;
+        return pos;
+    }
+
+    /**
+     * Creates a VersionNumber from the groups of a match in the same way the regex based
+     * implementation did it.
+     * @param text   Text that was scanned
+     * @param start  Start index of the whole version text (inclusive)
+     * @param end    End index of the whole version text (exclusive)
+     * @param groups Groups of the match that should be converted
+     * @return a VersionNumber created from the given groups
+     */
+    static VersionNumber toVersionNumber(final CharSequence text, final int start, final int end, final int[] groups) {
+        final boolean g3  = has(groups, 3);
+        final boolean g5  = has(groups, 5);
+        final boolean g6  = has(groups, 6);
+        final boolean g7  = has(groups, 7);
+        final boolean g8  = has(groups, 8);
+        final boolean g9  = has(groups, 9);
+        final boolean g11 = has(groups, 11);
+        final boolean g14 = has(groups, 14);
+
+        VersionNumber versionNumber = new VersionNumber(parseInt(text, groups, 1));
+        if (g5 && g6 && g7 && g9 && g11 && g14) {
+            versionNumber.setInterim(parseInt(text, groups, 6));
+            versionNumber.setUpdate(parseInt(text, groups, 7));
+            versionNumber.setPatch(parseInt(text, groups, 9));
+        } else if (g5 && g6 && g7 && g11 && g14) {
+            versionNumber.setInterim(parseInt(text, groups, 6));
+            versionNumber.setUpdate(parseInt(text, groups, 7));
+            versionNumber.setPatch(parseInt(text, groups, 10));
+        } else if (g5 && g6 && g7 && g8 && g9 && g14) {
+            versionNumber.setInterim(parseInt(text, groups, 6));
+            versionNumber.setUpdate(parseInt(text, groups, 7));
+            versionNumber.setPatch(parseInt(text, groups, 8));
+            versionNumber.setFifth(parseInt(text, groups, 9));
+            versionNumber.setSixth(parseInt(text, groups, 10));
+        } else if (g5 && g6 && g7 && g8 && g14) {
+            versionNumber.setInterim(parseInt(text, groups, 6));
+            versionNumber.setUpdate(parseInt(text, groups, 7));
+            versionNumber.setPatch(parseInt(text, groups, 8));
+            versionNumber.setFifth(parseInt(text, groups, 10));
+        } else if (g5 && g11 && g14) {
+            versionNumber.setInterim(parseInt(text, groups, 10));
+            versionNumber.setUpdate(parseInt(text, groups, 13));
+        } else if (g5 && g6 && g7 && g14) {
+            versionNumber.setInterim(parseInt(text, groups, 6));
+            versionNumber.setUpdate(parseInt(text, groups, 7));
+            versionNumber.setPatch(parseInt(text, groups, 10));
+        } else if (g5 && g6 && g14) {
+            versionNumber.setInterim(parseInt(text, groups, 6));
+            versionNumber.setUpdate(parseInt(text, groups, 10));
+        } else if (g5 && g6 && g7 && g8 && g9) {
+            versionNumber.setInterim(parseInt(text, groups, 6));
+            versionNumber.setUpdate(parseInt(text, groups, 7));
+            versionNumber.setPatch(parseInt(text, groups, 8));
+            versionNumber.setFifth(parseInt(text, groups, 9));
+            versionNumber.setSixth(parseInt(text, groups, 10));
+        } else if (g5 && g6 && g7 && g8) {
+            versionNumber.setInterim(parseInt(text, groups, 6));
+            versionNumber.setUpdate(parseInt(text, groups, 7));
+            versionNumber.setPatch(parseInt(text, groups, 8));
+            versionNumber.setFifth(parseInt(text, groups, 10));
+        } else if (g3 && (g14 || g11)) {
+            versionNumber.setInterim(0);
+            versionNumber.setUpdate(parseInt(text, groups, 4));
+        } else if (g5 && g11) {
+            versionNumber.setInterim(0);
+            versionNumber.setUpdate(parseInt(text, groups, 13));
+        } else if (g5 && g6 && g7) {
+            versionNumber.setInterim(parseInt(text, groups, 6));
+            versionNumber.setUpdate(parseInt(text, groups, 7));
+            versionNumber.setPatch(parseInt(text, groups, 10));
+        } else if (g5 && g6) {
+            versionNumber.setInterim(parseInt(text, groups, 6));
+            versionNumber.setUpdate(parseInt(text, groups, 10));
+        } else if (g3) {
+            versionNumber.setInterim(0);
+            versionNumber.setUpdate(parseInt(text, groups, 4));
+        } else if (g5) {
+            versionNumber.setInterim(parseInt(text, groups, 10));
+        } else if (g14) {
+            versionNumber.setInterim(0);
+            if (text.charAt(groups[30]) == '+') {
+                versionNumber.setBuild(parseDigitsOnly(text, groups[32], groups[33]));
+                versionNumber.setReleaseStatus(ReleaseStatus.GA);
+            }
+        }
+
+        // Extract early access preBuild
+        if (g14) {
+            final int preStart = groups[32];
+            final int preEnd   = groups[33];
+            for (int i = preStart; i + 1 < preEnd; i++) {
+                final char c0 = text.charAt(i);
+                final char c1 = text.charAt(i + 1);
+                if ((c0 == 'e' && c1 == 'a') || (c0 == 'E' && c1 == 'A')) {
+                    versionNumber.setReleaseStatus(ReleaseStatus.EA);
+                    final int sep = i + 2;
+                    if (sep + 1 < preEnd && (text.charAt(sep) == '.' || text.charAt(sep) == '+' || text.charAt(sep) == '-') && isDigit(text.charAt(sep + 1))) {
+                        versionNumber.setBuild(Integer.parseInt(text, sep + 1, skipDigits(text, sep + 1, preEnd), 10));
+                    } else if (has(groups, 17)) {
+                        versionNumber.setBuild(Integer.parseInt(text, groups[34] + 1, groups[35], 10));
+                    }
+                    break;
+                }
+            }
+        } else {
+            versionNumber.setReleaseStatus(ReleaseStatus.GA);
+        }
+
+        // Extract build number
+        for (int i = start; i + 1 < end; i++) {
+            final char c = text.charAt(i);
+            if ((c == 'b' || c == 'B') && isDigit(text.charAt(i + 1))) {
+                versionNumber.setBuild(Integer.parseInt(text, i + 1, skipDigits(text, i + 1, end), 10));
+                break;
+            }
+        }
+
+        return versionNumber;
+    }
+
+
+    /**
+     * Returns true if the given region starts with the legacy "1." prefix (e.g. 1.8.0_262)
+     */
+    static boolean hasLegacyPrefix(final CharSequence text, final int start, final int end) {
+        return end - start > 1 && text.charAt(start) == '1' && text.charAt(start + 1) == '.';
+    }
+
+    /**
+     * Removes all occurrences of "1." from the given region in the same way String.replace("1.", "")
+     * does it. Only needed for the legacy version format, all other formats are scanned in place.
+     * @return a CharSequence that contains the given region without any "1."
+     */
+    static CharSequence removeLegacyPrefix(final CharSequence text, final int start, final int end) {
+        final char[] chars  = new char[end - start];
+        int          length = 0;
+        int          pos    = start;
+        while (pos < end) {
+            final char c = text.charAt(pos);
+            if (c == '1' && pos + 1 < end && text.charAt(pos + 1) == '.') {
+                pos += 2;
+            } else {
+                chars[length++] = c;
+                pos++;
+            }
+        }
+        return CharBuffer.wrap(chars, 0, length);
+    }
+
+    /**
+     * Matches (\.?(\d+)?\.?(\d+)?\.?(\d+)?\.?(\d+)?\.(\d+)) at the given position.
+     * The regex engine always picks the longest prefix of dots and numbers that ends with
+     * a dot followed by a number and whose leading part fits into the 8 optional slots.
+     * The leading part is distributed greedily over the slots (dot, number, dot, number...)
+     * which is exactly the assignment the backtracking of the regex engine ends up with.
+     * @return the position after group 2 or the given position if group 2 did not match
+     */
+    private static int scanDottedNumbers(final CharSequence text, final int from, final int end, final int[] groups) {
+        int slot     = 0;
+        int pos      = from;
+        int matchEnd = -1;
+        int s6 = -1, e6 = -1, s7 = -1, e7 = -1, s8 = -1, e8 = -1, s9 = -1, e9 = -1;
+        while (pos < end) {
+            final char c = text.charAt(pos);
+            if (c == '.') {
+                // Candidate for the mandatory \.(\d+) at the end
+                if (pos + 1 < end && isDigit(text.charAt(pos + 1))) {
+                    final int digitsEnd = skipDigits(text, pos + 1, end);
+                    matchEnd = digitsEnd;
+                    groups[12] = s6; groups[13] = e6;
+                    groups[14] = s7; groups[15] = e7;
+                    groups[16] = s8; groups[17] = e8;
+                    groups[18] = s9; groups[19] = e9;
+                    setGroup(groups, 10, pos + 1, digitsEnd);
+                }
+                if (slot % 2 == 1) { slot++; }
+                if (slot >= NO_OF_OPTIONAL_SLOTS) { break; }
+                slot++;
+                pos++;
+            } else if (isDigit(c)) {
+                if (slot % 2 == 0) { slot++; }
+                if (slot >= NO_OF_OPTIONAL_SLOTS) { break; }
+                final int digitsEnd = skipDigits(text, pos, end);
+                switch (slot) {
+                    case 1 -> { s6 = pos; e6 = digitsEnd; }
+                    case 3 -> { s7 = pos; e7 = digitsEnd; }
+                    case 5 -> { s8 = pos; e8 = digitsEnd; }
+                    case 7 -> { s9 = pos; e9 = digitsEnd; }
+                }
+                slot++;
+                pos = digitsEnd;
+            } else {
+                break;
+            }
+        }
+        if (matchEnd < 0) {
+            for (int i = 10 ; i < 22 ; i++) { groups[i] = -1; }
+            return from;
+        }
+        setGroup(groups, 2, from, matchEnd);
+        setGroup(groups, 5, from, matchEnd);
+        return matchEnd;
+    }
+
+    private static int parseInt(final CharSequence text, final int[] groups, final int group) {
+        return Integer.parseInt(text, groups[group * 2], groups[group * 2 + 1], 10);
+    }
+
+    // Same result as Integer.parseInt(text.replaceAll("[^\\d.]", "")) for text without dots
+    private static int parseDigitsOnly(final CharSequence text, final int start, final int end) {
+        long    value     = 0;
+        boolean hasDigits = false;
+        for (int i = start ; i < end ; i++) {
+            final char c = text.charAt(i);
+            if (isDigit(c)) {
+                value     = value * 10 + (c - '0');
+                hasDigits = true;
+                if (value > Integer.MAX_VALUE) { throw new NumberFormatException("Build number out of range: " + text.subSequence(start, end)); }
+            }
+        }
+        if (!hasDigits) { throw new NumberFormatException("For input string: \"\""); }
+        return (int) value;
+    }
+
+    private static int skipDigits(final CharSequence text, final int from, final int end) {
+        int pos = from;
+        while (pos < end && isDigit(text.charAt(pos))) { pos++; }
+        return pos;
+    }
+
+    private static void setGroup(final int[] groups, final int group, final int start, final int end) {
+        groups[group * 2]     = start;
+        groups[group * 2 + 1] = end;
+    }
+
+    private static boolean has(final int[] groups, final int group) { return groups[group * 2] >= 0; }
+
+    private static boolean isDigit(final char c) { return c >= '0' && c <= '9'; }
+
+    private static boolean isNonZeroDigit(final char c) { return c >= '1' && c <= '9'; }
+
+    private static boolean isSeparator(final char c) { return c == '-' || c == '+' || c == '.'; }
+
+    private static boolean isPreChar(final char c) { return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '+'; }
+}
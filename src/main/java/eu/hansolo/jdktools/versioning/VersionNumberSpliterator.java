@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+
+/**
+ * Spliterator that lazily scans a region of a text for version numbers, one
+ * match per call to tryAdvance(). A version number never contains whitespace,
+ * so the region can be split at any whitespace character without changing the
+ * matches, which makes it possible to scan large texts in parallel.
+ */
+final class VersionNumberSpliterator implements Spliterator<VersionNumber> {
+    static final         long         FILE_CHUNK_SIZE = 16 * 1024 * 1024;
+    private static final int          MIN_SPLIT_SIZE  = 64 * 1024;
+    private static final int          PROBE_SIZE      = 8 * 1024;
+    private final        CharSequence text;
+    private final        int[]        groups;
+    private              int          pos;
+    private final        int          end;
+
+
+    VersionNumberSpliterator(final CharSequence text, final int start, final int end) {
+        this.text   = text;
+        this.groups = new int[VersionNumberScanner.GROUPS_SIZE];
+        this.pos    = start;
+        this.end    = end;
+    }
+
+
+    @Override public boolean tryAdvance(final Consumer<? super VersionNumber> action) {
+        while (pos < end) {
+            final int matchEnd = VersionNumberScanner.find(text, pos, end, groups);
+            if (matchEnd < 0) {
+                pos = end;
+                return false;
+            }
+            final int matchStart = groups[0];
+            pos = matchEnd;
+            final VersionNumber versionNumber;
+            try {
+                versionNumber = VersionNumberScanner.hasLegacyPrefix(text, matchStart, matchEnd) ? VersionNumber.fromText(text, matchStart, matchEnd, 0) : VersionNumberScanner.toVersionNumber(text, matchStart, matchEnd, groups);
+            } catch (IllegalArgumentException e) {
+                // Matches with numbers that do not fit into an int are skipped
+                continue;
+            }
+            action.accept(versionNumber);
+            return true;
+        }
+        return false;
+    }
+
+    @Override public Spliterator<VersionNumber> trySplit() {
+        if (end - pos < MIN_SPLIT_SIZE) { return null; }
+        final int mid   = pos + (end - pos) / 2;
+        int       split = mid;
+        while (split < end && !Character.isWhitespace(text.charAt(split))) { split++; }
+        if (split == end) {
+            split = mid;
+            while (split > pos && !Character.isWhitespace(text.charAt(split))) { split--; }
+            if (split == pos) { return null; }
+        }
+        final VersionNumberSpliterator prefix = new VersionNumberSpliterator(text, pos, split);
+        pos = split;
+        return prefix;
+    }
+
+    @Override public long estimateSize() { return Long.MAX_VALUE; }
+
+    @Override public int characteristics() { return ORDERED | NONNULL; }
+
+
+    /**
+     * Maps the given file into read only buffers of about FILE_CHUNK_SIZE bytes where each
+     * buffer ends at a line boundary. The buffers stay valid after the file channel was closed.
+     * @param path Path to the file that should be mapped
+     * @return a list of buffers that cover the whole file in order
+     * @throws IOException if the file could not be read or a single line is larger than 2 GB
+     */
+    static List<ByteBuffer> mapLines(final Path path) throws IOException {
+        final List<ByteBuffer> chunks = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long       size  = channel.size();
+            final ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+            long             start = 0;
+            while (start < size) {
+                final long end = nextLineStart(channel, Math.min(size, start + FILE_CHUNK_SIZE), size, probe);
+                if (end - start > Integer.MAX_VALUE) { throw new IOException("Line starting at " + start + " in " + path + " is too long to be mapped"); }
+                chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+                start = end;
+            }
+        }
+        return chunks;
+    }
+
+    private static long nextLineStart(final FileChannel channel, final long from, final long size, final ByteBuffer probe) throws IOException {
+        long position = from;
+        while (position < size) {
+            probe.clear();
+            final int read = channel.read(probe, position);
+            if (read <= 0) { return size; }
+            for (int i = 0 ; i < read ; i++) {
+                if (probe.get(i) == '\n') { return position + i + 1; }
+            }
+            position += read;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+
+/**
+ * Size bounded, thread safe cache for the results of VersionNumber.fromText(),
+ * SemverParser.fromText() and Semver.fromText().
+ * The cache is split into stripes, each stripe is a LRU map that is guarded by its
+ * own lock, which keeps contention low when many threads parse at the same time.
+ * Cached results are never handed out directly, each call returns a copy so that
+ * callers can modify the returned objects without corrupting the cache.
+ * The given max size is applied to the VersionNumber results and to the Semver
+ * results separately.
+ * Texts that cannot be parsed by VersionNumber.fromText() are not cached.
+ */
+public final class VersionParseCache {
+    public  static final int                           DEFAULT_MAX_SIZE = 4096;
+    private final        int                           maxSize;
+    private final        Stripe<VersionNumber>[]       versionNumbers;
+    private final        Stripe<SemverParsingResult>[] semverResults;
+    private final        int                           stripeMask;
+    private final        LongAdder                     hits;
+    private final        LongAdder                     misses;
+    private final        LongAdder                     evictions;
+
+
+    public VersionParseCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+    @SuppressWarnings("unchecked")
+    public VersionParseCache(final int maxSize) throws IllegalArgumentException {
+        if (maxSize < 1) { throw new IllegalArgumentException("Max size cannot be smaller than 1"); }
+        final int maxStripes  = Runtime.getRuntime().availableProcessors() * 2;
+        int       noOfStripes = 1;
+        while (noOfStripes < maxStripes && noOfStripes * 2 <= maxSize) { noOfStripes <<= 1; }
+        final int stripeSize  = maxSize / noOfStripes;
+        this.maxSize        = maxSize;
+        this.versionNumbers = (Stripe<VersionNumber>[]) new Stripe<?>[noOfStripes];
+        this.semverResults  = (Stripe<SemverParsingResult>[]) new Stripe<?>[noOfStripes];
+        this.stripeMask     = noOfStripes - 1;
+        this.hits           = new LongAdder();
+        this.misses         = new LongAdder();
+        this.evictions      = new LongAdder();
+        for (int i = 0 ; i < noOfStripes ; i++) {
+            versionNumbers[i] = new Stripe<>(stripeSize, evictions);
+            semverResults[i]  = new Stripe<>(stripeSize, evictions);
+        }
+    }
+
+
+    /**
+     * Returns a copy of the VersionNumber that VersionNumber.fromText() returns for the given text
+     * @param text Text that contains a version number
+     * @return a copy of the VersionNumber that VersionNumber.fromText() returns for the given text
+     * @throws IllegalArgumentException Throws IllegalArgumentException in case the text could not be parsed
+     */
+    public VersionNumber versionNumberFromText(final String text) throws IllegalArgumentException {
+        if (null == text) { throw new IllegalArgumentException("No text given to parse version number from"); }
+        return new VersionNumber(get(versionNumbers, text, VersionNumber::fromText));
+    }
+
+    /**
+     * Returns a copy of the SemverParsingResult that SemverParser.fromText() returns for the given text
+     * @param text Text that contains a semver or a semver range
+     * @return a copy of the SemverParsingResult that SemverParser.fromText() returns for the given text
+     */
+    public SemverParsingResult semverParserFromText(final String text) {
+        Objects.requireNonNull(text, "Text cannot be null");
+        return new SemverParsingResult(get(semverResults, text, SemverParser::fromText));
+    }
+
+    /**
+     * Returns a copy of the SemverParsingResult that Semver.fromText() returns for the given text
+     * @param text Text that contains a semver or a semver range
+     * @return a copy of the SemverParsingResult that Semver.fromText() returns for the given text
+     * @throws IllegalArgumentException Throws IllegalArgumentException in case the text could not be parsed
+     */
+    public SemverParsingResult semverFromText(final String text) throws IllegalArgumentException {
+        final SemverParsingResult result = semverParserFromText(text);
+        if (null != result.getError1()) { throw new IllegalArgumentException("Error parsing Semver from text. " + result.getError1()); }
+        if (null != result.getError2()) { throw new IllegalArgumentException("Error parsing Semver from text. " + result.getError2()); }
+        return result;
+    }
+
+    public int getMaxSize() { return maxSize; }
+
+    public int size() {
+        int size = 0;
+        for (int i = 0 ; i <= stripeMask ; i++) { size += versionNumbers[i].size() + semverResults[i].size(); }
+        return size;
+    }
+
+    public long getHitCount() { return hits.sum(); }
+
+    public long getMissCount() { return misses.sum(); }
+
+    public long getEvictionCount() { return evictions.sum(); }
+
+    public double getHitRate() {
+        final long hitCount     = hits.sum();
+        final long requestCount = hitCount + misses.sum();
+        return 0 == requestCount ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    public void clear() {
+        for (int i = 0 ; i <= stripeMask ; i++) {
+            versionNumbers[i].clear();
+            semverResults[i].clear();
+        }
+    }
+
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    @Override public String toString() {
+        return new StringBuilder().append("{")
+                                  .append("\"size\":").append(size()).append(",")
+                                  .append("\"max_size\":").append(maxSize).append(",")
+                                  .append("\"hits\":").append(getHitCount()).append(",")
+                                  .append("\"misses\":").append(getMissCount()).append(",")
+                                  .append("\"evictions\":").append(getEvictionCount())
+                                  .append("}")
+                                  .toString();
+    }
+
+
+    private <T> T get(final Stripe<T>[] stripes, final String text, final Function<String, T> parser) {
+        final Stripe<T> stripe = stripes[spread(text.hashCode()) & stripeMask];
+        T value = stripe.get(text);
+        if (null != value) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        // Parse outside of the lock, in case of a race the last result wins which is fine because results are equal
+        value = parser.apply(text);
+        stripe.put(text, value);
+        return value;
+    }
+
+    private static int spread(final int hash) { return hash ^ (hash >>> 16); }
+
+
+    private static final class Stripe<T> {
+        private final LinkedHashMap<String, T> map;
+
+
+        Stripe(final int maxSize, final LongAdder evictions) {
+            this.map = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override protected boolean removeEldestEntry(final Map.Entry<String, T> eldest) {
+                    final boolean remove = size() > maxSize;
+                    if (remove) { evictions.increment(); }
+                    return remove;
+                }
+            };
+        }
+
+
+        synchronized T get(final String key) { return map.get(key); }
+
+        synchronized void put(final String key, final T value) { map.put(key, value); }
+
+        synchronized int size() { return map.size(); }
+
+        synchronized void clear() { map.clear(); }
+    }
+}
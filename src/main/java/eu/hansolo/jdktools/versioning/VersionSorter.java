@@ -0,0 +1,333 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import eu.hansolo.jdktools.ReleaseStatus;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+
+/**
+ * Sorts large amounts of versions with an LSD radix sort over keys that are packed into two longs
+ * (high and low) and compared unsigned like a PackedVersion. The sort works on primitive arrays, so
+ * it doesn't call compareTo() and doesn't follow references while sorting.
+ *
+ * All sorts are stable and give the same order as sorting by compareTo(). Versions whose order can't
+ * be expressed by a key (e.g. version numbers with missing segments or release statuses other than
+ * GA and EA, see VersionNumber.compareTo() and Semver.compareTo()) are sorted with a stable merge
+ * sort by compareTo() instead.
+ *
+ * The sortedPermutation() methods return the indices of the given versions in sorted order, which
+ * can be used to sort payloads (e.g. packages) that belong to the versions. The parallel variants
+ * split the input into chunks that are counted and distributed on the common fork join pool.
+ */
+public final class VersionSorter {
+    private static final int RADIX_BITS         = 8;
+    private static final int RADIX              = 1 << RADIX_BITS;
+    private static final int DIGIT_MASK         = RADIX - 1;
+    private static final int DIGITS_PER_LONG    = Long.SIZE / RADIX_BITS;
+    private static final int PASSES             = 2 * DIGITS_PER_LONG;
+    private static final int MAX_SEGMENT        = 0xFFFF;
+    private static final int MAX_PRE_BUILD      = 0x7FFFFFFE;
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int MIN_CHUNK_SIZE     = 1 << 14;
+
+
+    private VersionSorter() {}
+
+
+    /**
+     * Returns the indices of the given keys in ascending order of the keys, where each key consists of
+     * a high and a low long that are compared unsigned (e.g. PackedVersion.getHigh() and getLow()).
+     * Entries with equal keys keep their order. The given arrays are not modified.
+     * @param highs High parts of the keys
+     * @param lows  Low parts of the keys
+     * @return the indices of the given keys in ascending order of the keys
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public static int[] sortedPermutation(final long[] highs, final long[] lows) throws IllegalArgumentException {
+        return radixSort(highs, lows, false);
+    }
+    public static int[] parallelSortedPermutation(final long[] highs, final long[] lows) throws IllegalArgumentException {
+        return radixSort(highs, lows, true);
+    }
+
+    /**
+     * Returns the indices of the given version numbers in the order of VersionNumber.compareTo(),
+     * version numbers that are equal keep their order
+     * @param versionNumbers Version numbers to sort
+     * @return the indices of the given version numbers in ascending order
+     */
+    public static int[] sortedPermutation(final VersionNumber[] versionNumbers) {
+        return sortedPermutation(versionNumbers, VersionSorter::versionNumberKey, false);
+    }
+    public static int[] parallelSortedPermutation(final VersionNumber[] versionNumbers) {
+        return sortedPermutation(versionNumbers, VersionSorter::versionNumberKey, true);
+    }
+
+    /**
+     * Returns the indices of the given semvers in the order of Semver.compareTo(),
+     * semvers that are equal keep their order
+     * @param semvers Semvers to sort
+     * @return the indices of the given semvers in ascending order
+     */
+    public static int[] sortedPermutation(final Semver[] semvers) {
+        return sortedPermutation(semvers, VersionSorter::semverKey, false);
+    }
+    public static int[] parallelSortedPermutation(final Semver[] semvers) {
+        return sortedPermutation(semvers, VersionSorter::semverKey, true);
+    }
+
+    public static void sort(final VersionNumber[] versionNumbers) { permute(versionNumbers, sortedPermutation(versionNumbers)); }
+
+    public static void parallelSort(final VersionNumber[] versionNumbers) { permute(versionNumbers, parallelSortedPermutation(versionNumbers)); }
+
+    public static void sort(final Semver[] semvers) { permute(semvers, sortedPermutation(semvers)); }
+
+    public static void parallelSort(final Semver[] semvers) { permute(semvers, parallelSortedPermutation(semvers)); }
+
+    /**
+     * Sorts the given list of payloads (e.g. packages) by their version numbers, payloads with equal version numbers keep their order
+     * @param payloads        Payloads to sort
+     * @param versionNumberOf Function that returns the version number of a payload
+     */
+    public static <T> void sortByVersionNumber(final List<T> payloads, final Function<? super T, VersionNumber> versionNumberOf) {
+        sortBy(payloads, versionNumberOf, VersionNumber[]::new, VersionSorter::sortedPermutation);
+    }
+    public static <T> void parallelSortByVersionNumber(final List<T> payloads, final Function<? super T, VersionNumber> versionNumberOf) {
+        sortBy(payloads, versionNumberOf, VersionNumber[]::new, VersionSorter::parallelSortedPermutation);
+    }
+
+    /**
+     * Sorts the given list of payloads (e.g. packages) by their semvers, payloads with equal semvers keep their order
+     * @param payloads Payloads to sort
+     * @param semverOf Function that returns the semver of a payload
+     */
+    public static <T> void sortBySemver(final List<T> payloads, final Function<? super T, Semver> semverOf) {
+        sortBy(payloads, semverOf, Semver[]::new, VersionSorter::sortedPermutation);
+    }
+    public static <T> void parallelSortBySemver(final List<T> payloads, final Function<? super T, Semver> semverOf) {
+        sortBy(payloads, semverOf, Semver[]::new, VersionSorter::parallelSortedPermutation);
+    }
+
+
+    private static <T extends Comparable<? super T>> int[] sortedPermutation(final T[] versions, final KeyWriter<? super T> keyWriter, final boolean parallel) {
+        Objects.requireNonNull(versions, "Versions cannot be null");
+        final int    size  = versions.length;
+        final long[] highs = new long[size];
+        final long[] lows  = new long[size];
+        final boolean packable;
+        if (parallel && size >= PARALLEL_THRESHOLD) {
+            packable = IntStream.range(0, size).parallel().allMatch(i -> keyWriter.write(versions[i], highs, lows, i));
+        } else {
+            boolean allPackable = true;
+            for (int i = 0 ; i < size && allPackable ; i++) { allPackable = keyWriter.write(versions[i], highs, lows, i); }
+            packable = allPackable;
+        }
+        if (packable) { return radixSort(highs, lows, parallel); }
+
+        // Both merge sorts are stable
+        final Integer[]           order      = new Integer[size];
+        final Comparator<Integer> comparator = (i1, i2) -> versions[i1].compareTo(versions[i2]);
+        for (int i = 0 ; i < size ; i++) { order[i] = i; }
+        if (parallel) { Arrays.parallelSort(order, comparator); } else { Arrays.sort(order, comparator); }
+        final int[] indices = new int[size];
+        for (int i = 0 ; i < size ; i++) { indices[i] = order[i]; }
+        return indices;
+    }
+
+    private static int[] radixSort(final long[] highs, final long[] lows, final boolean parallel) throws IllegalArgumentException {
+        Objects.requireNonNull(highs, "Highs cannot be null");
+        Objects.requireNonNull(lows, "Lows cannot be null");
+        if (highs.length != lows.length) { throw new IllegalArgumentException("Highs and lows must have the same length"); }
+        final int size   = highs.length;
+        final int chunks = parallel && size >= PARALLEL_THRESHOLD ? Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), size / MIN_CHUNK_SIZE)) : 1;
+
+        long[] srcHighs   = highs.clone();
+        long[] srcLows    = lows.clone();
+        int[]  srcIndices = new int[size];
+        for (int i = 0 ; i < size ; i++) { srcIndices[i] = i; }
+        if (size < 2) { return srcIndices; }
+
+        long[] dstHighs   = new long[size];
+        long[] dstLows    = new long[size];
+        int[]  dstIndices = new int[size];
+
+        final int[][] histograms = histograms(srcHighs, srcLows, chunks);
+        for (int pass = 0 ; pass < PASSES ; pass++) {
+            final boolean high  = pass >= DIGITS_PER_LONG;
+            final int     shift = (pass % DIGITS_PER_LONG) * RADIX_BITS;
+            final long[]  keys  = high ? srcHighs : srcLows;
+            // Skip digits that are the same for all keys e.g. unused segments
+            if (histograms[pass][digit(keys[0], shift)] == size) { continue; }
+
+            final int[][] offsets = new int[chunks][];
+            if (1 == chunks) {
+                offsets[0] = histograms[pass].clone();
+            } else {
+                forEachChunk(chunks, chunk -> offsets[chunk] = count(keys, from(chunk, chunks, size), from(chunk + 1, chunks, size), shift));
+            }
+            // Each chunk writes its entries behind the entries of the same digit of the previous chunks which keeps the sort stable
+            int offset = 0;
+            for (int digit = 0 ; digit < RADIX ; digit++) {
+                for (int chunk = 0 ; chunk < chunks ; chunk++) {
+                    final int count = offsets[chunk][digit];
+                    offsets[chunk][digit] = offset;
+                    offset += count;
+                }
+            }
+
+            final long[] fromHighs   = srcHighs;
+            final long[] fromLows    = srcLows;
+            final int[]  fromIndices = srcIndices;
+            final long[] toHighs     = dstHighs;
+            final long[] toLows      = dstLows;
+            final int[]  toIndices   = dstIndices;
+            forEachChunk(chunks, chunk -> {
+                final int[] chunkOffsets = offsets[chunk];
+                final int   to           = from(chunk + 1, chunks, size);
+                for (int i = from(chunk, chunks, size) ; i < to ; i++) {
+                    final int position = chunkOffsets[digit(keys[i], shift)]++;
+                    toHighs[position]   = fromHighs[i];
+                    toLows[position]    = fromLows[i];
+                    toIndices[position] = fromIndices[i];
+                }
+            });
+
+            dstHighs   = fromHighs;
+            dstLows    = fromLows;
+            dstIndices = fromIndices;
+            srcHighs   = toHighs;
+            srcLows    = toLows;
+            srcIndices = toIndices;
+        }
+        return srcIndices;
+    }
+
+    // Histograms of all digits, they don't depend on the order of the keys and are needed to find the digits that can be skipped
+    private static int[][] histograms(final long[] highs, final long[] lows, final int chunks) {
+        final int[][][] chunkHistograms = new int[chunks][][];
+        forEachChunk(chunks, chunk -> {
+            final int[][] histograms = new int[PASSES][RADIX];
+            final int     to         = from(chunk + 1, chunks, highs.length);
+            for (int i = from(chunk, chunks, highs.length) ; i < to ; i++) {
+                final long low  = lows[i];
+                final long high = highs[i];
+                for (int digit = 0 ; digit < DIGITS_PER_LONG ; digit++) {
+                    histograms[digit][digit(low, digit * RADIX_BITS)]++;
+                    histograms[DIGITS_PER_LONG + digit][digit(high, digit * RADIX_BITS)]++;
+                }
+            }
+            chunkHistograms[chunk] = histograms;
+        });
+        final int[][] histograms = chunkHistograms[0];
+        for (int chunk = 1 ; chunk < chunks ; chunk++) {
+            for (int pass = 0 ; pass < PASSES ; pass++) {
+                for (int digit = 0 ; digit < RADIX ; digit++) { histograms[pass][digit] += chunkHistograms[chunk][pass][digit]; }
+            }
+        }
+        return histograms;
+    }
+
+    private static int[] count(final long[] keys, final int from, final int to, final int shift) {
+        final int[] counts = new int[RADIX];
+        for (int i = from ; i < to ; i++) { counts[digit(keys[i], shift)]++; }
+        return counts;
+    }
+
+    private static void forEachChunk(final int chunks, final IntConsumer action) {
+        if (1 == chunks) {
+            action.accept(0);
+        } else {
+            IntStream.range(0, chunks).parallel().forEach(action);
+        }
+    }
+
+    private static int from(final int chunk, final int chunks, final int size) { return (int) ((long) size * chunk / chunks); }
+
+    private static int digit(final long key, final int shift) { return (int) (key >>> shift) & DIGIT_MASK; }
+
+    private static <V> void permute(final V[] versions, final int[] indices) {
+        final V[] copy = versions.clone();
+        for (int i = 0 ; i < indices.length ; i++) { versions[i] = copy[indices[i]]; }
+    }
+
+    private static <T, V> void sortBy(final List<T> payloads, final Function<? super T, V> versionOf, final Function<Integer, V[]> arrayOf, final Function<V[], int[]> sorter) {
+        final Object[] copy     = payloads.toArray();
+        final V[]      versions = arrayOf.apply(copy.length);
+        for (int i = 0 ; i < copy.length ; i++) {
+            @SuppressWarnings("unchecked") final T payload = (T) copy[i];
+            versions[i] = versionOf.apply(payload);
+        }
+        final int[]           indices  = sorter.apply(versions);
+        final ListIterator<T> iterator = payloads.listIterator();
+        for (int index : indices) {
+            iterator.next();
+            @SuppressWarnings("unchecked") final T payload = (T) copy[index];
+            iterator.set(payload);
+        }
+    }
+
+    private static boolean versionNumberKey(final VersionNumber versionNumber, final long[] highs, final long[] lows, final int index) {
+        final VersionNumber.OrderingKey key = versionNumber.getOrderingKey();
+        if (VersionNumber.OrderingKey.NONE == key) { return false; }
+        highs[index] = key.high;
+        lows[index]  = key.low;
+        return true;
+    }
+
+    // Same layout as the ordering key of VersionNumber, the pre build is stored as pre build + 1 because a missing pre build is -1
+    private static boolean semverKey(final Semver semver, final long[] highs, final long[] lows, final int index) {
+        final ReleaseStatus releaseStatus = semver.getReleaseStatus();
+        if (ReleaseStatus.GA != releaseStatus && ReleaseStatus.EA != releaseStatus) { return false; }
+        final int feature = semver.getFeature();
+        final int interim = semver.getInterim();
+        final int update  = semver.getUpdate();
+        final int patch   = semver.getPatch();
+        final int fifth   = semver.getFifth();
+        final int sixth   = semver.getSixth();
+        if (!fits(feature) || !fits(interim) || !fits(update) || !fits(patch) || !fits(fifth) || !fits(sixth)) { return false; }
+        final int preBuild;
+        try {
+            preBuild = semver.getPreBuildAsInt();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (preBuild < -1 || preBuild > MAX_PRE_BUILD) { return false; }
+        highs[index] = ((long) feature << 48) | ((long) interim << 32) | ((long) update << 16) | patch;
+        lows[index]  = ((long) fifth << 48) | ((long) sixth << 32) | (ReleaseStatus.GA == releaseStatus ? 1L << 31 : 0L) | (preBuild + 1L);
+        return true;
+    }
+
+    private static boolean fits(final int segment) { return segment >= 0 && segment <= MAX_SEGMENT; }
+
+
+    @FunctionalInterface
+    private interface KeyWriter<T> {
+        boolean write(T version, long[] highs, long[] lows, int index);
+    }
+}
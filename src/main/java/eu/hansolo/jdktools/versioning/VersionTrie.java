@@ -0,0 +1,306 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+
+/**
+ * Trie of payloads (e.g. packages) keyed by the segments of their version numbers in the order
+ * feature, interim, update, patch, fifth, sixth and build. Missing segments are stored as 0 like in
+ * VersionNumber.getNormalizedVersionNumber(), a missing build number is stored as -1.
+ * Each node knows the latest version of its subtree, so the latest version under a prefix like
+ * 17.0 is a single descent.
+ *
+ * Patterns consist of up to six segments separated by dots and an optional build number after a +.
+ * A segment is either a number (e.g. 17), a * that matches every number or a number followed by a
+ * * that matches every number that starts with these digits (e.g. 2* matches 2, 20 and 215).
+ * Segments that are not given match everything, so 17.0 and 17.0.* are the same pattern.
+ *
+ * The trie is not thread safe, a trie that is no longer modified can be shared between threads.
+ */
+public final class VersionTrie<T> {
+    private static final int     LEVELS     = 7;
+    private static final int     EXACT      = 0;
+    private static final int     ANY        = 1;
+    private static final int     PREFIX     = 2;
+    private static final int     NO_BUILD   = -1;
+    private static final int[]   EMPTY_KEYS = new int[0];
+    private final        Node<T> root;
+    private              int     size;
+
+
+    public VersionTrie() {
+        this.root = new Node<>();
+        this.size = 0;
+    }
+
+
+    /**
+     * Returns a trie that contains the given payloads keyed by their version numbers
+     * @param payloads        Payloads e.g. packages
+     * @param versionNumberOf Function that returns the version number of a payload
+     * @return a trie that contains the given payloads
+     */
+    public static <T> VersionTrie<T> of(final Collection<? extends T> payloads, final Function<? super T, VersionNumber> versionNumberOf) {
+        final VersionTrie<T> trie = new VersionTrie<>();
+        for (T payload : payloads) { trie.add(versionNumberOf.apply(payload), payload); }
+        return trie;
+    }
+
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return 0 == size; }
+
+    /**
+     * Adds the given payload under the given version number
+     * @param versionNumber Version number of the payload, the feature version has to be present
+     * @param payload       Payload e.g. a package
+     * @throws IllegalArgumentException if the feature version of the given version number is not present
+     */
+    public void add(final VersionNumber versionNumber, final T payload) throws IllegalArgumentException {
+        final ImmutableVersionNumber version = ImmutableVersionNumber.fromVersionNumber(versionNumber);
+        final int[]                  keys    = keysOf(version);
+        Node<T> node = root;
+        node.updateMax(version, payload);
+        for (int level = 0 ; level < LEVELS ; level++) {
+            node = node.getOrCreateChild(keys[level]);
+            node.updateMax(version, payload);
+        }
+        if (null == node.payloads) { node.payloads = new ArrayList<>(1); }
+        node.payloads.add(payload);
+        size++;
+    }
+
+    /**
+     * Returns the payloads that have been added with the same segments and build number as the given version number
+     * @param versionNumber Version number to look for
+     * @return the payloads that have been added with the same segments and build number as the given version number
+     */
+    public List<T> get(final VersionNumber versionNumber) {
+        final int[] keys = keysOf(ImmutableVersionNumber.fromVersionNumber(versionNumber));
+        Node<T> node = root;
+        for (int level = 0 ; level < LEVELS && null != node ; level++) { node = node.getChild(keys[level]); }
+        return null == node || null == node.payloads ? Collections.emptyList() : Collections.unmodifiableList(node.payloads);
+    }
+
+    /**
+     * Returns all payloads with version numbers that match the given pattern (e.g. 17.0.* or 11.0.2*)
+     * in ascending order of their segments
+     * @param pattern Pattern to match
+     * @return all payloads with version numbers that match the given pattern
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public List<T> find(final String pattern) throws IllegalArgumentException {
+        final VersionPattern compiled = VersionPattern.compile(pattern);
+        final List<T>        result   = new ArrayList<>();
+        collect(root, 0, compiled, result);
+        return result;
+    }
+
+    /**
+     * Returns the payload with the latest version number that matches the given pattern. For patterns
+     * without wildcards (e.g. 17.0) this is a single descent.
+     * @param pattern Pattern to match
+     * @return the payload with the latest version number that matches the given pattern
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public Optional<T> latest(final String pattern) throws IllegalArgumentException {
+        final Node<T> node = latestNode(root, 0, VersionPattern.compile(pattern));
+        return null == node ? Optional.empty() : Optional.ofNullable(node.maxPayload);
+    }
+
+    /**
+     * Returns the latest version number that matches the given pattern
+     * @param pattern Pattern to match
+     * @return the latest version number that matches the given pattern
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public Optional<ImmutableVersionNumber> latestVersion(final String pattern) throws IllegalArgumentException {
+        final Node<T> node = latestNode(root, 0, VersionPattern.compile(pattern));
+        return null == node ? Optional.empty() : Optional.of(node.max);
+    }
+
+
+    private void collect(final Node<T> node, final int level, final VersionPattern pattern, final List<T> result) {
+        if (level == LEVELS) {
+            if (null != node.payloads) { result.addAll(node.payloads); }
+            return;
+        }
+        if (ANY == pattern.kinds[level]) {
+            for (int i = 0 ; i < node.noOfChildren ; i++) { collect(node.children[i], level + 1, pattern, result); }
+            return;
+        }
+        if (EXACT == pattern.kinds[level]) {
+            final Node<T> child = node.getChild(pattern.values[level]);
+            if (null != child) { collect(child, level + 1, pattern, result); }
+            return;
+        }
+        for (int i = 0 ; i < node.noOfChildren ; i++) {
+            if (pattern.matches(level, node.keys[i])) { collect(node.children[i], level + 1, pattern, result); }
+        }
+    }
+
+    // Returns the node whose subtree maximum is the latest match or null if nothing matches
+    private Node<T> latestNode(final Node<T> node, final int level, final VersionPattern pattern) {
+        if (level >= pattern.length) { return null == node.max ? null : node; }
+        if (EXACT == pattern.kinds[level]) {
+            final Node<T> child = node.getChild(pattern.values[level]);
+            return null == child ? null : latestNode(child, level + 1, pattern);
+        }
+        Node<T> latest = null;
+        for (int i = 0 ; i < node.noOfChildren ; i++) {
+            if (!pattern.matches(level, node.keys[i])) { continue; }
+            final Node<T> candidate = latestNode(node.children[i], level + 1, pattern);
+            if (null != candidate && (null == latest || candidate.max.compareTo(latest.max) > 0)) { latest = candidate; }
+        }
+        return latest;
+    }
+
+    private static int[] keysOf(final ImmutableVersionNumber version) {
+        return new int[] { version.getFeature(), Math.max(0, version.getInterim()), Math.max(0, version.getUpdate()), Math.max(0, version.getPatch()),
+                           Math.max(0, version.getFifth()), Math.max(0, version.getSixth()), version.hasBuild() ? version.getBuild() : NO_BUILD };
+    }
+
+
+    private static final class Node<T> {
+        private int[]                  keys         = EMPTY_KEYS;
+        private Node<T>[]              children;
+        private int                    noOfChildren;
+        private List<T>                payloads;
+        private ImmutableVersionNumber max;
+        private T                      maxPayload;
+
+
+        private Node<T> getChild(final int key) {
+            final int index = Arrays.binarySearch(keys, 0, noOfChildren, key);
+            return index < 0 ? null : children[index];
+        }
+
+        @SuppressWarnings("unchecked")
+        private Node<T> getOrCreateChild(final int key) {
+            int index = Arrays.binarySearch(keys, 0, noOfChildren, key);
+            if (index >= 0) { return children[index]; }
+            index = -index - 1;
+            if (noOfChildren == keys.length) {
+                final int capacity = Math.max(4, noOfChildren * 2);
+                keys     = Arrays.copyOf(keys, capacity);
+                children = null == children ? (Node<T>[]) new Node<?>[capacity] : Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, index, keys, index + 1, noOfChildren - index);
+            System.arraycopy(children, index, children, index + 1, noOfChildren - index);
+            final Node<T> child = new Node<>();
+            keys[index]     = key;
+            children[index] = child;
+            noOfChildren++;
+            return child;
+        }
+
+        private void updateMax(final ImmutableVersionNumber version, final T payload) {
+            if (null == max || version.compareTo(max) > 0) {
+                max        = version;
+                maxPayload = payload;
+            }
+        }
+    }
+
+
+    private static final class VersionPattern {
+        private final int[] kinds;
+        private final int[] values;
+        private final int[] limits;
+        private final int   length;
+
+
+        private VersionPattern(final int[] kinds, final int[] values, final int[] limits, final int length) {
+            this.kinds  = kinds;
+            this.values = values;
+            this.limits = limits;
+            this.length = length;
+        }
+
+
+        private static VersionPattern compile(final String text) throws IllegalArgumentException {
+            if (null == text || text.isEmpty()) { throw new IllegalArgumentException("Version pattern cannot be null or empty"); }
+            final int[] kinds  = new int[LEVELS];
+            final int[] values = new int[LEVELS];
+            final int[] limits = new int[LEVELS];
+            Arrays.fill(kinds, ANY);
+            int level = 0;
+            int pos   = 0;
+            while (true) {
+                final int start = pos;
+                long      value = 0;
+                while (pos < text.length() && Character.isDigit(text.charAt(pos)) && value <= Integer.MAX_VALUE) { value = value * 10 + (text.charAt(pos++) - '0'); }
+                final int     digits   = pos - start;
+                final boolean wildcard = pos < text.length() && text.charAt(pos) == '*';
+                if (wildcard) { pos++; }
+                if ((0 == digits && !wildcard) || value > Integer.MAX_VALUE) { throw new IllegalArgumentException("Invalid version pattern: " + text); }
+                if (0 == digits) {
+                    kinds[level] = ANY;
+                } else if (wildcard) {
+                    kinds[level]  = PREFIX;
+                    values[level] = (int) value;
+                    limits[level] = digits;
+                } else {
+                    kinds[level]  = EXACT;
+                    values[level] = (int) value;
+                }
+                level++;
+                if (pos == text.length()) { break; }
+                final char separator = text.charAt(pos++);
+                if (separator == '+' && level <= LEVELS - 1) {
+                    level = LEVELS - 1;
+                } else if (separator != '.' || level >= LEVELS - 1) {
+                    throw new IllegalArgumentException("Invalid version pattern: " + text);
+                }
+            }
+            // Trailing wildcards match whole subtrees and don't need to be checked
+            int length = level;
+            while (length > 0 && ANY == kinds[length - 1]) { length--; }
+            return new VersionPattern(kinds, values, limits, length);
+        }
+
+        private boolean matches(final int level, final int key) {
+            switch (kinds[level]) {
+                case EXACT : return key == values[level];
+                case PREFIX: return startsWith(key, values[level], limits[level]);
+                default    : return true;
+            }
+        }
+
+        // True if the decimal representation of the given value starts with the given digits
+        private static boolean startsWith(final int value, final int prefix, final int noOfDigits) {
+            if (value < 0) { return false; }
+            long lowest = 1;
+            for (int i = 1 ; i < noOfDigits ; i++) { lowest *= 10; }
+            if (value < lowest) { return value == prefix && 1 == noOfDigits; }
+            long v = value;
+            while (v >= lowest * 10) { v /= 10; }
+            return v == prefix;
+        }
+    }
+}
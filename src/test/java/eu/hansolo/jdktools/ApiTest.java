@@ -19,8 +19,15 @@
 package eu.hansolo.jdktools;
 
 
+import eu.hansolo.jdktools.scopes.BasicScope;
+import eu.hansolo.jdktools.util.OutputFormat;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 
 class ApiTest {
 
@@ -275,4 +282,27 @@ class ApiTest {
         assert BinaryType.INSTALLER == BinaryType.getFromFileName("OpenJDK17U-jre_x64_linux_hotspot_17.0.3_7.tap.msi");
         assert BinaryType.INSTALLER == BinaryType.getFromFileName("OpenJDK17U-jre_x64_linux_hotspot_17.0.3_7.tap.pkg");
     }
+
+    @Test
+    void apiJsonWriteTo() throws IOException {
+        for (Api api : new Api[] { Architecture.AARCH64, OperatingSystem.LINUX, Verification.YES, Severity.HIGH, TermOfSupport.LTS, BasicScope.PUBLIC }) {
+            assert api.getJson() == api.getJson();
+            for (OutputFormat outputFormat : OutputFormat.values()) {
+                String json = api.toString(outputFormat);
+
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                api.writeTo(outputStream, outputFormat);
+                assert outputStream.toString(StandardCharsets.UTF_8).equals(json);
+
+                ByteBuffer buffer = ByteBuffer.allocate(api.getJson().getByteLength(outputFormat));
+                api.writeTo(buffer, outputFormat);
+                assert !buffer.hasRemaining() && new String(buffer.array(), StandardCharsets.UTF_8).equals(json);
+
+                StringBuilder builder = new StringBuilder();
+                api.writeTo(builder, outputFormat);
+                assert builder.toString().equals(json);
+            }
+        }
+        assert Verification.YES.getAsBoolean() && !Verification.NO.getAsBoolean() && null == Verification.UNKNOWN.getAsBoolean();
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.scopes;
+
+import eu.hansolo.jdktools.Architecture;
+import eu.hansolo.jdktools.ArchiveType;
+import eu.hansolo.jdktools.LibCType;
+import eu.hansolo.jdktools.Match;
+import eu.hansolo.jdktools.OperatingSystem;
+import eu.hansolo.jdktools.PackageType;
+import eu.hansolo.jdktools.ReleaseStatus;
+import eu.hansolo.jdktools.TermOfSupport;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+
+class CompiledScopeTest {
+    private static final long OPEN_JDK_SCOPES = CompiledScope.scopeMask(List.of(BasicScope.PUBLIC, BuildScope.BUILD_OF_OPEN_JDK, UsageScope.FREE_TO_USE_IN_PRODUCTION));
+    private static final long GRAALVM_SCOPES  = CompiledScope.scopeMask(List.of(BuildScope.BUILD_OF_GRAALVM));
+
+
+    @Test
+    void compiledScopeDimensions() {
+        ScopeConfig config = new ScopeConfig();
+        config.setArchitectures(List.of("x64", "aarch64"));
+        config.setOperatingSystems(List.of("linux"));
+        config.setTermsOfSupport(List.of("lts"));
+        CompiledScope compiled = config.compile();
+
+        assert compiled.getArchiveTypes() == CompiledScope.ANY_VALUE;
+        assert compiled.getScopes() == 0;
+        assert compiled.test(Architecture.X64, ArchiveType.TAR_GZ, PackageType.JDK, OperatingSystem.LINUX, LibCType.GLIBC, ReleaseStatus.GA, TermOfSupport.LTS, 0);
+        assert compiled.test(Architecture.AARCH64, null, null, OperatingSystem.LINUX, null, null, TermOfSupport.LTS, GRAALVM_SCOPES);
+        assert !compiled.test(Architecture.ARM, ArchiveType.TAR_GZ, PackageType.JDK, OperatingSystem.LINUX, LibCType.GLIBC, ReleaseStatus.GA, TermOfSupport.LTS, 0);
+        assert !compiled.test(Architecture.X64, ArchiveType.TAR_GZ, PackageType.JDK, OperatingSystem.WINDOWS, LibCType.GLIBC, ReleaseStatus.GA, TermOfSupport.LTS, 0);
+        assert !compiled.test(Architecture.X64, ArchiveType.TAR_GZ, PackageType.JDK, OperatingSystem.LINUX, LibCType.GLIBC, ReleaseStatus.GA, null, 0);
+
+        // Texts that cannot be resolved match nothing
+        config.setLibcTypes(List.of("unknown"));
+        assert !config.compile().test(Architecture.X64, ArchiveType.TAR_GZ, PackageType.JDK, OperatingSystem.LINUX, LibCType.GLIBC, ReleaseStatus.GA, TermOfSupport.LTS, 0);
+        assert compiled.test(Architecture.X64, ArchiveType.TAR_GZ, PackageType.JDK, OperatingSystem.LINUX, LibCType.GLIBC, ReleaseStatus.GA, TermOfSupport.LTS, 0);
+    }
+
+    @Test
+    void compiledScopeMatch() {
+        ScopeConfig config = new ScopeConfig();
+        config.setBasicScopes(List.of("public"));
+        config.setBuildScopes(List.of("build_of_openjdk"));
+
+        config.setMatch("any");
+        CompiledScope any = config.compile();
+        assert any.getMatch() == Match.ANY;
+        assert any.testScopes(OPEN_JDK_SCOPES);
+        assert any.testScopes(CompiledScope.scopeMask(List.of(BasicScope.PUBLIC, BuildScope.BUILD_OF_GRAALVM)));
+        assert !any.testScopes(GRAALVM_SCOPES);
+
+        config.setMatch("all");
+        CompiledScope all = config.compile();
+        assert all.getMatch() == Match.ALL;
+        assert all.testScopes(OPEN_JDK_SCOPES);
+        assert !all.testScopes(CompiledScope.scopeMask(List.of(BasicScope.PUBLIC, BuildScope.BUILD_OF_GRAALVM)));
+
+        config.setUsageScopes(List.of("unknown"));
+        assert !config.compile().testScopes(OPEN_JDK_SCOPES);
+
+        assert CompiledScope.scopeBit(BasicScope.NOT_FOUND) == 0 && CompiledScope.scopeBit(Scope.NOT_FOUND) == 0;
+        assert CompiledScope.scopeBit(BasicScope.PUBLIC) != CompiledScope.scopeBit(BuildScope.BUILD_OF_OPEN_JDK);
+    }
+}
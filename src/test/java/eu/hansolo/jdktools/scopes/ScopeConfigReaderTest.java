@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.scopes;
+
+import eu.hansolo.jdktools.Architecture;
+import eu.hansolo.jdktools.LibCType;
+import eu.hansolo.jdktools.OperatingSystem;
+import eu.hansolo.jdktools.TermOfSupport;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+
+class ScopeConfigReaderTest {
+    private static ScopeConfig createConfig(final String name) {
+        ScopeConfig config = new ScopeConfig();
+        config.setName(name);
+        config.setDistributions(List.of("zulu", "temurin"));
+        config.setBasicScopes(List.of("public", "unknown"));
+        config.setBuildScopes(List.of("build_of_openjdk"));
+        config.setMatch("all");
+        config.setVersion("17.0.2");
+        config.setArchitectures(List.of("x64", "aarch64", "amd64"));
+        config.setOperatingSystems(List.of("linux"));
+        config.setLibcTypes(List.of("musl"));
+        config.setTermsOfSupport(List.of("lts"));
+        config.setBitness("64");
+        return config;
+    }
+
+
+    @Test
+    void scopeConfigReaderReadsToString() throws IOException {
+        ScopeConfig config = createConfig("linux-lts");
+        ScopeConfig read   = new ScopeConfigReader().read(new StringReader(config.toString()));
+        assert read.toString().equals(config.toString());
+        assert read.getArchitectureValues().equals(List.of(Architecture.X64, Architecture.AARCH64, Architecture.AMD64));
+        assert read.getOperatingSystemValues().equals(List.of(OperatingSystem.LINUX));
+        assert read.getLibcTypeValues().equals(List.of(LibCType.MUSL));
+        assert read.getTermOfSupportValues().equals(List.of(TermOfSupport.LTS));
+        assert read.getBasicScopeValues().equals(List.of(BasicScope.PUBLIC));
+        assert read.getBuildScopeValues().equals(List.of(BuildScope.BUILD_OF_OPEN_JDK));
+        assert read.getArchiveTypeValues().isEmpty();
+    }
+
+    @Test
+    void scopeConfigReaderReadsArrays() throws IOException {
+        String            json    = "[" + createConfig("first") + ",\n " + createConfig("zweite Konfiguration \u00e4") + "]";
+        ScopeConfigReader reader  = new ScopeConfigReader();
+        List<ScopeConfig> configs = reader.readAll(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+        assert configs.size() == 2;
+        assert configs.get(1).getName().equals("zweite Konfiguration \u00e4");
+        assert configs.get(0).getDistributions().get(0) == configs.get(1).getDistributions().get(0);
+
+        Path file = Files.createTempFile("scopes", ".json");
+        try {
+            Files.writeString(file, json);
+            List<ScopeConfig> mapped = reader.readAll(file);
+            assert mapped.get(1).toString().equals(configs.get(1).toString());
+        } finally {
+            Files.delete(file);
+        }
+
+        assert reader.readAll(new StringReader(" [ ] ")).isEmpty();
+    }
+
+    @Test
+    void scopeConfigReaderLenientValues() throws IOException {
+        String      json   = "{ \"name\": \"a\\\"b\", \"unknown\": { \"x\": [1, { \"y\": null }] }, \"architectures\": \"x64\", \"libcTypes\": null, \"bitness\": 64, \"distribution\": [null, \"zulu\"] }";
+        ScopeConfig config = new ScopeConfigReader().read(new StringReader(json));
+        assert config.getName().equals("a\"b");
+        assert config.getArchitectureValues().equals(List.of(Architecture.X64));
+        assert config.getLibcTypes().isEmpty();
+        assert config.getBitness().equals("64");
+        assert config.getDistributions().equals(List.of("zulu"));
+
+        for (String invalid : List.of("{", "{\"name\" \"x\"}", "[{},]", "{} {}", "{\"name\":\"x}", "{\"architectures\": x64}", "{\"bitness\": tru}")) {
+            try {
+                new ScopeConfigReader().readAll(new StringReader(invalid));
+                assert false;
+            } catch (IllegalArgumentException e) {
+                assert true;
+            }
+        }
+    }
+}
@@ -50,5 +50,7 @@ class ComparisonTest {
 
         comparison = Comparison.fromText("\u003e.\u003c");
         assert comparison.getOperator().equals(Comparison.RANGE_EXCLUDING.getOperator());
+        assert comparison.isRange();
+        assert !Comparison.GREATER_THAN_OR_EQUAL.isRange();
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import eu.hansolo.jdktools.ReleaseStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+
+class ImmutableSemverTest {
+    @Test
+    void immutableSemverRoundTrip() {
+        List<String> texts = List.of("17.0.1", "11.0.11+9", "21-ea+30", "21-ea", "17.0.2.0.1.3", "21", "11.0.9+b1");
+        for (String text : texts) {
+            Semver          semver    = Semver.fromText(text).getSemver1();
+            ImmutableSemver immutable = semver.toImmutable();
+            assert immutable.toString().equals(semver.toString());
+            assert immutable.toSemver().equals(semver);
+            assert immutable.equals(ImmutableSemver.fromText(text));
+            assert immutable.hashCode() == ImmutableSemver.fromText(text).hashCode();
+            for (String otherText : texts) {
+                Semver other = Semver.fromText(otherText).getSemver1();
+                assert immutable.compareTo(other.toImmutable()) == semver.compareTo(other);
+                assert immutable.compareToIgnoreBuild(other.toImmutable()) == semver.compareToIgnoreBuild(other);
+            }
+        }
+    }
+
+    @Test
+    void immutableSemverIncrements() {
+        ImmutableSemver semver = ImmutableSemver.fromText("17.0.2-ea+3");
+        ImmutableSemver next   = semver.incUpdate();
+        assert semver.toString().equals("17.0.2-ea+3");
+        assert next.toString().equals("17.0.3");
+        assert ReleaseStatus.GA == next.getReleaseStatus();
+        assert next.incUpdate().toString().equals("17.0.4");
+        assert next.incFeature().toString().equals("18");
+        assert semver.incSixth().toString().equals("17.0.2");
+        assert next.withUpdate(3) == next;
+        assert next.withPatch(1).compareTo(next) > 0;
+
+        ImmutableSemver withMetadata = next.withMetadata("+b12");
+        assert withMetadata.getVersionNumber() == next.getVersionNumber();
+        assert withMetadata.withPatch(1).getMetadata() == withMetadata.getMetadata();
+
+        ImmutableSemver beta = next.withPre("-ea.beta");
+        assert ReleaseStatus.EA == beta.getReleaseStatus();
+        assert beta.compareToIgnoreBuild(next.withPre("-ea.alpha")) > 0;
+        assert beta.withPatch(1).compareToIgnoreBuild(beta) > 0;
+
+        try {
+            next.withPre("-ea.01");
+            assert false;
+        } catch (IllegalArgumentException e) {
+            assert true;
+        }
+    }
+}
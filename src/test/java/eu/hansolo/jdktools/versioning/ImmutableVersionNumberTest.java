@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import eu.hansolo.jdktools.ReleaseStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+class ImmutableVersionNumberTest {
+    @Test
+    void immutableVersionNumberRoundTrip() {
+        List<String> texts = List.of("17.0.1", "11.0.11+9", "1.8.0_392-b08", "21-ea+30", "21-ea", "17.0.2.0.1.3", "21");
+        for (String text : texts) {
+            VersionNumber          versionNumber = VersionNumber.fromText(text);
+            ImmutableVersionNumber immutable     = versionNumber.toImmutable();
+            VersionNumber          converted     = immutable.toVersionNumber();
+            assert converted.getFeature().equals(versionNumber.getFeature());
+            assert converted.getInterim().equals(versionNumber.getInterim());
+            assert converted.getUpdate().equals(versionNumber.getUpdate());
+            assert converted.getPatch().equals(versionNumber.getPatch());
+            assert converted.getFifth().equals(versionNumber.getFifth());
+            assert converted.getSixth().equals(versionNumber.getSixth());
+            assert converted.getBuild().equals(versionNumber.getBuild());
+            assert converted.getReleaseStatus().equals(versionNumber.getReleaseStatus());
+            assert immutable.toString().equals(versionNumber.toString());
+            assert immutable.equals(ImmutableVersionNumber.fromText(text));
+            assert immutable.hashCode() == ImmutableVersionNumber.fromText(text).hashCode();
+        }
+    }
+
+    @Test
+    void immutableVersionNumberWith() {
+        ImmutableVersionNumber versionNumber = ImmutableVersionNumber.of(17, 0, 1, 0);
+        assert versionNumber.withUpdate(1) == versionNumber;
+
+        ImmutableVersionNumber next = versionNumber.withUpdate(2).withBuild(8);
+        assert versionNumber.getUpdate() == 1;
+        assert !versionNumber.hasBuild();
+        assert next.getUpdate() == 2;
+        assert next.getBuild() == 8;
+        assert next.compareTo(versionNumber) > 0;
+
+        ImmutableVersionNumber ea = next.withReleaseStatus(ReleaseStatus.EA);
+        assert ea.isEarlyAccess();
+        assert ea.compareTo(next) < 0;
+        assert !ea.equals(next);
+
+        try {
+            versionNumber.withFeature(0);
+            assert false;
+        } catch (IllegalArgumentException e) {
+            assert true;
+        }
+    }
+
+    @Test
+    void immutableVersionNumberOrdering() {
+        List<VersionNumber> versionNumbers = new ArrayList<>(List.of(VersionNumber.fromText("11"),
+                                                                     VersionNumber.fromText("11.0.8-ea+3"),
+                                                                     VersionNumber.fromText("11.0.8-ea+12"),
+                                                                     VersionNumber.fromText("11.0.8-ea"),
+                                                                     VersionNumber.fromText("11.0.8"),
+                                                                     VersionNumber.fromText("11.0.8+10"),
+                                                                     VersionNumber.fromText("11.0.8.2"),
+                                                                     VersionNumber.fromText("17-ea+30"),
+                                                                     VersionNumber.fromText("17.0.2.0.1.3"),
+                                                                     new VersionNumber(17, 0, 2, 0, 1, 3, 5, ReleaseStatus.EA)));
+        VersionNumber partial = new VersionNumber(17);
+        partial.setUpdate(null);
+        versionNumbers.add(partial);
+
+        for (VersionNumber v1 : versionNumbers) {
+            for (VersionNumber v2 : versionNumbers) {
+                assert v1.compareTo(v2) == v1.toImmutable().compareTo(v2.toImmutable());
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import eu.hansolo.jdktools.Latest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+
+class LatestResolverTest {
+    // Payloads in the form distribution:version
+    private static final List<String> PACKAGES = List.of("zulu:17.0.1", "temurin:17.0.2", "zulu:11.0.20", "temurin:11.0.19", "zulu:17.0.2", "temurin:21", "zulu:17.0.2", "corretto:11.0.20");
+
+
+    private static String distribution(final String payload) { return payload.substring(0, payload.indexOf(':')); }
+
+    private static VersionNumber versionNumber(final String payload) { return VersionNumber.fromText(payload.substring(payload.indexOf(':') + 1)); }
+
+    private static List<String> resolve(final Latest latest) {
+        return LatestResolver.resolve(PACKAGES.stream(), latest, LatestResolverTest::distribution, LatestResolverTest::versionNumber);
+    }
+
+
+    @Test
+    void latestResolverModes() {
+        assert resolve(Latest.OVERALL).equals(List.of("temurin:21"));
+        assert resolve(Latest.PER_DISTRIBUTION).equals(List.of("zulu:17.0.2", "zulu:17.0.2", "temurin:21", "corretto:11.0.20"));
+        assert resolve(Latest.PER_VERSION).equals(List.of("temurin:17.0.2", "zulu:17.0.2", "zulu:17.0.2", "zulu:11.0.20", "corretto:11.0.20", "temurin:21"));
+        assert resolve(Latest.AVAILABLE).equals(List.of("zulu:17.0.2", "zulu:17.0.2", "temurin:17.0.2", "zulu:11.0.20", "temurin:11.0.19", "temurin:21", "corretto:11.0.20"));
+
+        VersionNumber v11 = new VersionNumber(11);
+        v11.setInterim(null);
+        v11.setUpdate(null);
+        v11.setPatch(null);
+        assert LatestResolver.resolve(PACKAGES.stream(), Latest.ALL_OF_VERSION, v11, LatestResolverTest::distribution, LatestResolverTest::versionNumber)
+                             .equals(List.of("zulu:11.0.20", "temurin:11.0.19", "corretto:11.0.20"));
+    }
+
+    @Test
+    void latestResolverCombine() {
+        LatestResolver<String> first  = LatestResolver.create(Latest.PER_DISTRIBUTION);
+        LatestResolver<String> second = LatestResolver.create(Latest.PER_DISTRIBUTION);
+        for (int i = 0 ; i < PACKAGES.size() ; i++) {
+            String payload = PACKAGES.get(i);
+            (i < 4 ? first : second).add(distribution(payload), versionNumber(payload), payload);
+        }
+        assert first.combine(second).getResults().equals(resolve(Latest.PER_DISTRIBUTION));
+
+        try {
+            LatestResolver.create(Latest.ALL_OF_VERSION);
+            assert false;
+        } catch (IllegalArgumentException e) {
+            assert true;
+        }
+    }
+}
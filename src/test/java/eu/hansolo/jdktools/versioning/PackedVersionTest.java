@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import eu.hansolo.jdktools.ReleaseStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+
+class PackedVersionTest {
+    @Test
+    void packedVersionRoundTrip() {
+        List<String> texts = List.of("17.0.1", "11.0.11+9", "1.8.0_392-b08", "21-ea+30", "21-ea", "17.0.2.0.1.3", "21");
+        for (String text : texts) {
+            VersionNumber versionNumber = VersionNumber.fromText(text);
+            PackedVersion packed        = PackedVersion.fromVersionNumber(versionNumber);
+            VersionNumber unpacked      = packed.toVersionNumber();
+            assert unpacked.getFeature().equals(versionNumber.getFeature());
+            assert unpacked.getInterim().equals(versionNumber.getInterim());
+            assert unpacked.getUpdate().equals(versionNumber.getUpdate());
+            assert unpacked.getPatch().equals(versionNumber.getPatch());
+            assert unpacked.getFifth().equals(versionNumber.getFifth());
+            assert unpacked.getSixth().equals(versionNumber.getSixth());
+            assert unpacked.getBuild().equals(versionNumber.getBuild());
+            assert unpacked.getReleaseStatus().equals(versionNumber.getReleaseStatus());
+            assert packed.equals(PackedVersion.fromVersionNumber(unpacked));
+        }
+
+        Semver        semver = SemverParser.fromText("11.0.8-ea+5").getSemver1();
+        PackedVersion packed = PackedVersion.fromSemver(semver);
+        assert packed.isEarlyAccess();
+        assert 0 == packed.toSemver().compareTo(semver);
+    }
+
+    @Test
+    void packedVersionOrdering() {
+        List<VersionNumber> versionNumbers = List.of(VersionNumber.fromText("11"),
+                                                     VersionNumber.fromText("11.0.8-ea+3"),
+                                                     VersionNumber.fromText("11.0.8-ea+12"),
+                                                     VersionNumber.fromText("11.0.8"),
+                                                     VersionNumber.fromText("11.0.8.2"),
+                                                     VersionNumber.fromText("11.0.9"),
+                                                     VersionNumber.fromText("17-ea+30"),
+                                                     VersionNumber.fromText("17"),
+                                                     VersionNumber.fromText("17.0.1"));
+        for (VersionNumber v1 : versionNumbers) {
+            for (VersionNumber v2 : versionNumbers) {
+                int expected = v1.compareTo(v2);
+                int packed   = PackedVersion.fromVersionNumber(v1).compareTo(PackedVersion.fromVersionNumber(v2));
+                assert Integer.signum(packed) == Integer.signum(expected);
+                assert Integer.signum(packed) == Integer.signum(PackedVersion.compare(PackedVersion.high(v1), PackedVersion.low(v1), PackedVersion.high(v2), PackedVersion.low(v2)));
+            }
+        }
+    }
+
+    @Test
+    void packedVersionLimits() {
+        assert PackedVersion.of(PackedVersion.MAX_SEGMENT, 0, 0, 0, 0, 0, ReleaseStatus.EA, PackedVersion.MAX_BUILD).getBuild().getAsInt() == PackedVersion.MAX_BUILD;
+        assert !PackedVersion.isPackable(new VersionNumber(70000, 0, 0, 0));
+        try {
+            PackedVersion.fromVersionNumber(new VersionNumber(70000, 0, 0, 0));
+            assert false;
+        } catch (IllegalArgumentException e) {
+            assert true;
+        }
+    }
+}
@@ -23,6 +23,8 @@ import eu.hansolo.jdktools.util.Comparison;
 import eu.hansolo.jdktools.util.OutputFormat;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -208,6 +210,57 @@ class SemverTest {
         assert semver1.toString(true).equals("10-ea+001.2.3");
     }
 
+    @Test
+    void semverFromRegionAndBytes() {
+        final String text  = "range: >11.0.8-ea+meta<=11.0.9.1-ea+meta;";
+        final int    start = text.indexOf('>');
+        final int    end   = text.indexOf(';');
+
+        SemverParsingResult result1 = SemverParser.fromText(text.substring(start, end));
+        SemverParsingResult result2 = SemverParser.fromText(text, start, end);
+        SemverParsingResult result3 = Semver.fromAscii(ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII), start, end - start));
+
+        assert result1.getSemver1().toString().equals(result2.getSemver1().toString());
+        assert result1.getSemver2().toString().equals(result2.getSemver2().toString());
+        assert result1.getSemver1().toString().equals(result3.getSemver1().toString());
+        assert result1.getSemver2().toString().equals(result3.getSemver2().toString());
+
+        assert Semver.fromText(new StringBuilder("x1.8.0_262x"), 1, 10).getSemver1().toString().equals("8.0.262");
+    }
+
+    @Test
+    void semverParserEdgeCases() {
+        SemverParsingResult range = SemverParser.fromText(">=11<17");
+        assert range.getSemver1().toString().equals(">=11");
+        assert range.getSemver2().toString().equals("<17");
+        assert range.getFilter().test(new Semver(new VersionNumber(11, 0, 8, 0)));
+        assert !range.getFilter().test(new Semver(new VersionNumber(17, 0, 1, 0)));
+
+        assert SemverParser.fromText("11.0.9\n").getSemver1().toString().equals("11.0.9");
+        assert SemverParser.fromText("11.0.9-0").getError1().getMessage().equals("Segment starts with 0: 0");
+        assert SemverParser.fromText("99999999999.1").getError1().getMessage().startsWith("Error when parsing feature version 99999999999: java.lang.NumberFormatException");
+        assert SemverParser.fromText("11.x").getError1().getMessage().equals("Invalid semver: 11.x");
+
+        Semver semver = SemverParser.fromText("11-ea+b12").getSemver1();
+        assert ReleaseStatus.EA == semver.getReleaseStatus();
+        assert semver.getPreBuild().equals("12");
+        assert semver.getMetadata().equals("+b12");
+    }
+
+    @Test
+    void semverParseAll() {
+        List<String>                     texts   = List.of("11.0.9-ea+b1", ">11.0.8-ea+meta<=11.0.9.1-ea+meta", "11.x", "21.0.1+12");
+        ParseResults<SemverParsingResult> results = Semver.parseAll(texts);
+        assert results.size() == 4;
+        assert results.get(0).getSemver1().toString().equals(SemverParser.fromText(texts.get(0)).getSemver1().toString());
+        assert results.get(1).getSemver2().toString().equals(SemverParser.fromText(texts.get(1)).getSemver2().toString());
+        assert results.get(3).getSemver1().getFeature() == 21;
+        assert results.getErrorCount() == 1;
+        assert results.getErrorIndices()[0] == 2;
+        assert null == results.get(2);
+        assert results.getErrorMessage(2).startsWith("Error parsing Semver from text.");
+    }
+
     @Test
     public void zeroBuildNumber() {
         VersionNumber versionNumber1 = VersionNumber.fromText("8.0.202+0");
@@ -260,4 +313,148 @@ class SemverTest {
         assert semver5.getBuild().equals("13.5");
         assert semver5.getOpt().equals("LTS");
     }
+
+    @Test
+    public void semverRange() {
+        List<Semver> sorted = List.of("11.0.7", "11.0.8", "11.0.9", "15.0.2", "17-ea+5", "17", "17.0.1", "21").stream()
+                                  .map(text -> SemverParser.fromText(text).getSemver1())
+                                  .sorted()
+                                  .collect(Collectors.toList());
+
+        SemverParsingResult result = SemverParser.fromText(">=11.0.8<17");
+        SemverRange         range  = result.getRange();
+        assert range.getLower() == result.getSemver1();
+        assert range.isLowerInclusive();
+        assert range.getUpper() == result.getSemver2();
+        assert !range.isUpperInclusive();
+        assert result.getFilter() == range;
+        assert range.select(sorted).stream().map(semver -> semver.toString(true)).collect(Collectors.toList()).equals(List.of("11.0.8", "11.0.9", "15.0.2", "17-ea+5"));
+        assert sorted.stream().filter(range).count() == range.select(sorted).size();
+        assert range.toString().equals(">=11.0.8<17");
+
+        range = SemverParser.fromText(">11.0.8").getRange();
+        assert range.hasLowerBound() && !range.hasUpperBound();
+        assert range.fromIndex(sorted) == 2;
+        assert range.toIndex(sorted) == sorted.size();
+        assert range.select(sorted.toArray(new Semver[0])).length == 6;
+
+        range = SemverParser.fromText("<=17").getRange();
+        assert range.select(sorted).size() == 6;
+        assert range.contains(SemverParser.fromText("17").getSemver1());
+        assert !range.contains(SemverParser.fromText("17.0.1").getSemver1());
+
+        result = SemverParser.fromText("15.0.2");
+        assert null == result.getFilter();
+        assert result.getRange().select(sorted).size() == 1;
+        assert result.getRange().toString().equals("15.0.2");
+
+        SemverParsingResult copy = new SemverParsingResult(SemverParser.fromText(">11<=17"));
+        assert copy.getRange().getLower() == copy.getSemver1();
+        assert copy.getRange().getUpper() == copy.getSemver2();
+        assert copy.getFilter() == copy.getRange();
+
+        assert new SemverRange(null, true, null, true).select(sorted).size() == sorted.size();
+        assert SemverRange.greaterThan(sorted.get(sorted.size() - 1)).select(sorted).isEmpty();
+    }
+
+    @Test
+    public void semverRangeOperators() {
+        List<Semver> sorted = List.of("11", "11.0.9", "15.0.2", "17-ea+5", "17", "17.0.1", "21", "22").stream()
+                                  .map(text -> SemverParser.fromText(text).getSemver1())
+                                  .sorted()
+                                  .collect(Collectors.toList());
+
+        SemverParsingResult result = SemverParser.fromText("17...21");
+        assert null == result.getError1() && null == result.getError2();
+        assert result.getSemver1().getComparison() == Comparison.GREATER_THAN_OR_EQUAL;
+        assert result.getSemver2().getComparison() == Comparison.LESS_THAN_OR_EQUAL;
+        assert result.getRange().getComparison() == Comparison.RANGE_INCLUDING;
+        assert result.getRange().select(sorted).size() == 3;
+        assert result.getFilter().test(result.getSemver2());
+
+        result = SemverParser.fromText("11..<17");
+        assert result.getRange().getComparison() == Comparison.RANGE_EXCLUDING_TO;
+        assert result.getRange().select(sorted).size() == 4;
+
+        result = SemverParser.fromText("11>..17");
+        assert result.getRange().getComparison() == Comparison.RANGE_EXCLUDING_FROM;
+        assert result.getRange().select(sorted).size() == 4;
+
+        result = SemverParser.fromText("11>.<17");
+        assert result.getRange().getComparison() == Comparison.RANGE_EXCLUDING;
+        assert result.getRange().select(sorted).size() == 3;
+        assert sorted.stream().filter(result.getFilter()).count() == 3;
+
+        result = SemverParser.fromText("17..<17");
+        assert result.getRange().isEmpty();
+        assert result.getRange().select(sorted).isEmpty();
+
+        assert null != SemverParser.fromText("21...17").getError2();
+        assert null != SemverParser.fromText(">=11...17").getError1();
+        assert null != SemverParser.fromText("11...<17").getError2();
+        assert null != SemverParser.fromText("11..17").getError1();
+        assert SemverParser.fromText("17...").getError2().getMessage().equals("Invalid range bound: missing upper bound in 17...");
+        assert SemverParser.fromText("17..<").getError2().getMessage().equals("Invalid range bound: missing upper bound in 17..<");
+        assert SemverParser.fromText("...17").getError1().getMessage().equals("Invalid range bound: missing lower bound in ...17");
+        assert SemverParser.fromText(">..17").getError1().getMessage().equals("Invalid range bound: missing lower bound in >..17");
+    }
+
+    @Test
+    public void semverPreReleasePrecedence() {
+        // Example from the SemVer 2.0 specification
+        List<String> pres = List.of("alpha", "alpha.1", "alpha.beta", "beta", "beta.2", "beta.11", "rc.1");
+        List<Semver> semvers = pres.stream().map(pre -> {
+            Semver semver = new Semver(new VersionNumber(1, 0, 0));
+            semver.setPre(pre);
+            return semver;
+        }).collect(Collectors.toList());
+        for (int i = 0 ; i < semvers.size() ; i++) {
+            for (int j = 0 ; j < semvers.size() ; j++) {
+                assert semvers.get(i).compareToIgnoreBuild(semvers.get(j)) == Integer.compare(i, j);
+            }
+            assert semvers.get(i).compareToIgnoreBuild(new Semver(new VersionNumber(1, 0, 0))) == -1;
+        }
+
+        Semver semver = new Semver(new VersionNumber(1, 0, 0));
+        semver.setPre("beta.99999999999999999999");
+        assert semver.compareToIgnoreBuild(semvers.get(5)) == 1;
+        semvers.get(5).setPre("beta.100000000000000000000");
+        assert semver.compareToIgnoreBuild(semvers.get(5)) == -1;
+    }
+
+    @Test
+    public void semverOfVersionNumber() {
+        for (String text : List.of("17.0.2", "21-ea+30", "11.0.9+b1", "1.8.0_392-b08", "21-ea", "17.0.2.0.1.3")) {
+            Semver semver = Semver.of(VersionNumber.fromText(text));
+            Semver parsed = new Semver(VersionNumber.fromText(text));
+            assert semver.equals(parsed);
+            assert semver.toString().equals(parsed.toString());
+            assert semver.getPreBuild().equals(parsed.getPreBuild());
+            assert semver.getMetadata().equals(parsed.getMetadata());
+        }
+
+        Semver ea = Semver.of(new VersionNumber(21), ReleaseStatus.EA, 12);
+        assert ea.getPre().equals("-ea");
+        assert ea.getPreBuildAsInt() == 12;
+        assert ea.compareTo(Semver.of(new VersionNumber(21), ReleaseStatus.EA, 3)) > 0;
+        assert ea.compareTo(Semver.of(new VersionNumber(21), ReleaseStatus.GA, 0)) < 0;
+    }
+
+    @Test
+    void semverAppendTo() {
+        for (String text : List.of(">=11.0.9.0-ea+b1", "17.0.2+8", "21-ea+30", "1.2.3-alpha.1+build.5", "<21", "17.0.1-beta")) {
+            Semver semver = Semver.fromText(text).getSemver1();
+            assert semver.appendTo(new StringBuilder(), true).toString().equals(semver.toString(true));
+            ByteBuffer buffer = semver.writeAscii(ByteBuffer.allocate(64), false);
+            assert new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII).equals(semver.toString(false));
+        }
+        assert Semver.fromText("17.0.1-beta").getSemver1().appendTo(new StringBuilder(), true).toString().equals("17.0.1+beta");
+
+        try {
+            Semver.fromText("17.0.2+8").getSemver1().writeAscii(ByteBuffer.allocate(4), true);
+            assert false;
+        } catch (java.nio.BufferOverflowException e) {
+            assert true;
+        }
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import eu.hansolo.jdktools.ReleaseStatus;
+import eu.hansolo.jdktools.util.Comparison;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+
+class VersionCodecTest {
+
+    @Test
+    void versionCodecVersionNumberRoundTrip() throws IOException {
+        for (String text : List.of("17.0.2", "21-ea+30", "11.0.9.1.0.3", "8.0.392+8", "21")) {
+            VersionNumber versionNumber = VersionNumber.fromText(text);
+            versionNumber.setFifth(null);
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            VersionCodec.encode(versionNumber, new DataOutputStream(bytes));
+            VersionNumber decoded = VersionCodec.decodeVersionNumber(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+            assert decoded.compareTo(versionNumber) == 0;
+            assert decoded.getFifth().isEmpty();
+            assert decoded.getBuild().equals(versionNumber.getBuild());
+            assert decoded.getReleaseStatus().equals(versionNumber.getReleaseStatus());
+
+            ByteBuffer buffer = ByteBuffer.allocate(32);
+            VersionCodec.encode(versionNumber, buffer);
+            assert buffer.position() == bytes.size();
+            assert VersionCodec.decodeVersionNumber(buffer.flip()).compareTo(versionNumber) == 0;
+            assert !buffer.hasRemaining();
+        }
+    }
+
+    @Test
+    void versionCodecSemverRoundTrip() {
+        Semver semver = SemverParser.fromText(">=11.2.3-alpha.1+build.5").getSemver1();
+        semver.setOpt("+x");
+        semver.setBuild("7");
+        Semver decoded = VersionCodec.decodeSemver(ByteBuffer.wrap(VersionCodec.toBytes(semver)));
+        assert decoded.equals(semver);
+        assert decoded.getComparison() == Comparison.GREATER_THAN_OR_EQUAL;
+        assert decoded.getOpt().equals(semver.getOpt());
+        assert decoded.getBuild().equals("7");
+        assert decoded.toString().equals(semver.toString());
+
+        Semver ea = Semver.of(new VersionNumber(21), ReleaseStatus.EA, 12);
+        assert VersionCodec.decodeSemver(ByteBuffer.wrap(VersionCodec.toBytes(ea))).compareTo(ea) == 0;
+    }
+
+    @Test
+    void versionCodecParsingResultRoundTrip() {
+        SemverParsingResult range   = SemverParser.fromText("11.0.8..<17");
+        SemverParsingResult decoded = VersionCodec.decodeParsingResult(ByteBuffer.wrap(VersionCodec.toBytes(range)));
+        assert decoded.getSemver1().equals(range.getSemver1()) && decoded.getSemver2().equals(range.getSemver2());
+        assert decoded.getRange().getLower() == decoded.getSemver1();
+        assert decoded.getFilter() == decoded.getRange();
+        assert decoded.getRange().test(SemverParser.fromText("16.0.2").getSemver1());
+        assert !decoded.getRange().test(SemverParser.fromText("17").getSemver1());
+
+        SemverParsingResult invalid = SemverParser.fromText("x17");
+        assert VersionCodec.decodeParsingResult(ByteBuffer.wrap(VersionCodec.toBytes(invalid))).getError1().getMessage().equals(invalid.getError1().getMessage());
+    }
+
+    @Test
+    void versionCodecRejectsOtherData() throws IOException {
+        byte[] bytes = VersionCodec.toBytes(VersionNumber.fromText("17.0.2"));
+        try {
+            VersionCodec.decodeSemver(ByteBuffer.wrap(bytes));
+            assert false;
+        } catch (IllegalArgumentException e) {
+            assert true;
+        }
+
+        bytes[0] = (byte) ((VersionCodec.FORMAT_VERSION + 1) << 4 | bytes[0] & 0x0F);
+        try {
+            VersionCodec.decodeVersionNumber(ByteBuffer.wrap(bytes));
+            assert false;
+        } catch (IllegalArgumentException e) {
+            assert true;
+        }
+
+        SemverParsingResult result = SemverParser.fromText("17.0.2");
+        result.setFilter(semver -> true);
+        try {
+            VersionCodec.toBytes(result);
+            assert false;
+        } catch (IllegalArgumentException e) {
+            assert true;
+        }
+
+        // Feature number with the sign bit set
+        byte[] negative = { 0x11, 0x01, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F };
+        try {
+            VersionCodec.decodeVersionNumber(ByteBuffer.wrap(negative));
+            assert false;
+        } catch (IllegalArgumentException e) {
+            assert true;
+        }
+        try {
+            VersionCodec.decodeVersionNumber(new DataInputStream(new ByteArrayInputStream(negative)));
+            assert false;
+        } catch (IllegalArgumentException e) {
+            assert true;
+        }
+    }
+
+    @Test
+    void versionCodecChecksStringLength() throws IOException {
+        Semver semver = Semver.of(new VersionNumber(17, 0, 2));
+        semver.setOpt("~");
+        byte[] bytes = VersionCodec.toBytes(semver);
+        assert bytes[bytes.length - 2] == 2 && bytes[bytes.length - 1] == '~';
+
+        // Opt claims 0x7FFFFFFD bytes
+        byte[] hostile = Arrays.copyOf(bytes, bytes.length + 3);
+        System.arraycopy(new byte[] { (byte) 0xFE, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 }, 0, hostile, bytes.length - 2, 5);
+        try {
+            VersionCodec.decodeSemver(ByteBuffer.wrap(hostile));
+            assert false;
+        } catch (IllegalArgumentException e) {
+            assert true;
+        }
+        try {
+            VersionCodec.decodeSemver(new DataInputStream(new ByteArrayInputStream(hostile)));
+            assert false;
+        } catch (IllegalArgumentException e) {
+            assert true;
+        }
+
+        // Opt claims 100 bytes but the data ends after the length
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+        truncated[truncated.length - 1] = 101;
+        try {
+            VersionCodec.decodeSemver(ByteBuffer.wrap(truncated));
+            assert false;
+        } catch (BufferUnderflowException e) {
+            assert true;
+        }
+        try {
+            VersionCodec.decodeSemver(new DataInputStream(new ByteArrayInputStream(truncated)));
+            assert false;
+        } catch (EOFException e) {
+            assert true;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+
+class VersionCollectorsTest {
+    private static final List<String> VERSIONS = List.of("17.0.2", "11.0.9", "21-ea+30", "17.0.1", "8.0.392", "17.0.3-ea+2", "11.0.20", "21-ea+12", "21");
+
+
+    private static List<VersionNumber> versionNumbers() { return VERSIONS.stream().map(VersionNumber::fromText).toList(); }
+
+    private static boolean isVersion(final VersionNumber versionNumber, final String text) { return 0 == versionNumber.compareTo(VersionNumber.fromText(text)); }
+
+    private static List<Semver> semvers() { return VERSIONS.stream().map(text -> SemverParser.fromText(text).getSemver1()).toList(); }
+
+
+    @Test
+    void versionCollectorsMinMaxTopK() {
+        assert isVersion(versionNumbers().stream().collect(VersionCollectors.maxVersion()).get(), "21");
+        assert isVersion(versionNumbers().parallelStream().collect(VersionCollectors.minVersion()).get(), "8.0.392");
+        assert semvers().stream().collect(VersionCollectors.maxVersion()).get().toString(true).equals("21");
+        assert List.<Semver>of().stream().collect(VersionCollectors.maxVersion()).isEmpty();
+
+        List<VersionNumber> top3 = versionNumbers().parallelStream().collect(VersionCollectors.topK(3));
+        assert top3.size() == 3 && isVersion(top3.get(0), "21") && isVersion(top3.get(1), "21-ea+30") && isVersion(top3.get(2), "21-ea+12");
+        assert versionNumbers().stream().collect(VersionCollectors.topK(0)).isEmpty();
+        assert versionNumbers().stream().collect(VersionCollectors.topK(20)).size() == VERSIONS.size();
+    }
+
+    @Test
+    void versionCollectorsGrouping() {
+        Map<Integer, Optional<Semver>> latestPerFeature = semvers().parallelStream().collect(VersionCollectors.groupingByFeature(Semver::getFeature, VersionCollectors.maxVersion()));
+        assert latestPerFeature.keySet().stream().toList().equals(List.of(8, 11, 17, 21));
+        assert latestPerFeature.get(17).get().toString(true).equals("17.0.3-ea+2");
+
+        Map<Integer, Long> counts = versionNumbers().stream().collect(VersionCollectors.groupingByFeature(versionNumber -> versionNumber.getFeature().getAsInt(), Collectors.counting()));
+        assert counts.equals(Map.of(8, 1L, 11, 2L, 17, 3L, 21, 3L));
+
+        Map<SimpleMajorVersion, VersionNumber> latestPerMajor = versionNumbers().parallelStream().collect(VersionCollectors.groupingBySimpleMajorVersion(versionNumber -> versionNumber.getFeature().getAsInt()));
+        assert latestPerMajor.size() == 4;
+        assert isVersion(latestPerMajor.get(new SimpleMajorVersion(11)), "11.0.20");
+        assert latestPerMajor.keySet().iterator().next().getAsInt() == 8;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import eu.hansolo.jdktools.ReleaseStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+
+class VersionIndexTest {
+    private static final List<String> VERSIONS = List.of("17.0.2", "11.0.9", "21-ea+30", "17.0.1", "8.0.392+8", "17.0.3-ea+2", "11.0.20", "21-ea+12", "17.0.2");
+
+
+    @Test
+    void versionIndexQueries() {
+        VersionIndex<String> index = VersionIndex.fromVersionNumbers(VERSIONS, VersionNumber::fromText);
+        assert index.size() == VERSIONS.size();
+        assert index.getPayloads().equals(List.of("8.0.392+8", "11.0.9", "11.0.20", "17.0.1", "17.0.2", "17.0.2", "17.0.3-ea+2", "21-ea+12", "21-ea+30"));
+
+        assert index.floor(VersionNumber.fromText("17.0.1")).get().equals("17.0.1");
+        assert index.floor(VersionNumber.fromText("16")).get().equals("11.0.20");
+        assert index.floor(VersionNumber.fromText("8")).isEmpty();
+        assert index.ceiling(VersionNumber.fromText("12")).get().equals("17.0.1");
+        assert index.ceiling(VersionNumber.fromText("22")).isEmpty();
+        assert index.floorIndex(VersionNumber.fromText("17.0.2")) == 5;
+        assert index.ceilingIndex(VersionNumber.fromText("17.0.2")) == 4;
+
+        assert index.range(VersionNumber.fromText("11"), true, VersionNumber.fromText("17.0.2"), false).equals(List.of("11.0.9", "11.0.20", "17.0.1"));
+        assert index.range(VersionNumber.fromText("17.0.2"), false, null, false).equals(List.of("17.0.3-ea+2", "21-ea+12", "21-ea+30"));
+        assert index.range(VersionNumber.fromText("21"), true, VersionNumber.fromText("11"), true).isEmpty();
+        assert index.range(SemverParser.fromText("11..<17").getRange()).equals(List.of("11.0.9", "11.0.20"));
+
+        assert index.latest().get().equals("21-ea+30");
+        assert index.latest(17).get().equals("17.0.3-ea+2");
+        assert index.latest(17, ReleaseStatus.GA).get().equals("17.0.2");
+        assert index.latest(21, ReleaseStatus.GA).isEmpty();
+        assert index.latest(21, ReleaseStatus.EA).get().equals("21-ea+30");
+        assert index.latest(ReleaseStatus.GA).get().equals("17.0.2");
+        assert index.latest(9).isEmpty();
+
+        Map<Integer, String> latestPerFeature = index.latestPerFeature();
+        assert latestPerFeature.keySet().stream().toList().equals(List.of(21, 17, 11, 8));
+        assert latestPerFeature.get(11).equals("11.0.20");
+        assert latestPerFeature.get(8).equals("8.0.392+8");
+    }
+
+    @Test
+    void versionIndexFromSemvers() {
+        VersionIndex<Semver> index = VersionIndex.fromSemvers(VERSIONS.stream().map(text -> SemverParser.fromText(text).getSemver1()).toList(), semver -> semver);
+        assert index.latest(21).get().toString(true).equals("21-ea+30");
+        assert index.latest(ReleaseStatus.EA).get().toString(true).equals("21-ea+30");
+        assert VersionIndex.fromSemvers(List.<Semver>of(), semver -> semver).latest().isEmpty();
+    }
+}
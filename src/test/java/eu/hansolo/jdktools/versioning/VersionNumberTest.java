@@ -22,6 +22,11 @@ import eu.hansolo.jdktools.ReleaseStatus;
 import eu.hansolo.jdktools.util.OutputFormat;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -311,6 +316,98 @@ class VersionNumberTest {
         assert VersionNumber.fromText(versionNumber5String).toString().equals(versionNumber5.toString());
     }
 
+    @Test
+    void versionNumberFromTextResultToMatch() {
+        final String text = "jdk-11.0.11+9_linux-17.0.1";
+
+        assert VersionNumber.fromText(text, 0).toString().equals("11.0.11.0");
+        assert VersionNumber.fromText(text, 1).toString().equals("17.0.1.0");
+        assert VersionNumber.fromText(text, 5).toString().equals("11.0.11.0");
+
+        assert VersionNumber.fromText("11.0.2.0.1.5.6.7.8.9").toString(OutputFormat.FULL, false, true).equals("11.0.2.0.1.5");
+        assert VersionNumber.fromText("21-ea+30").toString().equals("21.0.0.0-ea+30");
+
+        try {
+            VersionNumber.fromText("no version");
+            assert false;
+        } catch (IllegalArgumentException e) {
+            assert e.getMessage().startsWith("No suitable version number found");
+        }
+    }
+
+    @Test
+    void versionNumberFromRegionAndBytes() {
+        final String        line     = "openjdk version 1.8.0_392-b08 (build)";
+        final int           start    = line.indexOf("1.8");
+        final int           end      = line.indexOf(" (build)");
+        final VersionNumber expected = VersionNumber.fromText(line.substring(start, end));
+
+        assert VersionNumber.fromText(line, start, end).compareTo(expected) == 0;
+        assert VersionNumber.fromText(new StringBuilder(line), start, end).compareTo(expected) == 0;
+
+        final byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+        assert VersionNumber.fromAscii(bytes, start, end - start).compareTo(expected) == 0;
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        buffer.position(start).limit(end);
+        assert VersionNumber.fromAscii(buffer).compareTo(expected) == 0;
+        assert buffer.position() == start && buffer.limit() == end;
+
+        assert VersionNumber.fromText("17.0.9+9 21-ea+30", 9, 17).toString().equals("21.0.0.0-ea+30");
+    }
+
+    @Test
+    void versionNumberParseAll() {
+        List<String> texts = new ArrayList<>();
+        for (int i = 0 ; i < 2000 ; i++) {
+            texts.add(i % 100 == 7 ? "no version" : "17.0." + i + "+" + (i % 30));
+        }
+        texts.add(null);
+        ParseResults<VersionNumber> results = VersionNumber.parseAll(texts);
+        assert results.size() == texts.size();
+        assert results.getErrorCount() == 21;
+        assert results.hasErrors();
+        assert results.get(5).compareTo(VersionNumber.fromText(texts.get(5))) == 0;
+        assert results.get(1999).getUpdate().getAsInt() == 1999;
+        assert null == results.get(7);
+        assert results.getErrorIndices()[0] == 7;
+        assert results.getErrorIndices()[20] == 2000;
+        assert results.getErrorMessage(107).startsWith("No suitable version number found");
+        assert null == results.getErrorMessage(5);
+
+        ParseResults<VersionNumber> sequential = VersionNumber.parseAll(texts, Runnable::run);
+        assert Arrays.equals(sequential.getErrorIndices(), results.getErrorIndices());
+        for (int i = 0 ; i < texts.size() ; i++) {
+            assert null == results.get(i) ? null == sequential.get(i) : results.get(i).compareTo(sequential.get(i)) == 0;
+        }
+    }
+
+    @Test
+    void versionNumberFindAll() throws IOException {
+        List<VersionNumber> found = VersionNumber.findAll("jdk 17.0.9+9 and 21-ea+30 and 1.8.0_392-b08").collect(Collectors.toList());
+        assert found.size() == 3;
+        assert found.get(0).compareTo(VersionNumber.fromText("17.0.9+9")) == 0;
+        assert found.get(1).compareTo(VersionNumber.fromText("21-ea+30")) == 0;
+        assert found.get(2).compareTo(VersionNumber.fromText("1.8.0_392-b08")) == 0;
+        assert VersionNumber.findAll("no version").findAny().isEmpty();
+
+        StringBuilder log = new StringBuilder();
+        for (int i = 0 ; i < 20000 ; i++) { log.append("build 11.0.").append(i).append("+").append(i % 40).append(" done\n"); }
+        List<String> sequential = VersionNumber.findAll(log).map(VersionNumber::toString).collect(Collectors.toList());
+        List<String> parallel   = VersionNumber.findAll(log).parallel().map(VersionNumber::toString).collect(Collectors.toList());
+        assert sequential.size() == 20000;
+        assert sequential.get(12345).equals("11.0.12345.0");
+        assert sequential.equals(parallel);
+
+        Path file = Files.createTempFile("versions", ".log");
+        try {
+            Files.writeString(file, log, StandardCharsets.US_ASCII);
+            assert sequential.equals(VersionNumber.findAll(file).map(VersionNumber::toString).collect(Collectors.toList()));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
     @Test
     void zeroBuildNumber() {
         VersionNumber versionNumber1 = VersionNumber.fromText("8.0.202+0");
@@ -587,4 +684,72 @@ class VersionNumberTest {
         sv6.setMetadata("b2.2.5");
         assert sv6.toString(true).equals("9.0.1-ea+b2.2.5");
     }
+
+    @Test
+    public void versionNumberCompareAfterSetters() {
+        VersionNumber v1 = new VersionNumber(17, 0, 2, 0, 0, 0, 5, ReleaseStatus.EA);
+        VersionNumber v2 = new VersionNumber(17, 0, 2, 0, 0, 0, null, ReleaseStatus.EA);
+        VersionNumber v3 = new VersionNumber(17, 0, 2, 0, 0, 0, 0, ReleaseStatus.EA);
+        assert v1.compareTo(v2) == 1;
+        assert v2.compareTo(v3) == -1;
+        assert v3.compareTo(v1) == -1;
+
+        v2.setBuild(7);
+        assert v1.compareTo(v2) == -1;
+        v2.setReleaseStatus(ReleaseStatus.GA);
+        assert v1.compareTo(v2) == -1;
+        assert v2.compareTo(v1) == 1;
+        v1.setUpdate(3);
+        assert v1.compareTo(v2) == 1;
+        v1.setFeature(100_000);
+        assert v1.compareTo(v2) == 1;
+        v1.setFeature(17);
+        v1.setPatch(null);
+        assert v1.compareTo(v2) == 1;
+        v2.setUpdate(3);
+        assert v1.compareTo(v2) == -1;
+        v1.setPatch(0);
+        assert v1.compareTo(v2) == -1;
+        v1.setReleaseStatus(ReleaseStatus.GA);
+        v1.setBuild(7);
+        assert v1.compareTo(v2) == 0;
+    }
+
+    @Test
+    public void versionNumberCompareForFilter() {
+        VersionNumber v17 = new VersionNumber(17);
+        v17.setInterim(null);
+        v17.setUpdate(null);
+        v17.setPatch(null);
+
+        assert v17.compareForFilterTo(VersionNumber.fromText("17.0.2")) == 0;
+        assert v17.compareForFilterTo(VersionNumber.fromText("17.0.2-ea+5")) == 0;
+        assert v17.compareForFilterTo(VersionNumber.fromText("11.0.9")) == 1;
+        assert VersionNumber.fromText("17.0.2").compareForFilterTo(VersionNumber.fromText("17.0.3")) == -1;
+
+        VersionNumber[] versionNumbers = { VersionNumber.fromText("11.0.9"), VersionNumber.fromText("17.0.1"), VersionNumber.fromText("17.0.2-ea+5"), VersionNumber.fromText("21") };
+        VersionNumber[] matching       = VersionNumber.filterMatching(versionNumbers, v17);
+        assert matching.length == 2;
+        assert matching[0] == versionNumbers[1];
+        assert matching[1] == versionNumbers[2];
+        assert Arrays.stream(versionNumbers).filter(versionNumber -> versionNumber.compareForFilterTo(v17) == 0).count() == matching.length;
+        assert VersionNumber.filterMatching(versionNumbers, VersionNumber.fromText("17.0.2")).length == 1;
+    }
+
+    @Test
+    void versionNumberAppendTo() throws IOException {
+        for (String text : List.of("17.0.2", "21-ea+30", "11.0.9.1.0.3+7", "8.0.392", "21")) {
+            VersionNumber versionNumber = VersionNumber.fromText(text);
+            for (OutputFormat outputFormat : OutputFormat.values()) {
+                String expected = versionNumber.toString(outputFormat, false, true);
+                assert versionNumber.appendTo(new StringBuilder("v"), outputFormat, false, true).toString().equals("v" + expected);
+                assert versionNumber.appendTo((Appendable) new StringBuilder(), outputFormat, false, true).toString().equals(expected);
+
+                ByteBuffer buffer = versionNumber.writeAscii(ByteBuffer.allocate(64), outputFormat, false, true);
+                assert new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII).equals(expected);
+            }
+        }
+        assert VersionNumber.fromText("11.0.9.1.0.3").appendTo(new StringBuilder(), OutputFormat.REDUCED, true, true).toString().equals("11.0.9.1");
+        assert VersionNumber.fromText("21-ea+30").appendTo(new StringBuilder(), OutputFormat.REDUCED, true, true).toString().equals("21-ea+30");
+    }
 }
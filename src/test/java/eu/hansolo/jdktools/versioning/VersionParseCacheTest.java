@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import org.junit.jupiter.api.Test;
+
+
+class VersionParseCacheTest {
+    @Test
+    void versionNumberCacheTest() {
+        VersionParseCache cache = new VersionParseCache(16);
+
+        VersionNumber v1 = cache.versionNumberFromText("1.8.0_392-b08");
+        assert v1.compareTo(VersionNumber.fromText("1.8.0_392-b08")) == 0;
+        assert cache.getMissCount() == 1;
+        assert cache.getHitCount() == 0;
+
+        // Modifying a returned result must not change the cached entry
+        v1.setFeature(17);
+        VersionNumber v2 = cache.versionNumberFromText("1.8.0_392-b08");
+        assert v2.getFeature().getAsInt() == 8;
+        assert v1 != v2;
+        assert cache.getHitCount() == 1;
+        assert cache.getHitRate() == 0.5;
+
+        try {
+            cache.versionNumberFromText("no version");
+            assert false;
+        } catch (IllegalArgumentException e) {
+            assert cache.getMissCount() == 2;
+        }
+
+        for (int i = 1 ; i <= 100 ; i++) { cache.versionNumberFromText(i + ".0.1"); }
+        assert cache.size() <= cache.getMaxSize();
+        assert cache.getEvictionCount() > 0;
+
+        cache.clear();
+        cache.resetStatistics();
+        assert cache.size() == 0;
+        assert cache.getMissCount() == 0;
+    }
+
+    @Test
+    void semverCacheTest() {
+        VersionParseCache cache = new VersionParseCache();
+
+        String              text    = ">11.0.8-ea+meta<=11.0.9.1-ea+meta";
+        SemverParsingResult result1 = cache.semverFromText(text);
+        SemverParsingResult result2 = cache.semverFromText(text);
+        assert result1 != result2;
+        assert result1.getSemver1() != result2.getSemver1();
+        assert result1.getSemver1().toString().equals(SemverParser.fromText(text).getSemver1().toString());
+        assert result1.getSemver2().toString().equals(SemverParser.fromText(text).getSemver2().toString());
+
+        result1.getSemver1().setFeature(21);
+        assert cache.semverFromText(text).getSemver1().getFeature() == 11;
+        assert cache.getHitCount() == 2;
+        assert cache.getMissCount() == 1;
+
+        Semver s1 = new Semver(new VersionNumber(11, 0, 8, 0));
+        assert result2.getFilter().test(s1) == SemverParser.fromText(text).getFilter().test(s1);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+
+class VersionSorterTest {
+    private static final List<String> VERSIONS = List.of("17.0.2", "11.0.9", "21-ea+30", "17.0.1", "8.0.392", "17.0.3-ea+2", "11.0.20", "21-ea+12", "17.0.2", "21");
+
+
+    @Test
+    void versionSorterSortsLikeCompareTo() {
+        VersionNumber[] versionNumbers = VERSIONS.stream().map(VersionNumber::fromText).toArray(VersionNumber[]::new);
+        int[] indices = VersionSorter.sortedPermutation(versionNumbers);
+        assert Arrays.equals(indices, new int[] { 4, 1, 6, 3, 0, 8, 5, 7, 2, 9 });
+
+        VersionNumber[] expected = versionNumbers.clone();
+        Arrays.sort(expected);
+        VersionSorter.sort(versionNumbers);
+        for (int i = 0 ; i < expected.length ; i++) { assert versionNumbers[i] == expected[i]; }
+
+        Semver[] semvers = VERSIONS.stream().map(text -> SemverParser.fromText(text).getSemver1()).toArray(Semver[]::new);
+        assert Arrays.equals(VersionSorter.sortedPermutation(semvers), new int[] { 4, 1, 6, 3, 0, 8, 5, 7, 2, 9 });
+
+        List<String> payloads = new ArrayList<>(VERSIONS);
+        VersionSorter.sortByVersionNumber(payloads, VersionNumber::fromText);
+        assert payloads.equals(List.of("8.0.392", "11.0.9", "11.0.20", "17.0.1", "17.0.2", "17.0.2", "17.0.3-ea+2", "21-ea+12", "21-ea+30", "21"));
+
+        // Version numbers without key are sorted by compareTo()
+        VersionNumber withoutSixth = VersionNumber.fromText("17.0.2");
+        withoutSixth.setSixth(null);
+        VersionNumber[] mixed = { VersionNumber.fromText("21"), withoutSixth, VersionNumber.fromText("11") };
+        assert Arrays.equals(VersionSorter.sortedPermutation(mixed), new int[] { 2, 1, 0 });
+    }
+
+    @Test
+    void versionSorterPackedKeys() {
+        long[] highs = { 2, -1L, 1, 2, 1 };
+        long[] lows  = { 0, 0, 5, 0, 3 };
+        assert Arrays.equals(VersionSorter.sortedPermutation(highs, lows), new int[] { 4, 2, 0, 3, 1 });
+        assert highs[1] == -1L;
+
+        try {
+            VersionSorter.sortedPermutation(new long[1], new long[2]);
+            assert false;
+        } catch (IllegalArgumentException e) {
+            assert true;
+        }
+    }
+
+    @Test
+    void versionSorterParallel() {
+        Random          random         = new Random(42);
+        VersionNumber[] versionNumbers = new VersionNumber[100_000];
+        for (int i = 0 ; i < versionNumbers.length ; i++) {
+            versionNumbers[i] = VersionNumber.fromText((8 + random.nextInt(15)) + ".0." + random.nextInt(30) + (random.nextBoolean() ? "-ea+" + random.nextInt(40) : ""));
+        }
+        int[] sequential = VersionSorter.sortedPermutation(versionNumbers);
+        assert Arrays.equals(VersionSorter.parallelSortedPermutation(versionNumbers), sequential);
+        for (int i = 1 ; i < sequential.length ; i++) {
+            int result = versionNumbers[sequential[i - 1]].compareTo(versionNumbers[sequential[i]]);
+            assert result < 0 || (result == 0 && sequential[i - 1] < sequential[i]);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.jdktools.versioning;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+
+class VersionTrieTest {
+    private static final List<String> VERSIONS = List.of("17.0.2", "11.0.2", "11.0.20", "11.0.21-b9", "17.0.1", "17.1.0", "21-ea+30", "11.0.3", "8.0.392-b08", "17.0.2");
+
+
+    @Test
+    void versionTrieFind() {
+        VersionTrie<String> trie = VersionTrie.of(VERSIONS, VersionNumber::fromText);
+        assert trie.size() == VERSIONS.size();
+        assert trie.find("17.0.*").equals(List.of("17.0.1", "17.0.2", "17.0.2"));
+        assert trie.find("17.0").equals(trie.find("17.0.*"));
+        assert trie.find("11.0.2*").equals(List.of("11.0.2", "11.0.20", "11.0.21-b9"));
+        assert trie.find("*.0.3").equals(List.of("11.0.3"));
+        assert trie.find("11+9").equals(List.of("11.0.21-b9"));
+        assert trie.find("1*").size() == 8;
+        assert trie.find("12").isEmpty();
+        assert trie.find("*").size() == VERSIONS.size();
+        assert trie.get(VersionNumber.fromText("17.0.2")).size() == 2;
+
+        try {
+            trie.find("17..1");
+            assert false;
+        } catch (IllegalArgumentException e) {
+            assert true;
+        }
+    }
+
+    @Test
+    void versionTrieLatest() {
+        VersionTrie<String> trie = VersionTrie.of(VERSIONS, VersionNumber::fromText);
+        assert trie.latest("17.0").get().equals("17.0.2");
+        assert trie.latest("17").get().equals("17.1.0");
+        assert trie.latest("11.0.2*").get().equals("11.0.21-b9");
+        assert trie.latest("*.0.2").get().equals("17.0.2");
+        assert trie.latest("*").get().equals("21-ea+30");
+        assert trie.latest("9").isEmpty();
+        assert trie.latestVersion("8").get().getBuild() == 8;
+    }
+}